@@ -0,0 +1,119 @@
+/**
+ * @file FinancialStatementBatchInsertBenchmark.java
+ * @description 재무제표 항목 저장의 초당 처리 건수를 hibernate.jdbc.batch_size 사용/미사용으로 비교하는 JMH 벤치마크입니다.
+ *              한 번의 호출은 재무제표 하나(항목 500건)를 한 트랜잭션으로 저장하며, 결과는 초당 저장 행 수로 보고합니다.
+ *              H2 인메모리 DB 에 Flyway 마이그레이션 스키마를 적용하고, 반복(iteration)마다 테이블을 비웁니다.
+ *              실행: ./gradlew jmh
+ */
+package com.example.javaversion.database;
+
+import com.example.javaversion.database.entity.FinancialStatementData;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FinancialStatementBatchInsertBenchmark {
+
+    /** 한 재무제표(회사·연도·보고서·구분)의 항목 수와 비슷한 트랜잭션 단위 */
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    @Param({"0", "50"})
+    private int batchSize;
+
+    private SessionFactory sessionFactory;
+    private int statementSequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = "jdbc:h2:mem:fs_batch_bench_" + batchSize + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(FinancialStatementData.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTable() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeMutationQuery("DELETE FROM financial_statement_data").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_STATEMENT)
+    public void insertStatement() {
+        String corpCode = String.format("%08d", statementSequence++);
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS_PER_STATEMENT; i++) {
+                session.persist(item(corpCode, i));
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    private static FinancialStatementData item(String corpCode, int index) {
+        return FinancialStatementData.builder()
+                .corpCode(corpCode)
+                .bsnsYear("2023")
+                .reprtCode("11011")
+                .fsDiv("OFS")
+                .sjDiv(index % 2 == 0 ? "BS" : "IS")
+                .accountId("ifrs-full_Account" + index)
+                .accountNm("계정" + index)
+                .thstrmNm("제 50 기")
+                .thstrmAmount(String.valueOf(1_000_000L * (index + 1)))
+                .frmtrmNm("제 49 기")
+                .frmtrmAmount(String.valueOf(900_000L * (index + 1)))
+                .currency("KRW")
+                .build();
+    }
+}
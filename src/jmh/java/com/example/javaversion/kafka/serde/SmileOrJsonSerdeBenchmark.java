@@ -0,0 +1,106 @@
+/**
+ * @file SmileOrJsonSerdeBenchmark.java
+ * @description 내부 Kafka 토픽 메시지(PartnerCompanyResponseDto)의 Smile/JSON 직렬화·역직렬화 처리량을 비교하는 JMH 벤치마크입니다.
+ *              메시지 크기(바이트)는 Trial 시작 시 한 번 출력합니다.
+ *              실행: ./gradlew jmh
+ */
+package com.example.javaversion.kafka.serde;
+
+import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmileOrJsonSerdeBenchmark {
+
+    private static final String SMILE_TOPIC = "partner-company";
+    private static final String JSON_TOPIC = "partner-company-json";
+
+    private SmileOrJsonSerializer serializer;
+    private SmileOrJsonDeserializer deserializer;
+    private PartnerCompanyResponseDto message;
+
+    private byte[] smileBytes;
+    private Headers smileHeaders;
+    private byte[] jsonBytes;
+    private Headers jsonHeaders;
+
+    @Setup
+    public void setUp() {
+        serializer = new SmileOrJsonSerializer(Set.of(SMILE_TOPIC));
+        serializer.configure(Map.of(), false);
+        deserializer = new SmileOrJsonDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.example.javaversion.partner.dto"), false);
+
+        message = PartnerCompanyResponseDto.builder()
+                .id("a1b2c3d4-e5f6-7890-1234-567890abcdef")
+                .corpCode("00123456")
+                .corpName("주식회사 협력업체")
+                .stockCode("005930")
+                .contractStartDate(LocalDate.of(2023, 1, 1))
+                .modifyDate("20240516")
+                .status(PartnerCompanyStatus.ACTIVE)
+                .industry("제조업")
+                .country("대한민국")
+                .address("서울특별시 강남구 테헤란로 123")
+                .enrichmentStatus(PartnerEnrichmentStatus.PENDING)
+                .isRestored(Boolean.FALSE)
+                .build();
+
+        smileHeaders = new RecordHeaders();
+        smileBytes = serializer.serialize(SMILE_TOPIC, smileHeaders, message);
+        jsonHeaders = new RecordHeaders();
+        jsonBytes = serializer.serialize(JSON_TOPIC, jsonHeaders, message);
+        System.out.printf("%n메시지 크기: Smile=%d bytes, JSON=%d bytes%n", smileBytes.length, jsonBytes.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() {
+        return serializer.serialize(SMILE_TOPIC, new RecordHeaders(), message);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return serializer.serialize(JSON_TOPIC, new RecordHeaders(), message);
+    }
+
+    @Benchmark
+    public Object deserializeSmile() {
+        return deserializer.deserialize(SMILE_TOPIC, smileHeaders, smileBytes);
+    }
+
+    @Benchmark
+    public Object deserializeJson() {
+        return deserializer.deserialize(JSON_TOPIC, jsonHeaders, jsonBytes);
+    }
+}
@@ -68,6 +68,26 @@ public class CacheService {
         }
     }
 
+    /**
+     * 캐시 키가 주어진 접두사로 시작하는 항목을 모두 삭제합니다. (예: 회사 코드로 시작하는 기간별 조회 결과)
+     * Caffeine 캐시가 아니면 키 목록을 알 수 없으므로 캐시 전체를 삭제합니다.
+     * @param cacheName 캐시 이름
+     * @param keyPrefix 삭제할 캐시 키 접두사
+     */
+    public void evictByKeyPrefix(String cacheName, String keyPrefix) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(key -> String.valueOf(key).startsWith(keyPrefix));
+            log.debug("캐시 접두사 삭제: {}:{}*", cacheName, keyPrefix);
+        } else {
+            cache.clear();
+            log.debug("캐시 접두사 삭제 미지원으로 전체 삭제: {}", cacheName);
+        }
+    }
+
     /**
      * 특정 캐시의 모든 항목을 삭제합니다.
      * @param cacheName 캐시 이름
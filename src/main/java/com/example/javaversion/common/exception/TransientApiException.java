@@ -0,0 +1,56 @@
+/**
+ * @file TransientApiException.java
+ * @description 외부 API(DART 등)의 일시적인 실패를 나타내는 예외입니다.
+ *              요청 한도 초과(429, DART 상태 코드 020), 서버 오류(5xx), 타임아웃, 연결 실패, DART 호출 대기 초과/일일 한도 소진(DartCallScheduler)이 해당하며,
+ *              Kafka 컨슈머는 이 예외만 재시도 토픽으로 보내 백오프 후 다시 처리합니다.
+ *              HTTP 요청 처리 중에는 503 Service Unavailable 로 응답합니다.
+ */
+package com.example.javaversion.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.Serial;
+import java.util.concurrent.TimeoutException;
+
+public class TransientApiException extends ResponseStatusException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public TransientApiException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+
+    public TransientApiException(String message, Throwable cause) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message, cause);
+    }
+
+    /**
+     * 예외 또는 그 원인이 일시적인 실패인지 확인합니다.
+     */
+    public static boolean isTransient(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof TransientApiException
+                    || current instanceof TimeoutException
+                    || current instanceof WebClientRequestException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일시적인 실패이면 TransientApiException 으로 감싸 돌려주고, 아니면 null 을 돌려줍니다.
+     */
+    public static TransientApiException wrapIfTransient(String message, Throwable throwable) {
+        if (throwable instanceof TransientApiException transientApiException) {
+            return transientApiException;
+        }
+        return isTransient(throwable) ? new TransientApiException(message + ": " + throwable.getMessage(), throwable) : null;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * @file TsidGenerator.java
+ * @description 시간 순으로 정렬되는 64비트 ID(TSID)를 애플리케이션에서 발급하는 유틸리티입니다.
+ *              IDENTITY 컬럼과 달리 INSERT 전에 ID가 결정되므로 Hibernate JDBC 배치 INSERT를 사용할 수 있습니다.
+ *              구성: 42비트 밀리초 타임스탬프(2020-01-01 기준) | 10비트 노드 | 12비트 카운터
+ */
+package com.example.javaversion.common.util;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+
+public final class TsidGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+
+    /** 인스턴스마다 다른 노드 값을 사용하도록 tsid.node 시스템 프로퍼티 또는 TSID_NODE 환경변수로 지정할 수 있으며, 없으면 무작위로 정합니다. */
+    private static final long NODE = resolveNode();
+
+    private static long lastMillis = -1L;
+    private static long counter;
+
+    private TsidGenerator() {
+    }
+
+    public static synchronized long next() {
+        long millis = System.currentTimeMillis() - EPOCH_MILLIS;
+        if (millis > lastMillis) {
+            lastMillis = millis;
+            counter = 0;
+        } else {
+            // 같은 밀리초이거나 시계가 뒤로 간 경우 카운터를 증가시키고, 소진되면 다음 밀리초를 미리 사용합니다.
+            counter = (counter + 1) & COUNTER_MASK;
+            if (counter == 0) {
+                lastMillis++;
+            }
+        }
+        return (lastMillis << (NODE_BITS + COUNTER_BITS)) | (NODE << COUNTER_BITS) | counter;
+    }
+
+    private static long resolveNode() {
+        String configured = System.getProperty("tsid.node", System.getenv("TSID_NODE"));
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim()) & NODE_MASK;
+        }
+        return new SecureRandom().nextInt(1 << NODE_BITS);
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * @file WorkloadContext.java
+ * @description 현재 스레드에서 실행 중인 작업의 부하 구분(사용자 요청 / Kafka 적재 / 백그라운드)을 보관하는 컨텍스트입니다.
+ *              데이터소스 분기와 실행기(executor) 선택이 이 값을 기준으로 사용자 요청이 아닌 작업을 별도 풀(bulkhead)로 격리하고,
+ *              DART 호출 스케줄러는 이 구분을 우선순위(INTERACTIVE > INGEST > BACKGROUND)로 사용합니다.
+ *              값이 없으면 사용자 요청(INTERACTIVE)으로 간주합니다.
+ */
+package com.example.javaversion.common.util;
+
+import java.util.function.Supplier;
+
+public final class WorkloadContext {
+
+    /**
+     * 작업 부하 구분
+     * INTERACTIVE: HTTP 요청 등 사용자 응답 시간에 직접 영향을 주는 작업
+     * INGEST: Kafka 리스너 적재 등 지연을 허용하지만 처리가 밀리면 안 되는 작업
+     * BACKGROUND: 기업 코드 동기화, 스케줄러, 캐시 예열 등 남는 용량으로 처리하는 작업
+     * 선언 순서가 우선순위 순서입니다.
+     */
+    public enum Workload { INTERACTIVE, INGEST, BACKGROUND }
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.INTERACTIVE;
+    }
+
+    /**
+     * 사용자 요청이 아닌 작업(INGEST, BACKGROUND)인지 확인합니다. (백그라운드 커넥션 풀 사용 기준)
+     */
+    public static boolean isBackground() {
+        return current() != Workload.INTERACTIVE;
+    }
+
+    public static void set(Workload workload) {
+        CURRENT.set(workload);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 지정한 부하 구분으로 작업을 실행하고 이전 값을 복원합니다.
+     */
+    public static <T> T callAs(Workload workload, Supplier<T> task) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAs(Workload workload, Runnable task) {
+        callAs(workload, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
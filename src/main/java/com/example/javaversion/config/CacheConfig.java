@@ -41,6 +41,30 @@ public class CacheConfig {
     @Value("${dart.api.cache.dartCorpCodes.maxSize:10000}")
     private int dartCorpCodesMaxSize;
 
+    @Value("${dart.api.cache.financialStatements.ttl:3600}")
+    private int financialStatementsTtl;
+
+    @Value("${dart.api.cache.financialStatements.maxSize:2000}")
+    private int financialStatementsMaxSize;
+
+    @Value("${partner.cache.partnerCompanyCounts.ttl:300}")
+    private int partnerCompanyCountsTtl;
+
+    @Value("${partner.cache.partnerCompanyCounts.maxSize:10000}")
+    private int partnerCompanyCountsMaxSize;
+
+    @Value("${partner.cache.partnerCompanyInfo.ttl:600}")
+    private int partnerCompanyInfoTtl;
+
+    @Value("${partner.cache.partnerCompanyInfo.maxSize:1000}")
+    private int partnerCompanyInfoMaxSize;
+
+    @Value("${partner.cache.partnerFinancialInfo.ttl:3600}")
+    private int partnerFinancialInfoTtl;
+
+    @Value("${partner.cache.partnerFinancialInfo.maxSize:5000}")
+    private int partnerFinancialInfoMaxSize;
+
     @Primary
     @Bean
     public CacheManager cacheManager() {
@@ -66,6 +90,30 @@ public class CacheConfig {
                 .expireAfterWrite(dartCorpCodesTtl, TimeUnit.SECONDS)
                 .maximumSize(dartCorpCodesMaxSize)
                 .buildAsync());
+
+        cacheManager.registerCustomCache("financialStatements",
+            Caffeine.newBuilder()
+                .expireAfterWrite(financialStatementsTtl, TimeUnit.SECONDS)
+                .maximumSize(financialStatementsMaxSize)
+                .buildAsync());
+
+        cacheManager.registerCustomCache("partnerCompanyCounts",
+            Caffeine.newBuilder()
+                .expireAfterWrite(partnerCompanyCountsTtl, TimeUnit.SECONDS)
+                .maximumSize(partnerCompanyCountsMaxSize)
+                .buildAsync());
+
+        cacheManager.registerCustomCache("partnerCompanyInfo",
+            Caffeine.newBuilder()
+                .expireAfterWrite(partnerCompanyInfoTtl, TimeUnit.SECONDS)
+                .maximumSize(partnerCompanyInfoMaxSize)
+                .buildAsync());
+
+        cacheManager.registerCustomCache("partnerFinancialInfo",
+            Caffeine.newBuilder()
+                .expireAfterWrite(partnerFinancialInfoTtl, TimeUnit.SECONDS)
+                .maximumSize(partnerFinancialInfoMaxSize)
+                .buildAsync());
         return cacheManager;
     }
 } 
@@ -0,0 +1,115 @@
+/**
+ * @file DataSourceRoutingConfig.java
+ * @description 읽기/쓰기 데이터소스 분기 설정입니다. (database.routing.enabled=true 일 때만 활성화)
+ *              @Transactional(readOnly = true) 조회는 복제 DB 풀로, 그 외(쓰기, Kafka 적재, 기업 코드 동기화)는 주 DB 풀로 보내
+ *              백그라운드 적재가 사용자 조회의 커넥션을 고갈시키지 않도록 풀을 분리합니다.
+ *              database.background.enabled=true 이면 백그라운드 작업(WorkloadContext INGEST, BACKGROUND) 전용 풀을 추가로 두어
+ *              Kafka 적재나 기업 코드 동기화가 주 풀의 커넥션도 점유하지 않도록 합니다.
+ *              풀 이름이 다르므로 Hikari 메트릭(hikaricp.connections.*)도 pool 태그로 구분됩니다.
+ */
+package com.example.javaversion.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "database.routing.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    /**
+     * 주 DB 풀. spring.datasource.* 설정을 그대로 사용하며, 스키마 마이그레이션(Flyway)도 이 풀로 수행합니다.
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 복제 DB 풀. database.replica.* 로 접속 정보와 풀 크기를 별도로 지정합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "database.replica.enabled", havingValue = "true", matchIfMissing = true)
+    @ConfigurationProperties("database.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * 백그라운드 작업 전용 풀. 주 DB 에 연결하되 풀 크기를 작게 제한하여 사용자 요청용 커넥션을 보호합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "database.background.enabled", havingValue = "true")
+    @ConfigurationProperties("database.background")
+    public HikariDataSource backgroundDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 @Qualifier("backgroundDataSource") ObjectProvider<DataSource> backgroundDataSource) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource);
+        replicaDataSource.ifAvailable(dataSource -> targetDataSources.put(ReadWriteRoutingDataSource.Route.REPLICA, dataSource));
+        backgroundDataSource.ifAvailable(dataSource -> targetDataSources.put(ReadWriteRoutingDataSource.Route.BACKGROUND, dataSource));
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        log.info("데이터소스 분기 활성화 - 대상 풀: {}", targetDataSources.keySet());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 로컬 확인용으로 복제 DB 에도 같은 마이그레이션을 적용합니다. (실제 복제 환경에서는 복제로 스키마가 전달되므로 사용하지 않음)
+     * Flyway 빈을 추가로 등록하면 기본 Flyway 자동 설정이 비활성화되므로 초기화 빈 안에서 직접 실행합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "database.routing.migrate-replica", havingValue = "true")
+    public InitializingBean replicaSchemaMigration(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                   @Value("${database.routing.replica-migration-locations:classpath:db/migration/h2}") String locations) {
+        return () -> {
+            log.info("복제 DB 스키마 마이그레이션 실행 - locations: {}", locations);
+            Flyway.configure()
+                    .dataSource(replicaDataSource)
+                    .locations(locations)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0")
+                    .load()
+                    .migrate();
+        };
+    }
+
+    /**
+     * 트랜잭션이 끝나면 커넥션을 반납하도록 설정합니다.
+     * 기본값(HOLD)은 OSIV 로 열린 세션이 요청 내내 첫 커넥션을 붙잡아, 읽기 트랜잭션 뒤의 쓰기가 복제 DB 로 가게 됩니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseHibernatePropertiesCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                "hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
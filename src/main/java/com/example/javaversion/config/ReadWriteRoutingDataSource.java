@@ -0,0 +1,26 @@
+/**
+ * @file ReadWriteRoutingDataSource.java
+ * @description 현재 작업 부하 구분과 트랜잭션의 읽기 전용 여부에 따라 연결 대상 데이터소스를 분기하는 데이터소스입니다.
+ *              백그라운드 작업은 백그라운드 풀, 읽기 전용 트랜잭션은 복제(replica) 풀, 그 외는 주(primary) 풀을 사용합니다.
+ *              대상 풀이 구성되지 않은 경우 주 풀로 대체됩니다(lenient fallback).
+ *              트랜잭션 시작 시점에는 읽기 전용 플래그가 아직 설정되지 않으므로
+ *              반드시 LazyConnectionDataSourceProxy 로 감싸 첫 SQL 실행 시점에 대상을 결정해야 합니다.
+ */
+package com.example.javaversion.config;
+
+import com.example.javaversion.common.util.WorkloadContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA, BACKGROUND }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (WorkloadContext.isBackground()) {
+            return Route.BACKGROUND;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -1,26 +1,180 @@
 /**
  * @file WebClientConfig.java
  * @description WebClient 빈을 구성하는 클래스입니다.
+ *              DART API 용 WebClient(dartWebClient)는 전용 Reactor Netty 연결 풀을 사용합니다.
+ *              - 연결 풀: 최대 연결 수, 연결 대기 수/시간 제한, 유휴/수명 기준 연결 정리 (DART 서버가 먼저 끊은 연결 재사용 방지)
+ *              - 단계별 타임아웃: 연결, 응답 대기, 읽기/쓰기 유휴 (서비스의 전체 호출 타임아웃과 별개)
+ *              - gzip 응답 압축, keep-alive, 선택적 HTTP/2 (TLS ALPN 협상)
+ *              - 연결 풀/HTTP 클라이언트 메트릭(reactor.netty.connection.provider.*, reactor.netty.http.client.*) 노출
+ *                (URI 태그는 쿼리 문자열(API 키 포함)을 제외한 경로만 사용)
+ *              파트너 API 용 WebClient(partnerApiWebClient)도 인증 헤더를 기본값으로 가진 채 한 번만 만들어 재사용하며,
+ *              DART 와 부하가 섞이지 않도록 별도 연결 풀(partner-api)을 사용합니다.
  */
 package com.example.javaversion.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import jakarta.ws.rs.core.HttpHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 @Configuration
+@Slf4j
 public class WebClientConfig {
+
+    private static final int MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024;
+    /** 파트너 API 경로의 회사 ID 구간 (메트릭 URI 태그 템플릿화용) */
+    private static final Pattern PARTNER_COMPANY_ID_SEGMENT = Pattern.compile("/companies/[^/]+");
+
     @Bean
     public WebClient webClient(WebClient.Builder builder) {
         return builder
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
                 .defaultHeader(HttpHeaders.ACCEPT_CHARSET, StandardCharsets.UTF_8.name())
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML_VALUE)
                 .build();
     }
 
-} 
\ No newline at end of file
+    /**
+     * DART API 전용 연결 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider dartConnectionProvider(
+            @Value("${dart.api.http.max-connections:50}") int maxConnections,
+            @Value("${dart.api.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${dart.api.http.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${dart.api.http.max-idle-time-seconds:20}") long maxIdleTimeSeconds,
+            @Value("${dart.api.http.max-life-time-seconds:300}") long maxLifeTimeSeconds,
+            @Value("${dart.api.http.evict-interval-seconds:30}") long evictIntervalSeconds) {
+        log.info("DART 연결 풀 구성 - 최대 연결: {}, 최대 대기: {}, 유휴 정리: {}초, 최대 수명: {}초",
+                maxConnections, pendingAcquireMaxCount, maxIdleTimeSeconds, maxLifeTimeSeconds);
+        return ConnectionProvider.builder("dart-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(evictIntervalSeconds))
+                .lifo() // 최근 사용한 연결부터 재사용하여 오래 쉰 연결은 정리되도록 함
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * DART API 호출용 WebClient
+     */
+    @Bean
+    public WebClient dartWebClient(WebClient.Builder builder, ConnectionProvider dartConnectionProvider,
+                                   @Value("${dart.api.base-url}") String baseUrl,
+                                   @Value("${dart.api.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                   @Value("${dart.api.http.response-timeout-seconds:20}") long responseTimeoutSeconds,
+                                   @Value("${dart.api.http.read-timeout-seconds:20}") long readTimeoutSeconds,
+                                   @Value("${dart.api.http.write-timeout-seconds:10}") long writeTimeoutSeconds,
+                                   @Value("${dart.api.http.compress:true}") boolean compress,
+                                   @Value("${dart.api.http.http2-enabled:false}") boolean http2Enabled,
+                                   @Value("${dart.api.http.warmup:true}") boolean warmup) {
+        HttpClient httpClient = HttpClient.create(dartConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutSeconds, TimeUnit.SECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeoutSeconds, TimeUnit.SECONDS)))
+                .compress(compress)
+                .keepAlive(true)
+                .metrics(true, WebClientConfig::stripQuery);
+        if (http2Enabled) {
+            // HTTP/2 는 TLS ALPN 으로 협상하고, 지원하지 않는 서버에는 HTTP/1.1 로 연결
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        if (warmup) {
+            // 이벤트 루프, DNS 리졸버, TLS 라이브러리를 미리 초기화하여 첫 호출 지연을 줄임
+            httpClient.warmup().block();
+        }
+
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+    }
+
+    /**
+     * 파트너 API 전용 연결 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider partnerApiConnectionProvider(
+            @Value("${partner.api.http.max-connections:20}") int maxConnections,
+            @Value("${partner.api.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${partner.api.http.pending-acquire-timeout-ms:3000}") long pendingAcquireTimeoutMs,
+            @Value("${partner.api.http.max-idle-time-seconds:20}") long maxIdleTimeSeconds,
+            @Value("${partner.api.http.max-life-time-seconds:300}") long maxLifeTimeSeconds) {
+        return ConnectionProvider.builder("partner-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleTimeSeconds))
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 파트너 API 호출용 WebClient (인증 헤더 포함)
+     */
+    @Bean
+    public WebClient partnerApiWebClient(WebClient.Builder builder, ConnectionProvider partnerApiConnectionProvider,
+                                         @Value("${partner.api.base-url}") String baseUrl,
+                                         @Value("${partner.api.client-id}") String clientId,
+                                         @Value("${partner.api.client-secret}") String clientSecret,
+                                         @Value("${partner.api.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                         @Value("${partner.api.http.response-timeout-seconds:10}") long responseTimeoutSeconds) {
+        HttpClient httpClient = HttpClient.create(partnerApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                .compress(true)
+                .keepAlive(true)
+                .metrics(true, WebClientConfig::partnerApiUriTag);
+
+        return builder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeader("X-Client-Id", clientId)
+                .defaultHeader("X-Client-Secret", clientSecret)
+                .build();
+    }
+
+    /**
+     * 메트릭 URI 태그에서 쿼리 문자열(API 키 등)을 제외합니다.
+     */
+    private static String stripQuery(String uri) {
+        int queryIndex = uri.indexOf('?');
+        return queryIndex >= 0 ? uri.substring(0, queryIndex) : uri;
+    }
+
+    /**
+     * 파트너 API 메트릭 URI 태그를 경로 템플릿으로 바꿉니다.
+     * 회사 ID 가 경로에 들어가므로 그대로 태그로 쓰면 회사마다 별도 시계열이 생깁니다. (/companies/123/financials -> /companies/{companyId}/financials)
+     */
+    private static String partnerApiUriTag(String uri) {
+        return PARTNER_COMPANY_ID_SEGMENT.matcher(stripQuery(uri)).replaceFirst("/companies/{companyId}");
+    }
+}
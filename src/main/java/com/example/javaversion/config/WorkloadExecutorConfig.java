@@ -0,0 +1,117 @@
+/**
+ * @file WorkloadExecutorConfig.java
+ * @description 백그라운드 작업 전용 실행기(bulkhead) 설정입니다.
+ *              기업 코드 동기화 등 무거운 백그라운드 작업을 Netty 이벤트 루프나 공용 Reactor 스케줄러가 아닌
+ *              크기가 제한된 별도 스레드 풀에서 실행하고, 대기열이 가득 차면 설정된 정책으로 거부하여
+ *              사용자 요청 처리 용량을 빼앗지 않도록 합니다.
+ *              대기열 길이 등 실행기 메트릭(executor.*)과 거부 건수(workload.executor.rejected)를 노출합니다.
+ *              이 실행기와 @Scheduled 스케줄러 스레드의 작업은 WorkloadContext.BACKGROUND 로 표시됩니다.
+ */
+package com.example.javaversion.config;
+
+import com.example.javaversion.common.util.WorkloadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@Slf4j
+public class WorkloadExecutorConfig {
+
+    /**
+     * 대기열이 가득 찼을 때의 처리 정책
+     * ABORT: 작업을 거부하고 호출자에게 예외 전달 (Reactor 체인에서는 onError 로 전달되어 다음 주기에 재시도)
+     * CALLER_RUNS: 호출 스레드에서 직접 실행 (제출 속도를 늦추는 역압력, 호출 스레드가 사용자 요청 스레드가 아닐 때만 사용)
+     * DISCARD_OLDEST: 가장 오래 대기한 작업을 버리고 새 작업을 대기열에 추가 (버려진 Reactor 체인은 완료되지 않으므로 최신 작업만 의미 있을 때 사용)
+     */
+    public enum RejectionPolicy { ABORT, CALLER_RUNS, DISCARD_OLDEST }
+
+    private static final String BACKGROUND_EXECUTOR_NAME = "background";
+
+    @Value("${workload.background.executor.core-size:2}")
+    private int coreSize;
+
+    @Value("${workload.background.executor.max-size:4}")
+    private int maxSize;
+
+    @Value("${workload.background.executor.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${workload.background.executor.rejection-policy:ABORT}")
+    private RejectionPolicy rejectionPolicy;
+
+    /**
+     * 백그라운드 실행기를 사용하는 Reactor 스케줄러. publishOn/subscribeOn 으로 블로킹 작업을 이 풀로 옮깁니다.
+     * 실행기를 Executor 빈으로 노출하면 Spring Boot 기본 applicationTaskExecutor 가 생성되지 않으므로 스케줄러만 빈으로 등록합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler backgroundScheduler(MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("workload.executor.rejected")
+                .description("백그라운드 실행기에서 거부된 작업 수")
+                .tag("executor", BACKGROUND_EXECUTOR_NAME)
+                .tag("policy", rejectionPolicy.name())
+                .register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            // 이 풀의 스레드에서 실행되는 작업은 모두 백그라운드 부하로 표시 (백그라운드 커넥션 풀 사용)
+            Thread thread = new Thread(() -> {
+                WorkloadContext.set(WorkloadContext.Workload.BACKGROUND);
+                runnable.run();
+            }, "background-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                coreSize, maxSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                countingHandler(rejectionHandler(rejectionPolicy), rejectedCounter));
+
+        new ExecutorServiceMetrics(executor, BACKGROUND_EXECUTOR_NAME, List.of()).bindTo(meterRegistry);
+        log.info("백그라운드 실행기 구성 - core: {}, max: {}, queue: {}, 거부 정책: {}",
+                coreSize, maxSize, queueCapacity, rejectionPolicy);
+        return Schedulers.fromExecutorService(executor, BACKGROUND_EXECUTOR_NAME);
+    }
+
+    /**
+     * @Scheduled 작업(기업 코드 동기화, 뉴스 스케줄러 등)도 백그라운드 부하로 표시합니다.
+     */
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer backgroundWorkloadSchedulerCustomizer() {
+        return taskScheduler -> taskScheduler.setTaskDecorator(
+                task -> () -> WorkloadContext.runAs(WorkloadContext.Workload.BACKGROUND, task));
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(RejectionPolicy policy) {
+        return switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+
+    private static RejectedExecutionHandler countingHandler(RejectedExecutionHandler delegate, Counter rejectedCounter) {
+        return (runnable, executor) -> {
+            rejectedCounter.increment();
+            log.warn("백그라운드 작업 거부 - 활성 스레드: {}, 대기열: {}", executor.getActiveCount(), executor.getQueue().size());
+            delegate.rejectedExecution(runnable, executor);
+        };
+    }
+}
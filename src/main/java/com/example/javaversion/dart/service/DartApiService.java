@@ -29,7 +29,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,6 +48,8 @@ public class DartApiService {
     private final WebClientService webClientService;
     private final XmlParserService xmlParserService;
     private final ZipExtractorService zipExtractorService;
+    @Qualifier("backgroundScheduler")
+    private final Scheduler backgroundScheduler;
 
     private static final String CORP_CODE_CACHE_NAME = "dartCorpCodes";
 
@@ -104,6 +108,8 @@ public class DartApiService {
         log.info("DART API로부터 기업 코드 다운로드 및 저장을 시작합니다...");
 
         return webClientService.downloadCorpCodeZip()
+                // 압축 해제, XML 파싱, 대량 저장은 Netty 이벤트 루프가 아닌 백그라운드 실행기에서 수행 (백그라운드 커넥션 풀 사용)
+                .publishOn(backgroundScheduler)
                 .transform(zipExtractorService::extractXmlFromZip)
                 .map(xmlParserService::parseCorpCodeXml)
                 .flatMap(this::processCorpCodeParseResult)
@@ -190,6 +196,7 @@ public class DartApiService {
     }
 
     @Cacheable(value = CORP_CODE_CACHE_NAME, key = "#queryDto.toString()")
+    @Transactional(readOnly = true)
     public Page<DartCorpCode> getAllCorpCodes(CorpCodeQueryDto queryDto) {
         log.info("저장된 기업 코드 조회 요청: {}", queryDto);
         
@@ -218,18 +225,21 @@ public class DartApiService {
     }
 
     @Cacheable(value = CORP_CODE_CACHE_NAME, key = "#corpCode")
+    @Transactional(readOnly = true)
     public Optional<DartCorpCode> findCorpCodeByCorpCode(String corpCode) {
         log.info("기업 코드로 조회: {}", corpCode);
         return dartCorpCodeRepository.findById(corpCode);
     }
 
     @Cacheable(value = CORP_CODE_CACHE_NAME, key = "'stockCode:' + #stockCode")
+    @Transactional(readOnly = true)
     public Optional<DartCorpCode> findCorpCodeByStockCode(String stockCode) {
         log.info("종목 코드로 조회: {}", stockCode);
         return dartCorpCodeRepository.findByStockCode(stockCode);
     }
 
     @Cacheable(value = CORP_CODE_CACHE_NAME, key = "'name:' + #corpName")
+    @Transactional(readOnly = true)
     public List<DartCorpCode> searchCorpCodesByName(String corpName) {
         log.info("회사명으로 검색: {}", corpName);
         return dartCorpCodeRepository.findByCorpNameContainingIgnoreCase(corpName);
@@ -247,15 +257,14 @@ public class DartApiService {
 
         String cacheName = "companyProfiles";
 
-        // 1. 캐시에서 먼저 조회 (동기 호출을 Reactive 스트림으로 감싸기)
+        // 1. 캐시에서 먼저 조회 (동기 호출을 Reactive 스트림으로 감싸기, 캐시 미스이면 빈 Mono)
         return Mono.fromCallable(() -> cacheService.get(cacheName, corpCode))
-            .flatMap(cachedValue -> {
-                if (cachedValue instanceof CompanyProfileResponse) {
-                    log.info("캐시 히트: key={}", corpCode);
-                    return Mono.just((CompanyProfileResponse) cachedValue);
-                }
+            .filter(CompanyProfileResponse.class::isInstance)
+            .cast(CompanyProfileResponse.class)
+            .doOnNext(cachedValue -> log.info("캐시 히트: key={}", corpCode))
+            // 2. 캐시에 없거나 타입이 다르면 API 호출
+            .switchIfEmpty(Mono.defer(() -> {
                 log.info("캐시에 '{}' 키에 대한 회사 정보 없음 또는 타입 불일치. API 직접 호출: {}", corpCode, corpCode);
-                // 2. 캐시에 없으면 API 호출
                 return webClientService.getCompanyProfile(corpCode)
                     .doOnSuccess(profile -> {
                         if (profile != null) {
@@ -264,7 +273,7 @@ public class DartApiService {
                             log.info("API 응답을 캐시에 저장: key={}, value={}", corpCode, profile);
                         }
                     });
-            })
+            }))
             .doOnError(error -> log.error("회사 정보 조회 중 오류 발생: corpCode={}", corpCode, error));
     }
 
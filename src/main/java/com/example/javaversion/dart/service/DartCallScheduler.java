@@ -0,0 +1,302 @@
+/**
+ * @file DartCallScheduler.java
+ * @description DART API 호출 허가를 우선순위 대기열과 적응형 토큰 버킷으로 배분하는 스케줄러입니다.
+ *              호출은 부하 구분(WorkloadContext) 우선순위(사용자 요청 > Kafka 적재 > 동기화/예열) 순으로 토큰을 받으며,
+ *              한도를 넘은 호출은 거부되지 않고 대기열에서 차례를 기다립니다. (대기 제한 시간을 넘으면 TransientApiException)
+ *              토큰 충전 속도는 DART 요청 한도 초과 응답(HTTP 429, 상태 코드 020)을 받으면 절반으로 줄이고,
+ *              정상 응답이 이어지면 설정된 최대 속도까지 조금씩 되돌립니다. (AIMD)
+ *              일일 호출 한도(KST 자정 초기화)를 인스턴스 단위로 집계하며, 사용자 요청용 예약분을 남겨 두어
+ *              적재/동기화 작업이 한도를 모두 써도 사용자 요청은 처리되도록 합니다.
+ *              현재 충전 속도, 대기열 길이, 일일 사용량, 한도 초과 응답 수를 메트릭(dart.api.*)으로 노출합니다.
+ */
+package com.example.javaversion.dart.service;
+
+import com.example.javaversion.common.exception.TransientApiException;
+import com.example.javaversion.common.util.WorkloadContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DartCallScheduler {
+
+    /** DART 응답 상태 코드: 요청 제한 초과 */
+    public static final String DART_STATUS_RATE_LIMITED = "020";
+
+    /** 스레드의 부하 구분 대신 사용할 우선순위를 지정하는 Reactor Context 키 (flatMap 등으로 다른 스레드에서 호출될 때 사용) */
+    private static final String PRIORITY_CONTEXT_KEY = DartCallScheduler.class.getName() + ".priority";
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<WorkloadContext.Workload, ArrayDeque<MonoSink<Void>>> waiters = new EnumMap<>(WorkloadContext.Workload.class);
+    private final Object lock = new Object();
+
+    private ScheduledExecutorService drainExecutor;
+    private Counter throttledCounter;
+
+    // 아래 상태는 lock 안에서만 변경
+    private double tokens;
+    private double currentRate;
+    private long lastRefillNanos;
+    private boolean drainScheduled;
+    private LocalDate quotaDate;
+    private long usedToday;
+
+    @Value("${dart.api.scheduler.max-rate:10}")
+    private double maxRate;
+
+    @Value("${dart.api.scheduler.min-rate:1}")
+    private double minRate;
+
+    @Value("${dart.api.scheduler.burst:10}")
+    private double burst;
+
+    @Value("${dart.api.scheduler.additive-increase:0.05}")
+    private double additiveIncrease;
+
+    @Value("${dart.api.scheduler.max-queue-size:1000}")
+    private int maxQueueSize;
+
+    @Value("${dart.api.scheduler.interactive-max-wait-seconds:10}")
+    private long interactiveMaxWaitSeconds;
+
+    @Value("${dart.api.scheduler.background-max-wait-seconds:300}")
+    private long backgroundMaxWaitSeconds;
+
+    @Value("${dart.api.scheduler.daily-quota:20000}")
+    private long dailyQuota;
+
+    @Value("${dart.api.scheduler.interactive-reserve:1000}")
+    private long interactiveReserve;
+
+    @PostConstruct
+    public void init() {
+        for (WorkloadContext.Workload priority : WorkloadContext.Workload.values()) {
+            waiters.put(priority, new ArrayDeque<>());
+            Gauge.builder("dart.api.queue.size", this, scheduler -> scheduler.queueSize(priority))
+                    .description("DART 호출 허가를 기다리는 요청 수")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        currentRate = maxRate;
+        tokens = burst;
+        lastRefillNanos = System.nanoTime();
+        quotaDate = LocalDate.now(QUOTA_ZONE);
+
+        Gauge.builder("dart.api.rate", this, scheduler -> scheduler.currentRate())
+                .description("현재 DART 호출 허용 속도 (초당)")
+                .register(meterRegistry);
+        Gauge.builder("dart.api.quota.used", this, scheduler -> scheduler.usedToday())
+                .description("오늘(KST) 이 인스턴스가 사용한 DART 호출 수")
+                .register(meterRegistry);
+        throttledCounter = Counter.builder("dart.api.throttled")
+                .description("DART 요청 한도 초과 응답 수")
+                .register(meterRegistry);
+
+        drainExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dart-call-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("DART 호출 스케줄러 구성 - 최대 {}회/초, 최소 {}회/초, 버스트: {}, 일일 한도: {} (사용자 요청 예약 {})",
+                maxRate, minRate, burst, dailyQuota, interactiveReserve);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdownNow();
+    }
+
+    /**
+     * 호출 허가를 받은 뒤 DART 호출을 실행합니다.
+     * 응답의 DART 상태 코드가 020 이면 요청 한도 초과로 보고 충전 속도를 줄입니다.
+     *
+     * @param call DART 호출
+     * @param statusExtractor 응답에서 DART 상태 코드를 꺼내는 함수
+     * @return 허가 후 실행되는 호출
+     */
+    public <T> Mono<T> schedule(Mono<T> call, Function<? super T, String> statusExtractor) {
+        WorkloadContext.Workload threadPriority = WorkloadContext.current();
+        return Mono.deferContextual(context -> acquire(context.getOrDefault(PRIORITY_CONTEXT_KEY, threadPriority)))
+                .then(call)
+                .doOnNext(response -> {
+                    if (DART_STATUS_RATE_LIMITED.equals(statusExtractor.apply(response))) {
+                        onThrottled();
+                    } else {
+                        onSuccess();
+                    }
+                });
+    }
+
+    /**
+     * 호출 허가를 받은 뒤 스트리밍 DART 호출(파일 다운로드 등)을 실행합니다.
+     */
+    public <T> Flux<T> scheduleMany(Flux<T> call) {
+        WorkloadContext.Workload threadPriority = WorkloadContext.current();
+        return Mono.deferContextual(context -> acquire(context.getOrDefault(PRIORITY_CONTEXT_KEY, threadPriority)))
+                .thenMany(call);
+    }
+
+    /**
+     * 이 Context 아래의 DART 호출을 지정한 우선순위로 처리하도록 합니다. (contextWrite 에 사용)
+     */
+    public static Context priorityContext(WorkloadContext.Workload priority) {
+        return Context.of(PRIORITY_CONTEXT_KEY, priority);
+    }
+
+    /**
+     * DART 요청 한도 초과 응답(HTTP 429, 상태 코드 020)을 받았을 때 충전 속도를 절반으로 줄이고 남은 토큰을 비웁니다.
+     */
+    public void onThrottled() {
+        throttledCounter.increment();
+        synchronized (lock) {
+            double previousRate = currentRate;
+            currentRate = Math.max(minRate, currentRate / 2);
+            tokens = 0;
+            log.warn("DART 요청 한도 초과 응답 - 호출 속도 감소: {} -> {}회/초", previousRate, currentRate);
+        }
+    }
+
+    private void onSuccess() {
+        synchronized (lock) {
+            if (currentRate < maxRate) {
+                currentRate = Math.min(maxRate, currentRate + additiveIncrease);
+            }
+        }
+    }
+
+    private Mono<Void> acquire(WorkloadContext.Workload priority) {
+        long maxWaitSeconds = priority == WorkloadContext.Workload.INTERACTIVE ? interactiveMaxWaitSeconds : backgroundMaxWaitSeconds;
+        return Mono.<Void>create(sink -> {
+                    synchronized (lock) {
+                        ArrayDeque<MonoSink<Void>> queue = waiters.get(priority);
+                        if (queue.size() >= maxQueueSize) {
+                            sink.error(new TransientApiException("DART 호출 대기열이 가득 찼습니다: priority=" + priority));
+                            return;
+                        }
+                        queue.addLast(sink);
+                        sink.onCancel(() -> {
+                            synchronized (lock) {
+                                queue.remove(sink);
+                            }
+                        });
+                    }
+                    drain();
+                })
+                .timeout(Duration.ofSeconds(maxWaitSeconds),
+                        Mono.error(() -> new TransientApiException("DART 호출 대기 시간 초과: priority=" + priority)));
+    }
+
+    /**
+     * 충전된 토큰을 우선순위 순서로 대기 요청에 배분하고, 남은 대기 요청이 있으면 다음 토큰 충전 시점에 다시 실행합니다.
+     */
+    private void drain() {
+        List<MonoSink<Void>> granted = new ArrayList<>();
+        List<MonoSink<Void>> rejected = new ArrayList<>();
+        long delayNanos = -1;
+        synchronized (lock) {
+            refill();
+            for (WorkloadContext.Workload priority : WorkloadContext.Workload.values()) {
+                ArrayDeque<MonoSink<Void>> queue = waiters.get(priority);
+                while (!queue.isEmpty() && tokens >= 1) {
+                    if (!hasQuota(priority)) {
+                        rejected.addAll(queue);
+                        queue.clear();
+                        break;
+                    }
+                    tokens -= 1;
+                    usedToday++;
+                    granted.add(queue.pollFirst());
+                }
+            }
+            if (queueSizeLocked() > 0 && !drainScheduled) {
+                drainScheduled = true;
+                delayNanos = (long) (Math.max(0, 1 - tokens) / currentRate * 1_000_000_000L);
+            }
+        }
+        if (delayNanos >= 0) {
+            drainExecutor.schedule(() -> {
+                synchronized (lock) {
+                    drainScheduled = false;
+                }
+                drain();
+            }, Math.max(delayNanos, 1_000_000L), TimeUnit.NANOSECONDS);
+        }
+        // 허가된 호출은 잠금 밖에서 시작 (구독자가 이 스레드에서 바로 요청을 보냄)
+        granted.forEach(MonoSink::success);
+        rejected.forEach(sink -> sink.error(new TransientApiException("DART 일일 호출 한도를 모두 사용했습니다.")));
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * currentRate);
+        lastRefillNanos = now;
+
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(quotaDate)) {
+            log.info("DART 일일 호출 사용량 초기화 - {} 사용량: {}", quotaDate, usedToday);
+            quotaDate = today;
+            usedToday = 0;
+        }
+    }
+
+    /**
+     * 사용자 요청은 일일 한도까지, 그 외 작업은 사용자 요청 예약분을 뺀 만큼만 사용할 수 있습니다.
+     */
+    private boolean hasQuota(WorkloadContext.Workload priority) {
+        long limit = priority == WorkloadContext.Workload.INTERACTIVE ? dailyQuota : dailyQuota - interactiveReserve;
+        return usedToday < limit;
+    }
+
+    private int queueSize(WorkloadContext.Workload priority) {
+        synchronized (lock) {
+            return waiters.get(priority).size();
+        }
+    }
+
+    private int queueSizeLocked() {
+        int size = 0;
+        for (ArrayDeque<MonoSink<Void>> queue : waiters.values()) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    private double currentRate() {
+        synchronized (lock) {
+            return currentRate;
+        }
+    }
+
+    private long usedToday() {
+        synchronized (lock) {
+            return usedToday;
+        }
+    }
+}
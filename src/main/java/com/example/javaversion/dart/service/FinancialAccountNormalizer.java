@@ -0,0 +1,151 @@
+/**
+ * @file FinancialAccountNormalizer.java
+ * @description DART 재무제표 계정을 표준 계정 키로 정규화하는 컴포넌트입니다.
+ *              XBRL 표준 계정 ID(accountId)를 우선 사용하고, 표준 계정 ID가 없는 회사 자체 계정은
+ *              계정명 동의어 사전으로 매핑합니다. 계정명 매핑은 표준 계정 키가 속한 재무제표(예: 영업활동현금흐름은 CF)에만 적용합니다. 적재 시점에 한 번 적용하여 FinancialStatementData.accountKey 에 저장합니다.
+ */
+package com.example.javaversion.dart.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+@Component
+public class FinancialAccountNormalizer {
+
+    public static final String REVENUE = "REVENUE";
+    public static final String COST_OF_SALES = "COST_OF_SALES";
+    public static final String OPERATING_INCOME = "OPERATING_INCOME";
+    public static final String TRADE_RECEIVABLES = "TRADE_RECEIVABLES";
+    public static final String TRADE_PAYABLES = "TRADE_PAYABLES";
+    public static final String OPERATING_CASH_FLOW = "OPERATING_CASH_FLOW";
+    public static final String TOTAL_ASSETS = "TOTAL_ASSETS";
+    public static final String TOTAL_LIABILITIES = "TOTAL_LIABILITIES";
+    public static final String TOTAL_EQUITY = "TOTAL_EQUITY";
+    public static final String PAID_IN_CAPITAL = "PAID_IN_CAPITAL";
+    public static final String SHORT_TERM_BORROWINGS = "SHORT_TERM_BORROWINGS";
+    public static final String LONG_TERM_BORROWINGS = "LONG_TERM_BORROWINGS";
+
+    /** 자본변동표는 동일 계정명이 구성요소별로 반복되므로 정규화 대상에서 제외합니다. */
+    private static final String SJ_DIV_STATEMENT_OF_CHANGES_IN_EQUITY = "SCE";
+    /** 표준 계정 키가 속한 재무제표 구분 (재무상태표, 손익계산서/포괄손익계산서, 현금흐름표) */
+    private static final Set<String> BALANCE_SHEET = Set.of("BS");
+    private static final Set<String> INCOME_STATEMENT = Set.of("IS", "CIS");
+    private static final Set<String> CASH_FLOW_STATEMENT = Set.of("CF");
+    /** DART 가 회사 자체 계정에 표준 계정 ID 대신 내려주는 값 */
+    private static final String NON_STANDARD_ACCOUNT_ID = "-표준계정코드 미사용-";
+    private static final String IFRS_LEGACY_PREFIX = "ifrs_";
+    private static final String IFRS_FULL_PREFIX = "ifrs-full_";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARENTHESIZED = Pattern.compile("\\(.*?\\)");
+
+    private static final Map<String, String> KEYS_BY_ACCOUNT_ID = new HashMap<>();
+    private static final Map<String, String> KEYS_BY_ACCOUNT_NAME = new HashMap<>();
+    /** 표준 계정 키별 계정명 매핑을 허용하는 재무제표 구분 */
+    private static final Map<String, Set<String>> SJ_DIVS_BY_KEY = new HashMap<>();
+
+    static {
+        register(REVENUE, INCOME_STATEMENT,
+                List.of("ifrs-full_Revenue"),
+                List.of("매출액", "수익(매출액)", "매출액(수익)", "매출", "영업수익"));
+        register(COST_OF_SALES, INCOME_STATEMENT,
+                List.of("ifrs-full_CostOfSales"),
+                List.of("매출원가"));
+        register(OPERATING_INCOME, INCOME_STATEMENT,
+                List.of("dart_OperatingIncomeLoss", "ifrs-full_ProfitLossFromOperatingActivities"),
+                List.of("영업이익", "영업이익(손실)", "영업손익", "영업손실"));
+        register(TRADE_RECEIVABLES, BALANCE_SHEET,
+                List.of("ifrs-full_TradeAndOtherCurrentReceivables", "ifrs-full_CurrentTradeReceivables",
+                        "dart_ShortTermTradeReceivable"),
+                List.of("매출채권", "매출채권및기타채권", "매출채권및기타유동채권", "단기매출채권"));
+        register(TRADE_PAYABLES, BALANCE_SHEET,
+                List.of("ifrs-full_TradeAndOtherCurrentPayables", "ifrs-full_TradeAndOtherCurrentPayablesToTradeSuppliers",
+                        "dart_ShortTermTradePayables"),
+                List.of("매입채무", "매입채무및기타채무", "매입채무및기타유동채무", "단기매입채무"));
+        register(OPERATING_CASH_FLOW, CASH_FLOW_STATEMENT,
+                List.of("ifrs-full_CashFlowsFromUsedInOperatingActivities"),
+                List.of("영업활동으로인한현금흐름", "영업활동현금흐름", "영업활동으로부터의현금흐름", "영업활동순현금흐름"));
+        register(TOTAL_ASSETS, BALANCE_SHEET,
+                List.of("ifrs-full_Assets"),
+                List.of("자산총계", "자산총액"));
+        register(TOTAL_LIABILITIES, BALANCE_SHEET,
+                List.of("ifrs-full_Liabilities"),
+                List.of("부채총계", "부채총액"));
+        register(TOTAL_EQUITY, BALANCE_SHEET,
+                List.of("ifrs-full_Equity"),
+                List.of("자본총계", "자본총액"));
+        register(PAID_IN_CAPITAL, BALANCE_SHEET,
+                List.of("ifrs-full_IssuedCapital"),
+                List.of("자본금", "납입자본금", "보통주자본금"));
+        register(SHORT_TERM_BORROWINGS, BALANCE_SHEET,
+                List.of("ifrs-full_ShorttermBorrowings", "dart_ShortTermBorrowings"),
+                List.of("단기차입금"));
+        register(LONG_TERM_BORROWINGS, BALANCE_SHEET,
+                List.of("ifrs-full_LongtermBorrowings", "dart_LongTermBorrowingsGross"),
+                List.of("장기차입금"));
+    }
+
+    private static void register(String key, Set<String> sjDivs, List<String> accountIds, List<String> accountNames) {
+        SJ_DIVS_BY_KEY.put(key, sjDivs);
+        accountIds.forEach(accountId -> KEYS_BY_ACCOUNT_ID.put(accountId, key));
+        accountNames.forEach(accountName -> KEYS_BY_ACCOUNT_NAME.put(compact(accountName), key));
+        KEYS_BY_ACCOUNT_NAME.put(key, key);
+    }
+
+    /**
+     * 재무제표 항목을 표준 계정 키로 정규화합니다.
+     *
+     * @param sjDiv     재무제표 구분 (BS, IS, CIS, CF, SCE)
+     * @param accountId XBRL 표준 계정 ID
+     * @param accountNm 계정명
+     * @return 표준 계정 키 (매핑되지 않으면 null)
+     */
+    public String normalize(String sjDiv, String accountId, String accountNm) {
+        if (SJ_DIV_STATEMENT_OF_CHANGES_IN_EQUITY.equals(sjDiv)) {
+            return null;
+        }
+        if (accountId != null && !accountId.isBlank() && !NON_STANDARD_ACCOUNT_ID.equals(accountId.trim())) {
+            // 표준 계정 ID가 있으면 계정명이 같아도 다른 계정으로 보고 계정명 매핑을 하지 않음
+            String key = KEYS_BY_ACCOUNT_ID.get(accountId);
+            if (key == null && accountId.startsWith(IFRS_LEGACY_PREFIX)) {
+                key = KEYS_BY_ACCOUNT_ID.get(IFRS_FULL_PREFIX + accountId.substring(IFRS_LEGACY_PREFIX.length()));
+            }
+            return key;
+        }
+        String key = resolveName(accountNm);
+        if (key == null || sjDiv == null || !SJ_DIVS_BY_KEY.get(key).contains(sjDiv)) {
+            // 재무제표 구분이 없거나 다른 재무제표의 같은 이름 계정(예: 현금흐름표의 매출채권 증감)은 매핑하지 않음
+            return null;
+        }
+        return key;
+    }
+
+    /**
+     * 계정명 또는 표준 계정 키를 표준 계정 키로 변환합니다. 위험 규칙 정의의 계정 참조 해석에도 사용합니다.
+     *
+     * @return 표준 계정 키 (매핑되지 않으면 null)
+     */
+    public String resolveName(String accountNm) {
+        if (accountNm == null || accountNm.isBlank()) {
+            return null;
+        }
+        String compacted = compact(accountNm);
+        String key = KEYS_BY_ACCOUNT_NAME.get(compacted);
+        if (key == null) {
+            String withoutParentheses = PARENTHESIZED.matcher(compacted).replaceAll("");
+            if (!withoutParentheses.isEmpty()) {
+                key = KEYS_BY_ACCOUNT_NAME.get(withoutParentheses);
+            }
+        }
+        return key;
+    }
+
+    private static String compact(String value) {
+        return WHITESPACE.matcher(value).replaceAll("");
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * @file FinancialStatementJsonDecoder.java
+ * @description DART 단일회사 전체 재무제표 응답(JSON)을 스트리밍으로 디코딩하는 컴포넌트입니다.
+ *              응답 DataBuffer 를 도착하는 대로 Jackson 비동기 파서(ByteBufferFeeder)에 넘겨 토큰 단위로 읽고,
+ *              list 배열의 항목을 중간 트리/문자열 본문 없이 바로 FinancialStatementItem 으로 채웁니다.
+ *              - 적재에 쓰지 않는 필드(접수번호, 보고서 코드, 사업연도, 고유번호, 재무제표명, 계정상세, 정렬순서)는 건너뜀
+ *              - 항목마다 반복되는 값(재무제표구분, 당기/전기명, 통화)은 응답 안에서 같은 문자열 인스턴스를 공유
+ *                (financialStatements 캐시에 남는 응답의 메모리 사용량 감소)
+ *              - 읽은 DataBuffer 는 파싱 직후 바로 반환하므로 응답 전체를 메모리에 모으지 않음
+ *              금액은 FinancialStatementData 에 문자열로 저장하고 항목 해시 비교에도 쓰이므로 원본 문자열 그대로 둡니다.
+ */
+package com.example.javaversion.dart.service;
+
+import com.example.javaversion.dart.dto.FinancialStatementResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class FinancialStatementJsonDecoder {
+
+    private static final String LIST_FIELD = "list";
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * 응답 본문을 재무제표 응답으로 디코딩합니다.
+     *
+     * @param body 응답 본문
+     * @return 재무제표 응답 (본문이 비어 있으면 empty)
+     */
+    public Mono<FinancialStatementResponseDto> decode(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            StreamState state;
+            try {
+                state = new StreamState(jsonFactory.createNonBlockingByteBufferParser());
+            } catch (IOException e) {
+                return Mono.error(new DecodingException("재무제표 응답 파서 생성 실패", e));
+            }
+            return body
+                    .doOnNext(dataBuffer -> {
+                        try {
+                            state.feed(dataBuffer);
+                        } finally {
+                            DataBufferUtils.release(dataBuffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(state::finish))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .doFinally(signal -> state.close());
+        });
+    }
+
+    /**
+     * 한 응답의 파싱 상태
+     */
+    private static final class StreamState {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final FinancialStatementResponseDto response = new FinancialStatementResponseDto();
+        private final Map<String, String> sharedValues = new HashMap<>();
+
+        private boolean started;
+        private int depth;
+        private boolean inList;
+        private String rootField;
+        private String itemField;
+        private FinancialStatementResponseDto.FinancialStatementItem item;
+        private List<FinancialStatementResponseDto.FinancialStatementItem> items;
+
+        private StreamState(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        private void feed(DataBuffer dataBuffer) {
+            try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer byteBuffer = iterator.next();
+                    feeder.feedInput(byteBuffer);
+                    drainTokens();
+                }
+            } catch (IOException e) {
+                throw new DecodingException("재무제표 응답 JSON 파싱 실패: " + e.getMessage(), e);
+            }
+        }
+
+        private FinancialStatementResponseDto finish() {
+            try {
+                feeder.endOfInput();
+                drainTokens();
+            } catch (IOException e) {
+                throw new DecodingException("재무제표 응답 JSON 파싱 실패: " + e.getMessage(), e);
+            }
+            if (!started) {
+                return null;
+            }
+            if (depth != 0) {
+                throw new DecodingException("재무제표 응답 JSON 이 완전하지 않습니다.");
+            }
+            if (items != null) {
+                response.setList(items);
+            }
+            return response;
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // 파서는 외부 자원을 갖고 있지 않음
+            }
+        }
+
+        private void drainTokens() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                started = true;
+                handle(token);
+            }
+        }
+
+        private void handle(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    depth++;
+                    if (token == JsonToken.START_ARRAY && depth == 2 && LIST_FIELD.equals(rootField)) {
+                        inList = true;
+                        items = new ArrayList<>();
+                    } else if (token == JsonToken.START_OBJECT && depth == 3 && inList) {
+                        item = new FinancialStatementResponseDto.FinancialStatementItem();
+                        itemField = null;
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (depth == 3 && item != null) {
+                        items.add(item);
+                        item = null;
+                    } else if (depth == 2 && inList) {
+                        inList = false;
+                    }
+                    depth--;
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        rootField = parser.currentName();
+                    } else if (depth == 3 && item != null) {
+                        itemField = parser.currentName();
+                    }
+                }
+                default -> {
+                    // 값 토큰 (중첩된 알 수 없는 구조 안의 값은 무시)
+                    if (depth == 1) {
+                        setRootValue(textValue(token));
+                    } else if (depth == 3 && item != null) {
+                        setItemValue(token);
+                    }
+                }
+            }
+        }
+
+        private void setRootValue(String value) {
+            if ("status".equals(rootField)) {
+                response.setStatus(value);
+            } else if ("message".equals(rootField)) {
+                response.setMessage(value);
+            }
+        }
+
+        private void setItemValue(JsonToken token) throws IOException {
+            if (itemField == null) {
+                return;
+            }
+            switch (itemField) {
+                case "sj_div" -> item.setSjDiv(shared(textValue(token)));
+                case "account_id" -> item.setAccountId(textValue(token));
+                case "account_nm" -> item.setAccountNm(textValue(token));
+                case "thstrm_nm" -> item.setThstrmNm(shared(textValue(token)));
+                case "thstrm_amount" -> item.setThstrmAmount(textValue(token));
+                case "thstrm_add_amount" -> item.setThstrmAddAmount(textValue(token));
+                case "frmtrm_nm" -> item.setFrmtrmNm(shared(textValue(token)));
+                case "frmtrm_amount" -> item.setFrmtrmAmount(textValue(token));
+                case "frmtrm_q_nm" -> item.setFrmtrmQNm(shared(textValue(token)));
+                case "frmtrm_q_amount" -> item.setFrmtrmQAmount(textValue(token));
+                case "frmtrm_add_amount" -> item.setFrmtrmAddAmount(textValue(token));
+                case "bfefrmtrm_nm" -> item.setBfefrmtrmNm(shared(textValue(token)));
+                case "bfefrmtrm_amount" -> item.setBfefrmtrmAmount(textValue(token));
+                case "currency" -> item.setCurrency(shared(textValue(token)));
+                default -> {
+                    // 적재에 쓰지 않는 필드는 문자열로 만들지 않음
+                }
+            }
+        }
+
+        private String textValue(JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+
+        private String shared(String value) {
+            return value == null ? null : sharedValues.computeIfAbsent(value, key -> key);
+        }
+    }
+}
@@ -1,20 +1,25 @@
 /**
  * @file WebClientService.java
  * @description WebClient를 사용한 API 호출을 담당하는 서비스 클래스입니다.
- *              DART API와의 통신을 처리합니다.
+ *              DART API와의 통신을 처리합니다. (연결 풀/타임아웃 설정은 WebClientConfig 의 dartWebClient 참고)
+ *              재무제표 응답은 기본적으로 FinancialStatementJsonDecoder 로 스트리밍 디코딩합니다. (dart.financial-statement.decode-mode)
+ *              모든 호출은 DartCallScheduler 의 허가를 받은 뒤 실행되며, 요청 한도 초과 응답(429, 상태 코드 020)은 스케줄러에 알려 호출 속도를 줄이고
+ *              TransientApiException 으로 전달하여 캐시되지 않고 재시도되도록 합니다.
  */
 package com.example.javaversion.dart.service;
 
+import com.example.javaversion.common.exception.TransientApiException;
 import com.example.javaversion.dart.dto.CompanyProfileResponse;
 import com.example.javaversion.dart.dto.DisclosureSearchResponse;
 import com.example.javaversion.dart.dto.FinancialStatementResponseDto;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ResponseStatusException;
@@ -24,12 +29,20 @@ import org.springframework.util.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.function.Function;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class WebClientService {
 
+    /**
+     * 재무제표 응답 디코딩 방식
+     * STREAMING: 응답 버퍼를 토큰 단위로 읽어 필요한 필드만 항목으로 채움 (FinancialStatementJsonDecoder)
+     * BUFFERED: 응답 전체를 모아 Jackson 으로 DTO 매핑 (기존 방식)
+     */
+    public enum FinancialStatementDecodeMode { STREAMING, BUFFERED }
+
     @Value("${dart.api.key}")
     private String apiKey;
 
@@ -37,17 +50,20 @@ public class WebClientService {
     private String baseUrl;
 
     @Value("${dart.api.timeout:30}")
-    private int timeout; // 기본 타임아웃 30초
+    private int timeout; // 호출 전체 타임아웃 (기본 30초, 연결/응답 단계별 타임아웃은 dart.api.http.*)
 
-    private final WebClient.Builder webClientBuilder;
+    /** 전용 연결 풀과 단계별 타임아웃이 설정된 DART WebClient (WebClientConfig) */
+    @Qualifier("dartWebClient")
+    private final WebClient webClient;
+    private final DartCallScheduler dartCallScheduler;
+    private final FinancialStatementJsonDecoder financialStatementJsonDecoder;
 
-    private WebClient webClient;
+    @Value("${dart.financial-statement.decode-mode:STREAMING}")
+    private FinancialStatementDecodeMode financialStatementDecodeMode;
 
     @PostConstruct
     public void init() {
-        log.info("WebClientService 초기화 - 타임아웃: {}초", timeout);
-        this.webClient = webClientBuilder.baseUrl(baseUrl)
-                .build();
+        log.info("WebClientService 초기화 - 기본 URL: {}, 타임아웃: {}초", baseUrl, timeout);
     }
 
     /**
@@ -55,14 +71,13 @@ public class WebClientService {
      *
      * @return ZIP 파일 데이터 버퍼 Flux
      */
-    @RateLimiter(name = "dartApi")
     public Flux<DataBuffer> downloadCorpCodeZip() {
         log.info("DART API에서 기업 코드 ZIP 파일 다운로드 시작");
 
         String uri = "/api/corpCode.xml?crtfc_key=" + apiKey;
         log.debug("기업 코드 다운로드 API 요청 URI: {}", uri);
 
-        return webClient
+        return dartCallScheduler.scheduleMany(webClient
                 .get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/corpCode.xml")
@@ -86,6 +101,7 @@ public class WebClientService {
                             });
                     } else if (response.statusCode().is4xxClientError()) {
                         log.error("기업 코드 다운로드 API 클라이언트 오류: {}", response.statusCode());
+                        notifyIfThrottled(response.statusCode());
                         return response.bodyToMono(String.class)
                             .flatMapMany(errorBody -> {
                                 log.error("기업 코드 다운로드 API 오류 응답 본문: {}", errorBody);
@@ -99,7 +115,7 @@ public class WebClientService {
                     }
                 })
                 .timeout(Duration.ofSeconds(timeout))
-                .doOnError(error -> log.error("기업 코드 다운로드 중 오류 발생: {}", error.getMessage(), error));
+                .doOnError(error -> log.error("기업 코드 다운로드 중 오류 발생: {}", error.getMessage(), error)));
     }
 
     /**
@@ -108,7 +124,6 @@ public class WebClientService {
      * @param corpCode 회사 코드
      * @return 회사 정보 응답 Mono
      */
-    @RateLimiter(name = "dartApi")
     public Mono<CompanyProfileResponse> getCompanyProfile(String corpCode) {
         log.info("[WebClientService] getCompanyProfile 메소드 시작: corpCode={}", corpCode);
 
@@ -130,7 +145,7 @@ public class WebClientService {
         String uri = "/api/company.json?crtfc_key=" + apiKey + "&corp_code=" + corpCode;
         log.debug("회사 정보 조회 API 요청 URI: {}", uri);
 
-        return webClient
+        return scheduleDartCall(webClient
                 .get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/company.json")
@@ -161,6 +176,11 @@ public class WebClientService {
                                 // 예를 들어, 404 Not Found 와 유사한 DART API 응답 코드가 있다면, 여기에서 Mono.empty()를 반환하여 처리할 수 있음
                                 // 현재는 모든 비2xx 응답을 에러로 간주
                                 String errorMessage = String.format("DART API 오류: status=%s, body=%s", responseStatus, errorBody);
+                                if (isTransientStatus(responseStatus)) {
+                                    notifyIfThrottled(responseStatus);
+                                    // 요청 한도 초과, 서버 오류는 재시도할 수 있도록 오류로 전파
+                                    return Mono.error(new TransientApiException(errorMessage));
+                                }
                                 // return Mono.error(new ResponseStatusException(responseStatus, errorMessage)); // 원본 상태 코드 사용
                                  return Mono.empty(); // KafkaConsumerService에서 null로 받고 처리하도록, 여기서는 empty() 반환
                             });
@@ -173,7 +193,7 @@ public class WebClientService {
                     // 네트워크 오류, 타임아웃 등의 경우 여기에 해당
                     log.error("DART API [company.json] 호출 중 WebClient 오류 발생: corpCode={}, errorClass={}, errorMessage={}", 
                             corpCode, error.getClass().getSimpleName(), error.getMessage());
-                });
+                }), CompanyProfileResponse::getStatus, "회사 정보 조회: corpCode=" + corpCode);
     }
 
     /**
@@ -184,7 +204,6 @@ public class WebClientService {
      * @param endDate 검색 종료일(YYYYMMDD)
      * @return 공시 검색 결과 응답 Mono
      */
-    @RateLimiter(name = "dartApi")
     public Mono<DisclosureSearchResponse> searchDisclosures(String corpCode, String startDate, String endDate) {
         log.info("공시 검색 API 호출: {}, {} ~ {}", corpCode, startDate, endDate);
 
@@ -192,7 +211,7 @@ public class WebClientService {
                 apiKey, corpCode, startDate, endDate);
         log.debug("공시 검색 API 요청 URI: {}", uri);
 
-        return webClient
+        return scheduleDartCall(webClient
                 .get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/list.json")
@@ -205,6 +224,10 @@ public class WebClientService {
                 .exchangeToMono(response -> {
                     if (response.statusCode().is2xxSuccessful()) {
                         return response.bodyToMono(DisclosureSearchResponse.class);
+                    } else if (isTransientStatus(response.statusCode())) {
+                        log.error("공시 검색 API 일시적 오류: {}, 회사 코드: {}", response.statusCode(), corpCode);
+                        notifyIfThrottled(response.statusCode());
+                        return Mono.error(new TransientApiException("DART API 일시적 오류: status=" + response.statusCode()));
                     } else if (response.statusCode().is4xxClientError()) {
                         log.error("공시 검색 API 클라이언트 오류: {}, 회사 코드: {}, 기간: {} ~ {}", 
                                 response.statusCode(), corpCode, startDate, endDate);
@@ -221,7 +244,8 @@ public class WebClientService {
                     }
                 })
                 .timeout(Duration.ofSeconds(timeout))
-                .doOnError(error -> log.error("공시 검색 API 호출 중 오류 발생: {}", error.getMessage(), error));
+                .doOnError(error -> log.error("공시 검색 API 호출 중 오류 발생: {}", error.getMessage(), error)), DisclosureSearchResponse::getStatus,
+                "공시 검색: corpCode=" + corpCode);
     }
 
     /**
@@ -233,7 +257,6 @@ public class WebClientService {
      * @param fsDiv       개별/연결 구분 (OFS: 재무제표, CFS: 연결재무제표)
      * @return 재무제표 정보 응답 Mono
      */
-    @RateLimiter(name = "dartApi")
     public Mono<FinancialStatementResponseDto> getFinancialStatementApi(String corpCode, String bsnsYear, String reprtCode, String fsDiv) {
         log.info("단일 회사 전체 재무제표 조회 API 호출: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}",
                 corpCode, bsnsYear, reprtCode, fsDiv);
@@ -242,7 +265,7 @@ public class WebClientService {
                 apiKey, corpCode, bsnsYear, reprtCode, fsDiv);
         log.debug("재무제표 조회 API 요청 URI: {}", uri);
 
-        return webClient
+        return scheduleDartCall(webClient
                 .get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/api/fnlttSinglAcntAll.json")
@@ -254,7 +277,13 @@ public class WebClientService {
                         .build())
                 .exchangeToMono(response -> {
                     if (response.statusCode().is2xxSuccessful()) {
-                        return response.bodyToMono(FinancialStatementResponseDto.class);
+                        return financialStatementDecodeMode == FinancialStatementDecodeMode.STREAMING
+                                ? financialStatementJsonDecoder.decode(response.bodyToFlux(DataBuffer.class))
+                                : response.bodyToMono(FinancialStatementResponseDto.class);
+                    } else if (isTransientStatus(response.statusCode())) {
+                        log.error("재무제표 조회 API 일시적 오류: {}, corpCode={}", response.statusCode(), corpCode);
+                        notifyIfThrottled(response.statusCode());
+                        return Mono.error(new TransientApiException("DART API 일시적 오류: status=" + response.statusCode()));
                     } else if (response.statusCode().is4xxClientError()) {
                         log.error("재무제표 조회 API 클라이언트 오류: {}, corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}",
                                 response.statusCode(), corpCode, bsnsYear, reprtCode, fsDiv);
@@ -271,6 +300,34 @@ public class WebClientService {
                     }
                 })
                 .timeout(Duration.ofSeconds(timeout))
-                .doOnError(error -> log.error("재무제표 조회 API 호출 중 오류 발생: {}", error.getMessage(), error));
+                .doOnError(error -> log.error("재무제표 조회 API 호출 중 오류 발생: {}", error.getMessage(), error)), FinancialStatementResponseDto::getStatus,
+                "재무제표 조회: corpCode=" + corpCode + ", bsnsYear=" + bsnsYear + ", reprtCode=" + reprtCode + ", fsDiv=" + fsDiv);
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 응답 상태(요청 한도 초과 429, 서버 오류 5xx)인지 확인합니다.
+     */
+    private static boolean isTransientStatus(HttpStatusCode statusCode) {
+        return statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value() || statusCode.is5xxServerError();
+    }
+
+    /**
+     * DartCallScheduler 허가를 받아 호출하고, 정상(200) 본문으로 온 요청 한도 초과(상태 코드 020) 응답은 TransientApiException 으로 바꿉니다.
+     * 캐시(@Cacheable, CacheService)는 오류를 저장하지 않으므로 020 응답이 캐시되어 재시도가 같은 응답을 다시 받는 일이 없습니다.
+     */
+    private <T> Mono<T> scheduleDartCall(Mono<T> call, Function<? super T, String> statusExtractor, String description) {
+        return dartCallScheduler.schedule(call, statusExtractor)
+                .flatMap(response -> DartCallScheduler.DART_STATUS_RATE_LIMITED.equals(statusExtractor.apply(response))
+                        ? Mono.<T>error(new TransientApiException("DART API 요청 제한 초과(020) - " + description))
+                        : Mono.just(response));
+    }
+
+    /**
+     * 요청 한도 초과(429) 응답이면 DartCallScheduler 에 알려 호출 속도를 줄입니다.
+     */
+    private void notifyIfThrottled(HttpStatusCode statusCode) {
+        if (statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            dartCallScheduler.onThrottled();
+        }
     }
 }
@@ -20,6 +20,8 @@
  *              - accountingMonth: 결산월 (MM 형식)
  *              - createdAt: 레코드 생성 시간
  *              - updatedAt: 레코드 마지막 업데이트 시간
+ *              - lastSyncedAt: 공시/재무제표를 DART 에서 마지막으로 모두 동기화한 시간 (동기화 생략 판단 기준)
+ *              - placeholder: DART 조회에 실패하여 고유번호만으로 만든 임시 프로필 여부 (다음 처리 시 DART 재조회)
  */
 package com.example.javaversion.database.entity;
 
@@ -103,4 +105,10 @@ public class CompanyProfile {
     
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "placeholder", nullable = false)
+    private boolean placeholder;
 } 
\ No newline at end of file
@@ -23,6 +23,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -36,7 +37,10 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 @Entity
-@Table(name = "disclosures")
+@Table(name = "disclosures", indexes = {
+        // 회사별 접수일 범위 조회 (corp_code 등치 + receipt_date 범위)
+        @Index(name = "idx_disclosures_corp_receipt_date", columnList = "corp_code, receipt_date")
+})
 @Getter
 @Setter
 @ToString(exclude = {"companyProfile"})
@@ -2,13 +2,15 @@
  * @file FinancialStatementData.java
  * @description 기업의 재무제표 항목 데이터를 저장하는 엔티티 클래스입니다.
  *              DART API의 '단일회사 전체 재무제표' 조회 결과를 기반으로 하며, 각 레코드는 특정 회사의 특정 보고서의 한 재무 계정 항목을 나타냅니다.
- *              - id: 기본 키, 자동 생성
+ *              - id: 기본 키, 저장 시 TSID 발급 (JDBC 배치 INSERT 가능)
  *              - corpCode: 회사 고유번호 (DART에서 발급)
  *              - bsnsYear: 사업 연도 (YYYY 형식)
  *              - reprtCode: 보고서 코드 (예: 11011-사업보고서, 11012-반기보고서 등)
+ *              - fsDiv: 재무제표 구분 (OFS: 개별재무제표, CFS: 연결재무제표)
  *              - sjDiv: 재무제표 구분 (BS: 재무상태표, IS: 손익계산서, CF: 현금흐름표 등)
  *              - accountId: 계정 ID (XBRL 표준 계정 ID 또는 DART 자체 ID)
  *              - accountNm: 계정명 (예: 유동자산, 매출액)
+ *              - accountKey: 표준 계정 키 (예: REVENUE). 적재 시 FinancialAccountNormalizer로 정규화
  *              - thstrmNm: 당기 명칭 (예: 제 50 기)
  *              - thstrmAmount: 당기 금액 (숫자형 문자열)
  *              - thstrmAddAmount: 당기 누적 금액 (손익계산서 등 해당되는 경우)
@@ -25,6 +27,7 @@
  */
 package com.example.javaversion.database.entity;
 
+import com.example.javaversion.common.util.TsidGenerator;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -40,7 +43,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "financial_statement_data", indexes = {
-        @Index(name = "idx_fs_corp_year_reprt", columnList = "corpCode, bsnsYear, reprtCode")
+        // 위험 분석 조회와 재무제표 교체(DELETE)가 모두 (corp_code, bsns_year, reprt_code, fs_div) 등치 조건으로 접근
+        @Index(name = "idx_fs_corp_year_reprt_div", columnList = "corpCode, bsnsYear, reprtCode, fsDiv")
 })
 @Getter
 @Setter
@@ -52,7 +56,6 @@ import java.time.LocalDateTime;
 public class FinancialStatementData {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false, length = 8)
@@ -64,6 +67,9 @@ public class FinancialStatementData {
     @Column(nullable = false, length = 5)
     private String reprtCode; // 보고서 코드
 
+    @Column(length = 3)
+    private String fsDiv; // 개별/연결 구분 (OFS, CFS)
+
     @Column(length = 10)
     private String sjDiv; // 재무제표구분 (BS, IS, CF 등)
 
@@ -73,6 +79,9 @@ public class FinancialStatementData {
     @Column(nullable = false)
     private String accountNm; // 계정명
 
+    @Column(length = 50)
+    private String accountKey; // 표준 계정 키 (적재 시 정규화, 매핑되지 않는 계정은 null)
+
     @Column(length = 50)
     private String thstrmNm; // 당기명 (예: 제 13 기)
 
@@ -113,4 +122,11 @@ public class FinancialStatementData {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.id == null) {
+            this.id = TsidGenerator.next();
+        }
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,71 @@
+/**
+ * @file FinancialStatementDigest.java
+ * @description 재무제표 단위(회사, 사업연도, 보고서 코드, 재무제표 구분)로 마지막으로 저장한 항목 목록의 해시를 보관하는 엔티티 클래스입니다.
+ *              재동기화 시 DART 응답의 해시가 동일하면 재무제표 항목 쓰기를 생략하는 데 사용합니다.
+ *              - statementKey: 기본 키 (corpCode:bsnsYear:reprtCode:fsDiv)
+ *              - contentHash: 저장된 항목 목록의 SHA-256 해시 (16진수)
+ *              - itemCount: 저장된 항목 수
+ */
+package com.example.javaversion.database.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "financial_statement_digests")
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialStatementDigest {
+
+    @Id
+    @Column(name = "statement_key", length = 30)
+    private String statementKey; // corpCode:bsnsYear:reprtCode:fsDiv
+
+    @Column(name = "corp_code", nullable = false, length = 8)
+    private String corpCode; // 회사 고유번호
+
+    @Column(name = "bsns_year", nullable = false, length = 4)
+    private String bsnsYear; // 사업 연도
+
+    @Column(name = "reprt_code", nullable = false, length = 5)
+    private String reprtCode; // 보고서 코드
+
+    @Column(name = "fs_div", nullable = false, length = 3)
+    private String fsDiv; // 개별/연결 구분 (OFS, CFS)
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // 항목 목록 SHA-256 해시
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount; // 저장된 항목 수
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static String keyOf(String corpCode, String bsnsYear, String reprtCode, String fsDiv) {
+        return corpCode + ":" + bsnsYear + ":" + reprtCode + ":" + fsDiv;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * @file KafkaDeadLetter.java
+ * @description 재시도를 모두 소진했거나 재시도할 수 없는 오류로 DLT 에 도착한 Kafka 메시지를 보관하는 엔티티 클래스입니다.
+ *              원인을 조회하고 원래 토픽으로 다시 발행(replay)하는 데 사용합니다.
+ *              - id: 기본 키 (TSID)
+ *              - originalTopic / messageKey: 원래 토픽과 메시지 키
+ *              - payloadType / payload: 메시지 객체의 클래스명과 JSON (역직렬화 실패 메시지는 payloadType 이 null)
+ *              - exceptionClass / exceptionMessage: 마지막 처리 실패 원인
+ *              - replayCount / replayedAt: 재발행 횟수와 마지막 재발행 시각 (null 이면 미처리)
+ */
+package com.example.javaversion.database.entity;
+
+import com.example.javaversion.common.util.TsidGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "kafka_dead_letters",
+        indexes = {
+                // 미처리 메시지 토픽별 조회
+                @Index(name = "idx_kafka_dead_letters_replayed_topic", columnList = "replayed_at, original_topic, id")
+        }
+)
+@Getter
+@Setter
+@ToString(exclude = "payload")
+@EqualsAndHashCode
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KafkaDeadLetter {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "original_topic", nullable = false)
+    private String originalTopic;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(name = "payload_type")
+    private String payloadType;
+
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "exception_class")
+    private String exceptionClass;
+
+    @Column(name = "exception_message", length = 1000)
+    private String exceptionMessage;
+
+    @Column(name = "replay_count", nullable = false)
+    private int replayCount;
+
+    @Column(name = "replayed_at")
+    private LocalDateTime replayedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.id == null) {
+            this.id = TsidGenerator.next();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * @file OutboxEvent.java
+ * @description Kafka 로 발행할 이벤트를 업무 데이터와 같은 트랜잭션에 저장하는 아웃박스(outbox) 엔티티 클래스입니다.
+ *              릴레이가 미발행 이벤트를 순서대로 읽어 일괄 발행한 뒤 publishedAt 을 기록합니다.
+ *              - id: 기본 키 (TSID, 생성 순서대로 증가)
+ *              - topic / messageKey: 발행할 토픽과 메시지 키
+ *              - payloadType / payload: 메시지 객체의 클래스명과 JSON 직렬화 값
+ *              - attempts / lastError: 발행 실패 횟수와 마지막 오류
+ *              - publishedAt: 발행 완료 시각 (null 이면 미발행)
+ *              - claimedUntil: 릴레이가 발행 중인 이벤트의 점유 만료 시각 (이 시각 전에는 다른 릴레이가 가져가지 않음)
+ */
+package com.example.javaversion.database.entity;
+
+import com.example.javaversion.common.util.TsidGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                // 미발행 이벤트 순서대로 조회 (WHERE published_at IS NULL ORDER BY id)
+                @Index(name = "idx_outbox_events_published_id", columnList = "published_at, id")
+        }
+)
+@Getter
+@Setter
+@ToString(exclude = "payload")
+@EqualsAndHashCode
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Column(name = "payload_type", nullable = false)
+    private String payloadType; // 메시지 객체 클래스명 (발행 시 역직렬화하여 JsonSerializer 타입 헤더 유지)
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload; // 메시지 객체 JSON
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.id == null) {
+            this.id = TsidGenerator.next();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -13,6 +13,7 @@
  *              - country: 국가 (DTO에서 제거되었으나, 엔티티에는 유지될 수 있음 - 현재는 DTO와 동기화됨)
  *              - address: 주소 (DTO에서 제거되었으나, 엔티티에는 유지될 수 있음 - 현재는 DTO와 동기화됨)
  *              - status: 파트너사 상태 (예: ACTIVE, INACTIVE, PENDING)
+ *              - enrichmentStatus: DART 정보 보강 상태 (PENDING, COMPLETED, FAILED)
  *              - createdAt: 레코드 생성 시간
  *              - updatedAt: 레코드 마지막 업데이트 시간
  */
@@ -25,6 +26,7 @@ import java.util.UUID;
 import org.hibernate.annotations.GenericGenerator;
 
 import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -48,7 +50,9 @@ import lombok.AllArgsConstructor;
         indexes = {
                 @Index(name = "idx_partner_companies_corp_code", columnList = "corp_code"),
                 @Index(name = "idx_partner_companies_stock_code", columnList = "stock_code"),
-                @Index(name = "idx_partner_companies_member_id", columnList = "member_id")
+                // 목록 키셋 페이지네이션 (ORDER BY created_at DESC, id DESC)
+                @Index(name = "idx_partner_companies_member_status_created", columnList = "member_id, status, created_at, id"),
+                @Index(name = "idx_partner_companies_status_created", columnList = "status, created_at, id")
         }
 )
 @Getter
@@ -95,6 +99,10 @@ public class PartnerCompany {
     @Column(name = "status", nullable = false)
     private PartnerCompanyStatus status;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "enrichment_status")
+    private PartnerEnrichmentStatus enrichmentStatus; // DART 정보 보강 상태 (null: 상태 추적 이전 데이터)
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,48 @@
+/**
+ * @file PartnerCompanyCounter.java
+ * @description 회원별 파트너 회사 수(상태별)를 보관하는 엔티티 클래스입니다.
+ *              파트너 회사 생성/복원/삭제 시 같은 트랜잭션 안에서 증감하여 COUNT 쿼리 없이 개수를 조회할 수 있도록 합니다.
+ *              - memberId: 기본 키 (회원 ID)
+ *              - activeCount: ACTIVE 상태 파트너 회사 수
+ *              - inactiveCount: INACTIVE 상태 파트너 회사 수
+ */
+package com.example.javaversion.database.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "partner_company_counters")
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartnerCompanyCounter {
+
+    @Id
+    @Column(name = "member_id")
+    private String memberId; // 회원 ID
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount; // ACTIVE 상태 파트너 회사 수
+
+    @Column(name = "inactive_count", nullable = false)
+    private long inactiveCount; // INACTIVE 상태 파트너 회사 수
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -4,11 +4,16 @@
  */
 package com.example.javaversion.database.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.javaversion.database.entity.CompanyProfile;
 
@@ -38,4 +43,16 @@ public interface CompanyProfileRepository extends JpaRepository<CompanyProfile,
      * @return 검색된 회사 정보 목록
      */
     List<CompanyProfile> findByCorpClass(String corpClass);
-} 
\ No newline at end of file
+
+    /**
+     * 공시/재무제표 동기화 완료 시각을 기록합니다.
+     *
+     * @param corpCode 회사 고유번호
+     * @param syncedAt 동기화 완료 시각
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CompanyProfile c SET c.lastSyncedAt = :syncedAt WHERE c.corpCode = :corpCode")
+    int updateLastSyncedAt(@Param("corpCode") String corpCode, @Param("syncedAt") LocalDateTime syncedAt);
+}
@@ -1,12 +1,15 @@
 /**
  * @file FinancialStatementDataRepository.java
  * @description 재무제표 데이터(`FinancialStatementData`) 엔티티에 대한 데이터베이스 연산을 처리하는 Spring Data JPA 리포지토리입니다.
- *              기업 코드, 사업연도, 보고서 코드를 기반으로 재무 데이터를 조회하고 삭제하는 기능을 제공합니다.
+ *              기업 코드, 사업연도, 보고서 코드, 재무제표 구분(OFS/CFS)을 기반으로 재무 데이터를 조회하고 삭제하는 기능을 제공합니다.
  */
 package com.example.javaversion.database.repository;
 
 import com.example.javaversion.database.entity.FinancialStatementData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,23 +18,32 @@ import java.util.List;
 public interface FinancialStatementDataRepository extends JpaRepository<FinancialStatementData, Long> {
 
     /**
-     * 회사 코드, 사업연도, 보고서 코드로 재무제표 항목 리스트를 조회합니다.
+     * 회사 코드, 사업연도, 보고서 코드, 재무제표 구분으로 재무제표 항목 리스트를 조회합니다.
      *
      * @param corpCode 회사 고유번호
      * @param bsnsYear 사업 연도
      * @param reprtCode 보고서 코드
+     * @param fsDiv 재무제표 구분 (OFS: 개별, CFS: 연결)
      * @return 재무제표 항목 리스트
      */
-    List<FinancialStatementData> findByCorpCodeAndBsnsYearAndReprtCode(String corpCode, String bsnsYear, String reprtCode);
+    List<FinancialStatementData> findByCorpCodeAndBsnsYearAndReprtCodeAndFsDiv(String corpCode, String bsnsYear, String reprtCode, String fsDiv);
 
     /**
-     * 회사 코드, 사업연도, 보고서 코드로 재무제표 항목들을 삭제합니다.
+     * 회사 코드, 사업연도, 보고서 코드, 재무제표 구분에 해당하는 재무제표 항목들을 단일 DELETE 문으로 삭제합니다.
+     * 재무제표 구분이 저장되기 전에 적재된(fsDiv 가 없는) 행은 includeLegacy 가 true 일 때 함께 삭제합니다.
      *
      * @param corpCode 회사 고유번호
      * @param bsnsYear 사업 연도
      * @param reprtCode 보고서 코드
+     * @param fsDiv 재무제표 구분 (OFS: 개별, CFS: 연결)
+     * @param includeLegacy fsDiv 가 없는 기존 행 포함 여부
      * @return 삭제된 항목 수
      */
-    long deleteByCorpCodeAndBsnsYearAndReprtCode(String corpCode, String bsnsYear, String reprtCode);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM FinancialStatementData f WHERE f.corpCode = :corpCode AND f.bsnsYear = :bsnsYear AND f.reprtCode = :reprtCode " +
+           "AND (f.fsDiv = :fsDiv OR (:includeLegacy = true AND f.fsDiv IS NULL))")
+    int bulkDeleteStatement(@Param("corpCode") String corpCode, @Param("bsnsYear") String bsnsYear,
+                            @Param("reprtCode") String reprtCode, @Param("fsDiv") String fsDiv,
+                            @Param("includeLegacy") boolean includeLegacy);
 
-} 
\ No newline at end of file
+}
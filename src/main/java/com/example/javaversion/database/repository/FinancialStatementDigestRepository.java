@@ -0,0 +1,13 @@
+/**
+ * @file FinancialStatementDigestRepository.java
+ * @description 재무제표 해시(`FinancialStatementDigest`) 엔티티에 대한 Spring Data JPA 리포지토리입니다.
+ */
+package com.example.javaversion.database.repository;
+
+import com.example.javaversion.database.entity.FinancialStatementDigest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FinancialStatementDigestRepository extends JpaRepository<FinancialStatementDigest, String> {
+}
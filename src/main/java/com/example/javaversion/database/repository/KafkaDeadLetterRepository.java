@@ -0,0 +1,28 @@
+/**
+ * @file KafkaDeadLetterRepository.java
+ * @description DLT 메시지(`KafkaDeadLetter`) 엔티티에 대한 Spring Data JPA 리포지토리입니다.
+ */
+package com.example.javaversion.database.repository;
+
+import com.example.javaversion.database.entity.KafkaDeadLetter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface KafkaDeadLetterRepository extends JpaRepository<KafkaDeadLetter, Long> {
+
+    Page<KafkaDeadLetter> findByReplayedAtIsNull(Pageable pageable);
+
+    Page<KafkaDeadLetter> findByOriginalTopic(String originalTopic, Pageable pageable);
+
+    Page<KafkaDeadLetter> findByReplayedAtIsNullAndOriginalTopic(String originalTopic, Pageable pageable);
+
+    /**
+     * 원래 토픽의 미처리 메시지를 오래된 순서로 조회합니다. (일괄 재발행용)
+     */
+    List<KafkaDeadLetter> findByReplayedAtIsNullAndOriginalTopicOrderByIdAsc(String originalTopic, Pageable pageable);
+}
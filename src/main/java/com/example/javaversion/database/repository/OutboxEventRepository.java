@@ -0,0 +1,51 @@
+/**
+ * @file OutboxEventRepository.java
+ * @description 아웃박스 이벤트(`OutboxEvent`) 엔티티에 대한 Spring Data JPA 리포지토리입니다.
+ *              미발행 이벤트는 SELECT ... FOR UPDATE SKIP LOCKED 로 가져오므로
+ *              여러 인스턴스의 릴레이가 같은 이벤트를 중복 발행하지 않고 서로 다른 묶음을 처리합니다.
+ */
+package com.example.javaversion.database.repository;
+
+import com.example.javaversion.database.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 다른 릴레이가 점유하지 않은 미발행 이벤트를 생성 순서대로 잠그고 조회합니다. 다른 트랜잭션이 잠근 행은 건너뜁니다.
+     * (잠금 타임아웃 -2 는 Hibernate 의 SKIP LOCKED, 지원하지 않는 DB 에서는 일반 FOR UPDATE)
+     *
+     * @param maxAttempts 이 횟수 이상 실패한 이벤트는 제외
+     * @param now 현재 시각 (점유 만료 시각이 이보다 이전인 이벤트는 다시 가져감)
+     * @param pageable 조회 건수 (첫 페이지만 사용)
+     * @return 잠긴 미발행 이벤트 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts"
+            + " AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) ORDER BY e.id")
+    List<OutboxEvent> lockUnpublished(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    /**
+     * 지정한 시각 이전에 발행된 이벤트를 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
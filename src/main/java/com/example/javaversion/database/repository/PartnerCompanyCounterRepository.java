@@ -0,0 +1,70 @@
+/**
+ * @file PartnerCompanyCounterRepository.java
+ * @description 회원별 파트너 회사 수(`PartnerCompanyCounter`) 엔티티에 대한 Spring Data JPA 리포지토리입니다.
+ *              증감은 행 단위 원자적 UPSERT(INSERT ... ON DUPLICATE KEY UPDATE)로 수행하므로
+ *              동시 요청에도 읽기-수정-쓰기 경쟁이 없습니다. (H2 는 MODE=MySQL 필요)
+ */
+package com.example.javaversion.database.repository;
+
+import com.example.javaversion.database.entity.PartnerCompanyCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PartnerCompanyCounterRepository extends JpaRepository<PartnerCompanyCounter, String> {
+
+    /**
+     * 회원의 상태별 파트너 회사 수를 증감합니다. 행이 없으면 생성하며, 개수는 0 미만으로 내려가지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param activeDelta ACTIVE 개수 증감
+     * @param inactiveDelta INACTIVE 개수 증감
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_company_counters (member_id, active_count, inactive_count, updated_at) "
+            + "VALUES (:memberId, GREATEST(0, :activeDelta), GREATEST(0, :inactiveDelta), CURRENT_TIMESTAMP(6)) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "active_count = GREATEST(0, active_count + :activeDelta), "
+            + "inactive_count = GREATEST(0, inactive_count + :inactiveDelta), "
+            + "updated_at = CURRENT_TIMESTAMP(6)", nativeQuery = true)
+    int addCounts(@Param("memberId") String memberId,
+                  @Param("activeDelta") long activeDelta,
+                  @Param("inactiveDelta") long inactiveDelta);
+
+    /**
+     * 전체 회원의 ACTIVE 파트너 회사 수 합계를 조회합니다.
+     */
+    @Query("SELECT COALESCE(SUM(c.activeCount), 0) FROM PartnerCompanyCounter c")
+    long sumActiveCount();
+
+    /**
+     * 전체 회원의 INACTIVE 파트너 회사 수 합계를 조회합니다.
+     */
+    @Query("SELECT COALESCE(SUM(c.inactiveCount), 0) FROM PartnerCompanyCounter c")
+    long sumInactiveCount();
+
+    /**
+     * 모든 집계를 삭제합니다. (재계산 전 사용)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM partner_company_counters", nativeQuery = true)
+    int deleteAllCounts();
+
+    /**
+     * partner_companies 테이블에서 회원별 상태별 개수를 다시 집계하여 저장합니다.
+     *
+     * @return 생성된 집계 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_company_counters (member_id, active_count, inactive_count, updated_at) "
+            + "SELECT member_id, "
+            + "SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN status = 'INACTIVE' THEN 1 ELSE 0 END), "
+            + "CURRENT_TIMESTAMP(6) "
+            + "FROM partner_companies GROUP BY member_id", nativeQuery = true)
+    int insertCountsFromPartnerCompanies();
+}
@@ -4,16 +4,25 @@
  */
 package com.example.javaversion.database.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.javaversion.database.entity.PartnerCompany;
 import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
 
 @Repository
 public interface PartnerCompanyRepository extends JpaRepository<PartnerCompany, String> {
@@ -41,22 +50,31 @@ public interface PartnerCompanyRepository extends JpaRepository<PartnerCompany,
 
     /**
      * 특정 회원의 파트너 회사 목록을 상태별로 검색합니다.
+     * COUNT 쿼리를 실행하지 않으며, 전체 건수는 PartnerCompanyCountService 의 회원별 개수를 사용합니다.
      *
      * @param memberId 회원 ID
      * @param status 파트너 회사 상태
      * @param pageable 페이지네이션 정보
-     * @return 검색된 파트너 회사 목록 (페이지네이션)
+     * @return 검색된 파트너 회사 목록 (슬라이스)
      */
-    Page<PartnerCompany> findByMemberIdAndStatus(String memberId, PartnerCompanyStatus status, Pageable pageable);
+    Slice<PartnerCompany> findSliceByMemberIdAndStatus(String memberId, PartnerCompanyStatus status, Pageable pageable);
 
     /**
-     * 상태별로 파트너 회사를 검색합니다.
+     * 상태별로 파트너 회사를 검색합니다. (COUNT 쿼리 없음)
      *
      * @param status 파트너 회사 상태
      * @param pageable 페이지네이션 정보
-     * @return 검색된 파트너 회사 목록 (페이지네이션)
+     * @return 검색된 파트너 회사 목록 (슬라이스)
      */
-    Page<PartnerCompany> findByStatus(PartnerCompanyStatus status, Pageable pageable);
+    Slice<PartnerCompany> findSliceByStatus(PartnerCompanyStatus status, Pageable pageable);
+
+    /**
+     * 모든 상태의 파트너 회사를 검색합니다. (COUNT 쿼리 없음)
+     *
+     * @param pageable 페이지네이션 정보
+     * @return 검색된 파트너 회사 목록 (슬라이스)
+     */
+    Slice<PartnerCompany> findSliceBy(Pageable pageable);
 
     /**
      * 상태별로 모든 파트너 회사를 검색합니다.
@@ -124,4 +142,100 @@ public interface PartnerCompanyRepository extends JpaRepository<PartnerCompany,
      * @return 존재 여부
      */
     boolean existsByCompanyNameIgnoreCaseAndStatus(String companyName, PartnerCompanyStatus status);
-}
\ No newline at end of file
+
+    /**
+     * 회사명(소문자)이 목록에 포함된 파트너 회사를 상태와 관계없이 조회합니다. (일괄 등록 중복 검사용)
+     *
+     * @param lowerCaseNames 소문자로 변환한 회사명 목록
+     * @return 일치하는 파트너 회사 목록
+     */
+    @Query("SELECT p FROM PartnerCompany p WHERE LOWER(p.companyName) IN :lowerCaseNames")
+    List<PartnerCompany> findAllByLowerCaseCompanyNameIn(@Param("lowerCaseNames") Collection<String> lowerCaseNames);
+
+    /**
+     * 비동기 보강 대기(PENDING) 중인 파트너 회사에 DART 조회 결과를 반영합니다.
+     * 이미 다른 요청으로 보강 상태가 바뀐 경우에는 반영하지 않습니다.
+     *
+     * @param id 파트너 회사 ID
+     * @param stockCode DART 에서 조회한 주식 코드
+     * @param enrichmentStatus 보강 결과 상태 (COMPLETED 또는 FAILED)
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PartnerCompany p SET p.stockCode = :stockCode, p.enrichmentStatus = :enrichmentStatus "
+            + "WHERE p.id = :id AND p.enrichmentStatus = com.example.javaversion.partner.model.PartnerEnrichmentStatus.PENDING")
+    int completeEnrichment(@Param("id") String id,
+                           @Param("stockCode") String stockCode,
+                           @Param("enrichmentStatus") PartnerEnrichmentStatus enrichmentStatus);
+
+    /**
+     * 회사명 FULLTEXT(ngram) 인덱스로 파트너 회사를 검색합니다. (MySQL 전용, 관련도 내림차순)
+     *
+     * @param query BOOLEAN MODE 검색식
+     * @param status 파트너 회사 상태 (이름 문자열)
+     * @param limit 최대 결과 수
+     * @return 관련도 순으로 정렬된 파트너 회사 목록
+     */
+    @Query(value = "SELECT * FROM partner_companies "
+            + "WHERE status = :status AND MATCH(company_name) AGAINST (:query IN BOOLEAN MODE) "
+            + "ORDER BY MATCH(company_name) AGAINST (:query IN BOOLEAN MODE) DESC, created_at DESC, id DESC "
+            + "LIMIT :limit", nativeQuery = true)
+    List<PartnerCompany> searchByCompanyNameFullText(@Param("query") String query, @Param("status") String status, @Param("limit") int limit);
+
+    /**
+     * 특정 회원의 파트너 회사를 회사명 FULLTEXT(ngram) 인덱스로 검색합니다. (MySQL 전용, 관련도 내림차순)
+     *
+     * @param memberId 회원 ID
+     * @param query BOOLEAN MODE 검색식
+     * @param status 파트너 회사 상태 (이름 문자열)
+     * @param limit 최대 결과 수
+     * @return 관련도 순으로 정렬된 파트너 회사 목록
+     */
+    @Query(value = "SELECT * FROM partner_companies "
+            + "WHERE member_id = :memberId AND status = :status AND MATCH(company_name) AGAINST (:query IN BOOLEAN MODE) "
+            + "ORDER BY MATCH(company_name) AGAINST (:query IN BOOLEAN MODE) DESC, created_at DESC, id DESC "
+            + "LIMIT :limit", nativeQuery = true)
+    List<PartnerCompany> searchByMemberIdAndCompanyNameFullText(@Param("memberId") String memberId, @Param("query") String query,
+                                                                @Param("status") String status, @Param("limit") int limit);
+
+    /**
+     * 회사명 FULLTEXT(ngram) 인덱스로 파트너 회사를 검색합니다. (모든 상태 포함, MySQL 전용, 관련도 내림차순)
+     *
+     * @param query BOOLEAN MODE 검색식
+     * @param limit 최대 결과 수
+     * @return 관련도 순으로 정렬된 파트너 회사 목록
+     */
+    @Query(value = "SELECT * FROM partner_companies "
+            + "WHERE MATCH(company_name) AGAINST (:query IN BOOLEAN MODE) "
+            + "ORDER BY MATCH(company_name) AGAINST (:query IN BOOLEAN MODE) DESC, created_at DESC, id DESC "
+            + "LIMIT :limit", nativeQuery = true)
+    List<PartnerCompany> searchAllStatusesByCompanyNameFullText(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * (createdAt, id) 내림차순 키셋 페이지네이션으로 파트너 회사를 조회합니다.
+     * 반환 타입이 Slice 이므로 COUNT 쿼리 없이 pageSize + 1 건을 조회하여 다음 페이지 존재 여부만 판단합니다.
+     * null 인 조건은 적용하지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param status 파트너 회사 상태
+     * @param companyNamePattern 소문자 LIKE 패턴 (예: %abc%, 이스케이프 문자는 '!')
+     * @param cursorCreatedAt 이전 페이지 마지막 항목의 생성 시각
+     * @param cursorId 이전 페이지 마지막 항목의 ID
+     * @param pageable 페이지 크기 (페이지 번호는 항상 0)
+     * @return 파트너 회사 목록 (Slice)
+     */
+    @Query("SELECT p FROM PartnerCompany p "
+            + "WHERE (:memberId IS NULL OR p.memberId = :memberId) "
+            + "AND (:status IS NULL OR p.status = :status) "
+            + "AND (:companyNamePattern IS NULL OR LOWER(p.companyName) LIKE :companyNamePattern ESCAPE '!') "
+            + "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt "
+            + "     OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PartnerCompany> findSliceAfterCursor(@Param("memberId") String memberId,
+                                               @Param("status") PartnerCompanyStatus status,
+                                               @Param("companyNamePattern") String companyNamePattern,
+                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                               @Param("cursorId") String cursorId,
+                                               Pageable pageable);
+}
@@ -2,51 +2,219 @@
  * @file KafkaConfig.java
  * @description Kafka 관련 설정 클래스입니다.
  *              프로듀서 및 컨슈머 설정을 구성합니다.
+ *              리스너 처리는 적재 부하(INGEST)로 표시되어 사용자 요청과 분리된 커넥션 풀을 사용하고, DART 호출은 사용자 요청 다음 우선순위로 처리됩니다.
+ *              프로듀서는 처리량 프로파일(linger, 배치 크기, 압축, acks, 멱등성)로 구성하며, 항목별 설정이 있으면 프로파일 값을 덮어씁니다.
+ *              멱등성(idempotence)을 켜면 재시도로 인한 중복 기록과 파티션 내 순서 뒤바뀜을 막습니다.
+ *              값 직렬화는 kafka.serde.smile-topics 에 지정한 내부 토픽만 Smile(바이너리)로, 나머지는 JSON 으로 수행하며
+ *              컨슈머는 메시지 형식을 자동으로 판별합니다.
+ *              리스너에서 일시적인 실패(TransientApiException)가 발생하면 비차단(non-blocking) 재시도 토픽으로 보내
+ *              지수 백오프 후 다시 처리하고, 재시도를 소진했거나 재시도할 수 없는 오류와 역직렬화 실패 메시지는 DLT 로 보냅니다.
+ *              재시도 대기 중에도 원래 파티션은 막히지 않습니다.
+ *              회사 개황/공시 토픽은 외부 서비스가 보낸 DART 응답 JSON 을 한 번의 poll 단위로 모아 저장하는 배치 리스너로 처리합니다.
+ *              배치 리스너는 재시도 토픽을 사용할 수 없으므로 DefaultErrorHandler 가 짧게 재시도한 뒤 실패한 메시지를 같은 이름 규칙의 DLT 로 보냅니다.
+ *              프로듀서/컨슈머 클라이언트 메트릭(kafka.producer.*, kafka.consumer.* - 초당 처리량, 파티션별 지연 등)을 Micrometer 로 노출합니다.
  */
 package com.example.javaversion.kafka.config;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.example.javaversion.common.exception.TransientApiException;
+import com.example.javaversion.common.util.WorkloadContext;
+import com.example.javaversion.kafka.service.KafkaDeadLetterService;
+import com.example.javaversion.kafka.serde.SmileOrJsonDeserializer;
+import com.example.javaversion.kafka.serde.SmileOrJsonSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
+@EnableKafkaRetryTopic
+@RequiredArgsConstructor
+@Slf4j
 public class KafkaConfig {
 
+    /** 회사 개황/공시 배치 리스너 컨테이너 팩토리 빈 이름 */
+    public static final String DART_DATA_BATCH_LISTENER_FACTORY = "dartDataBatchListenerContainerFactory";
+
+    /**
+     * 프로듀서 처리량 프로파일
+     * LATENCY: 즉시 전송 (linger 0ms, 16KB 배치, 압축 없음) - 메시지가 드물고 지연이 중요한 경우
+     * BALANCED: 짧게 모아 전송 (linger 5ms, 64KB 배치, lz4) - 기본값
+     * THROUGHPUT: 크게 모아 전송 (linger 20ms, 256KB 배치, zstd) - 일괄 등록, 뉴스 요청 등 대량 발행 위주
+     * 모든 프로파일은 acks=all, 멱등성 사용이 기본입니다.
+     */
+    public enum ProducerProfile {
+        LATENCY(0, 16 * 1024, "none"),
+        BALANCED(5, 64 * 1024, "lz4"),
+        THROUGHPUT(20, 256 * 1024, "zstd");
+
+        private final int lingerMs;
+        private final int batchSize;
+        private final String compressionType;
+
+        ProducerProfile(int lingerMs, int batchSize, String compressionType) {
+            this.lingerMs = lingerMs;
+            this.batchSize = batchSize;
+            this.compressionType = compressionType;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.producer.profile:BALANCED}")
+    private ProducerProfile producerProfile;
+
+    // 항목별 설정 (비어 있으면 프로파일 값 사용)
+    @Value("${kafka.producer.linger-ms:}")
+    private Integer producerLingerMs;
+
+    @Value("${kafka.producer.batch-size:}")
+    private Integer producerBatchSize;
+
+    @Value("${kafka.producer.compression-type:}")
+    private String producerCompressionType;
+
+    @Value("${kafka.producer.acks:all}")
+    private String producerAcks;
+
+    @Value("${kafka.producer.idempotence:true}")
+    private boolean producerIdempotence;
+
+    @Value("${kafka.producer.delivery-timeout-ms:60000}")
+    private int producerDeliveryTimeoutMs;
+
+    @Value("${kafka.serde.smile-topics:}")
+    private List<String> smileTopics;
+
+    // 재시도 토픽 설정 (시도 횟수는 최초 처리 포함)
+    @Value("${kafka.retry.attempts:5}")
+    private int retryAttempts;
+
+    @Value("${kafka.retry.initial-interval-ms:5000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${kafka.retry.multiplier:5.0}")
+    private double retryMultiplier;
+
+    @Value("${kafka.retry.max-interval-ms:300000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${kafka.retry.topic-partitions:1}")
+    private int retryTopicPartitions;
+
+    @Value("${kafka.retry.topic-replication-factor:1}")
+    private short retryTopicReplicationFactor;
+
+    @Value("${kafka.topic.partner-company}")
+    private String partnerCompanyTopic;
+
+    @Value("${kafka.topic.company-profile}")
+    private String companyProfileTopic;
+
+    @Value("${kafka.topic.disclosure}")
+    private String disclosureTopic;
+
+    @Value("${workload.ingest.listener-concurrency:1}")
+    private int listenerConcurrency;
+
+    // 회사 개황/공시 배치 리스너 설정
+    @Value("${kafka.consumer.dart-data.max-poll-records:500}")
+    private int dartDataMaxPollRecords;
+
+    @Value("${kafka.consumer.dart-data.retry-attempts:3}")
+    private int dartDataRetryAttempts;
+
+    @Value("${kafka.consumer.dart-data.retry-interval-ms:1000}")
+    private long dartDataRetryIntervalMs;
+
     // 프로듀서 설정
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+
+        // 처리량 프로파일: 같은 파티션으로 가는 메시지를 linger 동안 모아 압축된 배치 하나로 전송
+        int lingerMs = producerLingerMs != null ? producerLingerMs : producerProfile.lingerMs;
+        int batchSize = producerBatchSize != null ? producerBatchSize : producerProfile.batchSize;
+        String compressionType = producerCompressionType != null && !producerCompressionType.isBlank()
+                ? producerCompressionType : producerProfile.compressionType;
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+
+        // 멱등 프로듀서는 acks=all 이 필요하므로 다른 acks 를 지정하면 멱등성을 끔
+        boolean idempotence = producerIdempotence && "all".equalsIgnoreCase(producerAcks);
+        if (producerIdempotence && !idempotence) {
+            log.warn("acks={} 설정으로 프로듀서 멱등성을 사용하지 않습니다. (멱등성은 acks=all 필요)", producerAcks);
+        }
+        configProps.put(ProducerConfig.ACKS_CONFIG, producerAcks);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotence);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5); // 멱등 프로듀서가 순서를 보장하는 최대값
+        configProps.put(ProducerConfig.RETRIES_CONFIG, Integer.MAX_VALUE); // 전송 제한 시간 안에서 재시도
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, producerDeliveryTimeoutMs);
+        log.info("Kafka 프로듀서 구성 - 프로파일: {}, linger: {}ms, 배치: {}B, 압축: {}, acks: {}, 멱등성: {}",
+                producerProfile, lingerMs, batchSize, compressionType, producerAcks, idempotence);
         
         // 로컬 개발환경에서 Kafka 내부 hostname 해석 문제 해결
         configProps.put("client.dns.lookup", "use_all_dns_ips");
         configProps.put("reconnect.backoff.ms", 1000);
         configProps.put("reconnect.backoff.max.ms", 10000);
         
-        return new DefaultKafkaProducerFactory<>(configProps);
+        Set<String> smileTopicSet = new LinkedHashSet<>();
+        smileTopics.stream().map(String::trim).filter(topic -> !topic.isEmpty()).forEach(smileTopicSet::add);
+        if (!smileTopicSet.isEmpty()) {
+            log.info("Kafka Smile 직렬화 토픽: {}", smileTopicSet);
+        }
+
+        DefaultKafkaProducerFactory<String, Object> producerFactory =
+                new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), new SmileOrJsonSerializer(smileTopicSet));
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
     }
 
     @Bean
@@ -61,7 +229,7 @@ public class KafkaConfig {
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, SmileOrJsonDeserializer.class);
         props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.example.javaversion.partner.dto,com.example.javaversion.dart.dto");
         
         // 로컬 개발환경에서 Kafka 내부 hostname 해석 문제 해결
@@ -69,13 +237,149 @@ public class KafkaConfig {
         props.put("reconnect.backoff.ms", 1000);
         props.put("reconnect.backoff.max.ms", 10000);
         
-        return new DefaultKafkaConsumerFactory<>(props);
+        // 역직렬화 실패(poison) 메시지는 예외 대신 실패 정보로 전달되어 재시도 없이 DLT 로 이동 (파티션 정지 방지)
+        DefaultKafkaConsumerFactory<String, Object> consumerFactory = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new SmileOrJsonDeserializer()));
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
     }
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // 리스너 스레드 수를 제한하여 적재 부하의 상한을 고정 (bulkhead)
+        factory.setConcurrency(listenerConcurrency);
+        factory.setRecordInterceptor(backgroundWorkloadInterceptor());
         return factory;
     }
+
+    /**
+     * 회사 개황/공시 토픽용 컨슈머 설정. 외부 서비스가 타입 헤더 없이 보낸 JSON 도 받을 수 있도록 값은 바이트로 받아
+     * 리스너에서 토픽별 타입으로 변환합니다. (바이트 역직렬화는 실패하지 않음)
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> dartDataConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, dartDataMaxPollRecords);
+
+        // 로컬 개발환경에서 Kafka 내부 hostname 해석 문제 해결
+        props.put(ConsumerConfig.CLIENT_DNS_LOOKUP_CONFIG, "use_all_dns_ips");
+        props.put("reconnect.backoff.ms", 1000);
+        props.put("reconnect.backoff.max.ms", 10000);
+
+        DefaultKafkaConsumerFactory<String, byte[]> consumerFactory =
+                new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return consumerFactory;
+    }
+
+    /**
+     * 회사 개황/공시 배치 리스너 컨테이너 팩토리.
+     * 리스너가 BatchListenerFailedException 으로 실패 위치를 알리면 앞선 메시지의 오프셋을 커밋하고 실패한 메시지만 재시도 후 DLT 로 보내며,
+     * 변환 실패(JSON 오류)는 재시도하지 않습니다. DLT 메시지 처리 실패는 다시 DLT 로 보내지 않고 기록만 합니다.
+     */
+    @Bean(DART_DATA_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> dartDataBatchListenerContainerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(dartDataConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(listenerConcurrency);
+        factory.setBatchInterceptor(backgroundWorkloadBatchInterceptor());
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> record.topic().endsWith(KafkaDeadLetterService.DLT_SUFFIX)
+                        ? null
+                        : new TopicPartition(record.topic() + KafkaDeadLetterService.DLT_SUFFIX, -1));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer,
+                new FixedBackOff(dartDataRetryIntervalMs, Math.max(dartDataRetryAttempts - 1, 0)));
+        errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+        factory.setCommonErrorHandler(errorHandler);
+        log.info("Kafka 회사 개황/공시 배치 리스너 구성 - poll 최대 {}건, 시도: {}회, 간격: {}ms",
+                dartDataMaxPollRecords, dartDataRetryAttempts, dartDataRetryIntervalMs);
+        return factory;
+    }
+
+    /**
+     * 배치 리스너의 DLT 토픽 (재시도 토픽 설정이 만들지 않으므로 직접 생성)
+     */
+    @Bean
+    public KafkaAdmin.NewTopics dartDataDeadLetterTopics() {
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name(companyProfileTopic + KafkaDeadLetterService.DLT_SUFFIX)
+                        .partitions(retryTopicPartitions)
+                        .replicas(retryTopicReplicationFactor)
+                        .build(),
+                TopicBuilder.name(disclosureTopic + KafkaDeadLetterService.DLT_SUFFIX)
+                        .partitions(retryTopicPartitions)
+                        .replicas(retryTopicReplicationFactor)
+                        .build());
+    }
+
+    /**
+     * 리스너별 재시도 토픽(토픽명-retry-N)과 DLT(토픽명-dlt) 구성.
+     * 일시적인 실패만 지수 백오프로 재시도하고, DLT 메시지는 KafkaDeadLetterService 가 저장합니다.
+     * DLT 처리 자체가 실패하면 무한 반복을 막기 위해 기록만 하고 넘어갑니다.
+     * 회사 개황/공시 토픽은 배치 리스너이므로 대상에서 제외합니다. (dartDataBatchListenerContainerFactory 참고)
+     */
+    @Bean
+    public RetryTopicConfiguration listenerRetryTopicConfiguration(KafkaTemplate<String, Object> kafkaTemplate) {
+        log.info("Kafka 재시도 토픽 구성 - 시도: {}회, 백오프: {}ms x{} (최대 {}ms)",
+                retryAttempts, retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs);
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(partnerCompanyTopic)
+                .maxAttempts(retryAttempts)
+                .exponentialBackoff(retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs)
+                .retryOn(TransientApiException.class)
+                .traversingCauses()
+                .dltSuffix(KafkaDeadLetterService.DLT_SUFFIX)
+                .dltHandlerMethod(KafkaDeadLetterService.BEAN_NAME, KafkaDeadLetterService.HANDLER_METHOD_NAME)
+                .dltProcessingFailureStrategy(DltStrategy.FAIL_ON_ERROR)
+                .autoCreateTopicsWith(retryTopicPartitions, retryTopicReplicationFactor)
+                .create(kafkaTemplate);
+    }
+
+    /**
+     * 리스너 처리 중에는 적재 부하로 표시하여 DB 작업이 백그라운드 커넥션 풀을 사용하고 DART 호출이 적재 우선순위를 갖도록 합니다.
+     */
+    private RecordInterceptor<String, Object> backgroundWorkloadInterceptor() {
+        return new RecordInterceptor<>() {
+            @Override
+            public ConsumerRecord<String, Object> intercept(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+                WorkloadContext.set(WorkloadContext.Workload.INGEST);
+                return record;
+            }
+
+            @Override
+            public void afterRecord(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+                WorkloadContext.clear();
+            }
+        };
+    }
+
+    /**
+     * 배치 리스너 처리 중에도 적재 부하로 표시합니다.
+     */
+    private BatchInterceptor<String, byte[]> backgroundWorkloadBatchInterceptor() {
+        return new BatchInterceptor<>() {
+            @Override
+            public ConsumerRecords<String, byte[]> intercept(ConsumerRecords<String, byte[]> records, Consumer<String, byte[]> consumer) {
+                WorkloadContext.set(WorkloadContext.Workload.INGEST);
+                return records;
+            }
+
+            @Override
+            public void success(ConsumerRecords<String, byte[]> records, Consumer<String, byte[]> consumer) {
+                WorkloadContext.clear();
+            }
+
+            @Override
+            public void failure(ConsumerRecords<String, byte[]> records, Exception exception, Consumer<String, byte[]> consumer) {
+                WorkloadContext.clear();
+            }
+        };
+    }
 } 
\ No newline at end of file
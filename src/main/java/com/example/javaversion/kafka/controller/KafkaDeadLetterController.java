@@ -0,0 +1,84 @@
+/**
+ * @file KafkaDeadLetterController.java
+ * @description Kafka DLT 메시지 조회 및 재발행 기능을 제공하는 REST 컨트롤러입니다.
+ *              재시도를 소진한 메시지의 원인을 확인하고, 원인이 해소된 뒤 원래 토픽으로 다시 보내 처리합니다.
+ */
+package com.example.javaversion.kafka.controller;
+
+import com.example.javaversion.kafka.dto.KafkaDeadLetterDto;
+import com.example.javaversion.kafka.service.KafkaDeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/kafka/dead-letters")
+@Tag(name = "Kafka DLT API", description = "Kafka DLT 메시지 조회 및 재발행 API")
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaDeadLetterController {
+
+    private final KafkaDeadLetterService kafkaDeadLetterService;
+
+    @GetMapping
+    @Operation(summary = "DLT 메시지 목록 조회", description = "DLT 에 도착한 메시지를 최신 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "DLT 메시지 목록 (data, total, page, pageSize)")
+    })
+    public ResponseEntity<Map<String, Object>> getDeadLetters(
+            @Parameter(description = "원래 토픽 (생략 시 전체)", example = "partner-company-updated")
+            @RequestParam(required = false) String topic,
+            @Parameter(description = "재발행하지 않은 메시지만 조회", example = "true")
+            @RequestParam(defaultValue = "true") boolean pendingOnly,
+            @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
+            @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int pageSize) {
+        log.info("DLT 메시지 목록 조회 요청 - 토픽: {}, 미처리만: {}, 페이지: {}", topic, pendingOnly, page);
+        return ResponseEntity.ok(kafkaDeadLetterService.findDeadLetters(topic, pendingOnly, page, pageSize));
+    }
+
+    @PostMapping("/{id}/replay")
+    @Operation(summary = "DLT 메시지 재발행", description = "DLT 메시지를 원래 토픽으로 다시 발행하여 처음부터 처리합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재발행 요청 성공",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = KafkaDeadLetterDto.class))),
+            @ApiResponse(responseCode = "404", description = "DLT 메시지를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "역직렬화에 실패한 메시지여서 재발행할 수 없음")
+    })
+    public ResponseEntity<KafkaDeadLetterDto> replayDeadLetter(
+            @Parameter(description = "DLT 메시지 ID", required = true, example = "612345678901234567")
+            @PathVariable Long id) {
+        log.info("DLT 메시지 재발행 요청 - ID: {}", id);
+        return ResponseEntity.ok(kafkaDeadLetterService.replay(id));
+    }
+
+    @PostMapping("/replay")
+    @Operation(summary = "DLT 메시지 일괄 재발행", description = "원래 토픽의 재발행하지 않은 DLT 메시지를 오래된 순서로 재발행합니다. 재발행할 수 없는 메시지는 건너뜁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재발행 결과 (replayed: 재발행 수, skipped: 건너뛴 수)")
+    })
+    public ResponseEntity<Map<String, Object>> replayPendingDeadLetters(
+            @Parameter(description = "원래 토픽", required = true, example = "partner-company-updated")
+            @RequestParam String topic,
+            @Parameter(description = "최대 재발행 수", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("DLT 메시지 일괄 재발행 요청 - 토픽: {}, 최대: {}건", topic, limit);
+        return ResponseEntity.ok(kafkaDeadLetterService.replayPending(topic, limit));
+    }
+}
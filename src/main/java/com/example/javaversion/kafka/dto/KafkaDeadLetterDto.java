@@ -0,0 +1,53 @@
+/**
+ * @file KafkaDeadLetterDto.java
+ * @description DLT 메시지 조회 응답 DTO입니다.
+ */
+package com.example.javaversion.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "DLT 메시지 조회 응답 DTO")
+public class KafkaDeadLetterDto {
+
+    @Schema(description = "DLT 메시지 ID", example = "612345678901234567")
+    private String id;
+
+    @Schema(description = "원래 토픽", example = "partner-company-updated")
+    private String originalTopic;
+
+    @Schema(description = "메시지 키", example = "c1a2b3c4-d5e6-7890-1234-567890abcdef")
+    private String messageKey;
+
+    @Schema(description = "메시지 타입 (역직렬화 실패 메시지는 생략, 재발행 불가)", example = "com.example.javaversion.partner.dto.PartnerCompanyResponseDto")
+    private String payloadType;
+
+    @Schema(description = "메시지 JSON")
+    private String payload;
+
+    @Schema(description = "마지막 처리 실패 예외 클래스", example = "com.example.javaversion.common.exception.TransientApiException")
+    private String exceptionClass;
+
+    @Schema(description = "마지막 처리 실패 메시지")
+    private String exceptionMessage;
+
+    @Schema(description = "재발행 횟수", example = "0")
+    private int replayCount;
+
+    @Schema(description = "마지막 재발행 시각 (미처리이면 생략)")
+    private LocalDateTime replayedAt;
+
+    @Schema(description = "DLT 도착 시각")
+    private LocalDateTime createdAt;
+}
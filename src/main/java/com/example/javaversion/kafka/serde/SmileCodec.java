@@ -0,0 +1,86 @@
+/**
+ * @file SmileCodec.java
+ * @description 내부 Kafka 토픽용 Jackson Smile(바이너리 JSON) 인코딩/디코딩을 담당합니다.
+ *              Smile 은 필드명과 짧은 문자열을 백참조로 공유하고 숫자를 가변 길이 정수로 쓰므로 JSON 보다 작고 빠르며,
+ *              모든 메시지가 고정 헤더(":)\n")로 시작하므로 JSON 과 같은 토픽에 섞여 있어도 첫 바이트로 구분할 수 있습니다.
+ *              역직렬화 대상 타입은 아래 목록으로 고정하여 패키지 신뢰(trusted packages) 기반 리플렉션 없이 조회합니다.
+ */
+package com.example.javaversion.kafka.serde;
+
+import com.example.javaversion.kafka.dto.NewsAnalysisRequest;
+import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class SmileCodec {
+
+    /** Smile 타입 정보 헤더 (값: 등록된 타입의 클래스명) */
+    public static final String TYPE_HEADER = "x-smile-type";
+
+    /** Smile 형식으로 보낼 수 있는 메시지 타입 */
+    static final Map<String, Class<?>> SUPPORTED_TYPES = List.<Class<?>>of(
+                    PartnerCompanyResponseDto.class,
+                    NewsAnalysisRequest.class)
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(Class::getName, Function.identity()));
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES) // 필드가 추가되어도 이전 버전 컨슈머가 읽을 수 있도록
+            .build();
+
+    private SmileCodec() {
+    }
+
+    /**
+     * Smile 형식으로 보낼 수 있는 타입인지 확인합니다.
+     */
+    static boolean supports(Object data) {
+        return data != null && SUPPORTED_TYPES.containsKey(data.getClass().getName());
+    }
+
+    /**
+     * Smile 헤더(":)\n", 0x3A 0x29 0x0A)로 시작하는지 확인합니다.
+     */
+    static boolean isSmile(byte[] data) {
+        return data != null && data.length >= 3 && data[0] == ':' && data[1] == ')' && data[2] == '\n';
+    }
+
+    static byte[] encode(Headers headers, Object data) {
+        try {
+            headers.remove(TYPE_HEADER);
+            headers.add(TYPE_HEADER, data.getClass().getName().getBytes(StandardCharsets.UTF_8));
+            return SMILE_MAPPER.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 직렬화 실패: " + data.getClass().getName(), e);
+        }
+    }
+
+    static Object decode(String topic, Headers headers, byte[] data) {
+        Header typeHeader = headers != null ? headers.lastHeader(TYPE_HEADER) : null;
+        if (typeHeader == null) {
+            throw new SerializationException("Smile 메시지에 타입 헤더가 없습니다 - 토픽: " + topic);
+        }
+        String typeName = new String(typeHeader.value(), StandardCharsets.UTF_8);
+        Class<?> type = SUPPORTED_TYPES.get(typeName);
+        if (type == null) {
+            throw new SerializationException("Smile 역직렬화를 지원하지 않는 타입입니다 - 토픽: " + topic + ", 타입: " + typeName);
+        }
+        try {
+            return SMILE_MAPPER.readValue(data, type);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 역직렬화 실패 - 토픽: " + topic + ", 타입: " + typeName, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * @file SmileOrJsonDeserializer.java
+ * @description 메시지 첫 바이트로 형식을 판별하여 Smile 메시지는 SmileCodec 으로, 그 외는 기존 JsonDeserializer 로 역직렬화하는 Kafka 역직렬화기입니다.
+ *              형식을 토픽 설정이 아닌 메시지 자체로 판별하므로 컨슈머를 먼저 배포한 뒤 프로듀서의 Smile 토픽을 켜도 되고,
+ *              전환 중 JSON 과 Smile 메시지가 섞여 있어도 모두 처리합니다.
+ */
+package com.example.javaversion.kafka.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+public class SmileOrJsonDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (SmileCodec.isSmile(data)) {
+            return SmileCodec.decode(topic, headers, data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * @file SmileOrJsonSerializer.java
+ * @description Smile 사용 토픽으로 가는 지원 타입 메시지는 Smile 로, 그 외는 기존 JsonSerializer 로 직렬화하는 Kafka 직렬화기입니다.
+ *              Smile 사용 토픽은 kafka.serde.smile-topics 로 지정하며, 비어 있으면 모든 메시지를 JSON 으로 보냅니다.
+ *              byte[] 값은 변환 없이 그대로 보냅니다.
+ */
+package com.example.javaversion.kafka.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.Set;
+
+public class SmileOrJsonSerializer implements Serializer<Object> {
+
+    private final Set<String> smileTopics;
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    public SmileOrJsonSerializer(Set<String> smileTopics) {
+        this.smileTopics = Set.copyOf(smileTopics);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, new RecordHeaders(), data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof byte[] bytes) {
+            // DLT 로 보내는 역직렬화 실패 메시지의 원본 바이트는 그대로 전송
+            return bytes;
+        }
+        if (smileTopics.contains(topic) && SmileCodec.supports(data)) {
+            return SmileCodec.encode(headers, data);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * @file DartDataIngestService.java
+ * @description 다른 서비스가 Kafka 로 보낸 DART 회사 개황/공시 검색 결과를 DB에 반영하는 서비스입니다.
+ *              리스너가 한 번에 받은 메시지를 모아 UPSERT(INSERT ... ON DUPLICATE KEY UPDATE) JDBC 배치로 한 트랜잭션에서 저장하고,
+ *              커밋 후 해당 회사의 캐시(companyProfiles 는 갱신, disclosureSearch 는 무효화)를 맞춰 HTTP 재조회 없이 최신 값을 제공합니다.
+ *              같은 배치 안에서 같은 회사/공시가 여러 번 오면 마지막 메시지만 반영합니다.
+ *              공시의 회사 프로필이 아직 없으면 공시 항목의 회사명/종목 코드로 최소 프로필을 먼저 만들어 외래 키를 만족시킵니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.cache.service.CacheService;
+import com.example.javaversion.dart.dto.CompanyProfileResponse;
+import com.example.javaversion.dart.dto.DisclosureSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DartDataIngestService {
+
+    private static final String DART_STATUS_OK = "000";
+    private static final String COMPANY_PROFILE_CACHE_NAME = "companyProfiles";
+    private static final String DISCLOSURE_SEARCH_CACHE_NAME = "disclosureSearch";
+    private static final DateTimeFormatter RECEIPT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // last_synced_at 은 공시/재무제표 동기화 기준이므로 갱신하지 않음
+    private static final String UPSERT_COMPANY_PROFILE_SQL = "INSERT INTO company_profiles "
+            + "(corp_code, corp_name, corp_name_eng, stock_code, ceo_name, corp_class, business_number, "
+            + "corporate_registration_number, address, homepage_url, ir_url, phone_number, fax_number, industry, "
+            + "establishment_date, accounting_month, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "corp_name = VALUES(corp_name), corp_name_eng = VALUES(corp_name_eng), stock_code = VALUES(stock_code), "
+            + "ceo_name = VALUES(ceo_name), corp_class = VALUES(corp_class), business_number = VALUES(business_number), "
+            + "corporate_registration_number = VALUES(corporate_registration_number), address = VALUES(address), "
+            + "homepage_url = VALUES(homepage_url), ir_url = VALUES(ir_url), phone_number = VALUES(phone_number), "
+            + "fax_number = VALUES(fax_number), industry = VALUES(industry), establishment_date = VALUES(establishment_date), "
+            + "accounting_month = VALUES(accounting_month), placeholder = FALSE, updated_at = VALUES(updated_at)";
+
+    // 이미 있는 프로필은 그대로 둠 (공시 외래 키 충족용)
+    private static final String INSERT_MISSING_COMPANY_PROFILE_SQL = "INSERT INTO company_profiles "
+            + "(corp_code, corp_name, stock_code, corp_class, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE corp_code = corp_code";
+
+    private static final String UPSERT_DISCLOSURE_SQL = "INSERT INTO disclosures "
+            + "(receipt_no, corp_code, corp_name, stock_code, corp_class, report_name, submitter_name, receipt_date, remark, "
+            + "created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "corp_code = VALUES(corp_code), corp_name = VALUES(corp_name), stock_code = VALUES(stock_code), "
+            + "corp_class = VALUES(corp_class), report_name = VALUES(report_name), submitter_name = VALUES(submitter_name), "
+            + "receipt_date = VALUES(receipt_date), remark = VALUES(remark), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheService cacheService;
+
+    @Value("${kafka.consumer.dart-data.jdbc-batch-size:500}")
+    private int jdbcBatchSize;
+
+    /**
+     * 회사 개황 조회 결과를 회사 프로필로 저장(UPSERT)하고 companyProfiles 캐시를 갱신합니다.
+     * 정상 응답(status 000)이 아니거나 고유번호/회사명이 없는 메시지는 건너뜁니다.
+     *
+     * @param responses 회사 개황 조회 결과 목록
+     * @return 저장한 회사 수
+     */
+    public int upsertCompanyProfiles(List<CompanyProfileResponse> responses) {
+        Map<String, CompanyProfileResponse> latestByCorpCode = new LinkedHashMap<>();
+        for (CompanyProfileResponse response : responses) {
+            if (!DART_STATUS_OK.equals(response.getStatus()) || isBlank(response.getCorpCode()) || isBlank(response.getCorpName())) {
+                log.warn("저장할 수 없는 회사 개황 메시지 건너뜀: corpCode={}, status={}, message={}",
+                        response.getCorpCode(), response.getStatus(), response.getMessage());
+                continue;
+            }
+            latestByCorpCode.put(response.getCorpCode(), response);
+        }
+        if (latestByCorpCode.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(latestByCorpCode.size());
+        for (CompanyProfileResponse response : latestByCorpCode.values()) {
+            rows.add(new Object[]{
+                    response.getCorpCode(), response.getCorpName(), response.getCorpNameEng(), trimToNull(response.getStockCode()),
+                    response.getCeoName(), response.getCorpClass(), response.getBusinessNumber(),
+                    response.getCorporateRegistrationNumber(), response.getAddress(), response.getHomepageUrl(),
+                    response.getIrUrl(), response.getPhoneNumber(), response.getFaxNumber(), response.getIndustry(),
+                    response.getEstablishmentDate(), response.getAccountingMonth(), now, now});
+        }
+
+        long startNanos = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> batchUpdate(UPSERT_COMPANY_PROFILE_SQL, rows));
+        log.info("회사 개황 일괄 저장 완료: 메시지 {}건, 회사 {}건, 소요 {}ms",
+                responses.size(), rows.size(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        latestByCorpCode.forEach((corpCode, response) -> cacheService.put(COMPANY_PROFILE_CACHE_NAME, corpCode, response));
+        return rows.size();
+    }
+
+    /**
+     * 공시 검색 결과의 공시 항목을 저장(UPSERT)하고 해당 회사의 disclosureSearch 캐시를 무효화합니다.
+     * 정상 응답(status 000)이 아닌 메시지와 필수 값(접수번호, 고유번호, 회사명, 보고서명, 접수일자)이 없는 항목은 건너뜁니다.
+     *
+     * @param responses 공시 검색 결과 목록
+     * @return 저장한 공시 수
+     */
+    public int upsertDisclosures(List<DisclosureSearchResponse> responses) {
+        Map<String, DisclosureSearchResponse.DisclosureItem> latestByReceiptNo = new LinkedHashMap<>();
+        Map<String, LocalDate> receiptDates = new LinkedHashMap<>();
+        for (DisclosureSearchResponse response : responses) {
+            if (!DART_STATUS_OK.equals(response.getStatus()) || response.getList() == null) {
+                log.debug("공시 항목이 없는 메시지 건너뜀: status={}, message={}", response.getStatus(), response.getMessage());
+                continue;
+            }
+            for (DisclosureSearchResponse.DisclosureItem item : response.getList()) {
+                LocalDate receiptDate = parseReceiptDate(item.getReceiptDate());
+                if (isBlank(item.getReceiptNo()) || isBlank(item.getCorpCode()) || isBlank(item.getCorpName())
+                        || isBlank(item.getReportName()) || receiptDate == null) {
+                    log.warn("저장할 수 없는 공시 항목 건너뜀: receiptNo={}, corpCode={}, receiptDate={}",
+                            item.getReceiptNo(), item.getCorpCode(), item.getReceiptDate());
+                    continue;
+                }
+                latestByReceiptNo.put(item.getReceiptNo(), item);
+                receiptDates.put(item.getReceiptNo(), receiptDate);
+            }
+        }
+        if (latestByReceiptNo.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object[]> profileRows = new LinkedHashMap<>();
+        List<Object[]> disclosureRows = new ArrayList<>(latestByReceiptNo.size());
+        for (DisclosureSearchResponse.DisclosureItem item : latestByReceiptNo.values()) {
+            String stockCode = trimToNull(item.getStockCode());
+            profileRows.putIfAbsent(item.getCorpCode(), new Object[]{
+                    item.getCorpCode(), item.getCorpName(), stockCode, item.getCorpClass(), now, now});
+            disclosureRows.add(new Object[]{
+                    item.getReceiptNo(), item.getCorpCode(), item.getCorpName(), stockCode, item.getCorpClass(),
+                    item.getReportName(), item.getSubmitterName(), receiptDates.get(item.getReceiptNo()), item.getRemark(),
+                    now, now});
+        }
+
+        long startNanos = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            batchUpdate(INSERT_MISSING_COMPANY_PROFILE_SQL, new ArrayList<>(profileRows.values()));
+            batchUpdate(UPSERT_DISCLOSURE_SQL, disclosureRows);
+        });
+        log.info("공시 일괄 저장 완료: 메시지 {}건, 공시 {}건, 회사 {}건, 소요 {}ms",
+                responses.size(), disclosureRows.size(), profileRows.size(), (System.nanoTime() - startNanos) / 1_000_000);
+
+        // 공시 검색 캐시 키는 "고유번호_시작일_종료일" 이므로 회사별로 모든 기간을 무효화
+        profileRows.keySet().forEach(corpCode -> cacheService.evictByKeyPrefix(DISCLOSURE_SEARCH_CACHE_NAME, corpCode + "_"));
+        return disclosureRows.size();
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(sql, rows, jdbcBatchSize, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+
+    private static LocalDate parseReceiptDate(String receiptDate) {
+        if (isBlank(receiptDate)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(receiptDate.trim(), RECEIPT_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return isBlank(value) ? null : value.trim();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
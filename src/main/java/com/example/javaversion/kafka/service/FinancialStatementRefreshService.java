@@ -0,0 +1,137 @@
+/**
+ * @file FinancialStatementRefreshService.java
+ * @description 조회한 재무제표 항목을 DB에 반영하는 서비스입니다.
+ *              항목 목록의 해시를 마지막 저장 해시와 비교하여 변경이 없으면 쓰기를 생략하고(DIFF),
+ *              변경된 경우에만 단일 DELETE + 배치 INSERT 로 짧은 트랜잭션 안에서 교체합니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.database.entity.FinancialStatementData;
+import com.example.javaversion.database.entity.FinancialStatementDigest;
+import com.example.javaversion.database.repository.FinancialStatementDataRepository;
+import com.example.javaversion.database.repository.FinancialStatementDigestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FinancialStatementRefreshService {
+
+    /**
+     * 재무제표 반영 방식
+     * DIFF: 해시가 같으면 쓰기 생략, 다르면 교체
+     * REPLACE: 해시 비교 없이 항상 교체
+     */
+    public enum RefreshMode { DIFF, REPLACE }
+
+    public enum RefreshResult { UNCHANGED, REPLACED }
+
+    private static final String FS_DIV_OFS = "OFS";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+
+    private final FinancialStatementDataRepository financialStatementDataRepository;
+    private final FinancialStatementDigestRepository financialStatementDigestRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${dart.financial-statement.refresh-mode:DIFF}")
+    private RefreshMode refreshMode;
+
+    /**
+     * 재무제표 한 건(회사, 사업연도, 보고서 코드, 재무제표 구분)의 항목을 반영합니다.
+     *
+     * @param rows 저장할 항목 (DART 응답 순서 유지)
+     * @return 반영 결과
+     */
+    public RefreshResult refresh(String corpCode, String bsnsYear, String reprtCode, String fsDiv, List<FinancialStatementData> rows) {
+        String statementKey = FinancialStatementDigest.keyOf(corpCode, bsnsYear, reprtCode, fsDiv);
+        String contentHash = hash(rows);
+
+        if (refreshMode == RefreshMode.DIFF) {
+            Optional<FinancialStatementDigest> digest = financialStatementDigestRepository.findById(statementKey);
+            if (digest.isPresent() && contentHash.equals(digest.get().getContentHash())) {
+                log.info("재무제표 변경 없음, 저장 생략: key={}, 항목 수={}", statementKey, rows.size());
+                return RefreshResult.UNCHANGED;
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            int deletedCount = financialStatementDataRepository.bulkDeleteStatement(
+                    corpCode, bsnsYear, reprtCode, fsDiv, FS_DIV_OFS.equals(fsDiv));
+            financialStatementDataRepository.saveAll(rows);
+
+            FinancialStatementDigest digest = financialStatementDigestRepository.findById(statementKey)
+                    .orElseGet(() -> FinancialStatementDigest.builder()
+                            .statementKey(statementKey)
+                            .corpCode(corpCode)
+                            .bsnsYear(bsnsYear)
+                            .reprtCode(reprtCode)
+                            .fsDiv(fsDiv)
+                            .build());
+            digest.setContentHash(contentHash);
+            digest.setItemCount(rows.size());
+            financialStatementDigestRepository.save(digest);
+
+            log.info("재무제표 교체 완료: key={}, 삭제={}건, 저장={}건", statementKey, deletedCount, rows.size());
+        });
+        long elapsedMillis = Math.max(1L, (System.nanoTime() - startNanos) / 1_000_000L);
+        log.info("재무제표 적재 처리량: key={}, {}건 / {}ms ({} rows/sec)",
+                statementKey, rows.size(), elapsedMillis, rows.size() * 1000L / elapsedMillis);
+        return RefreshResult.REPLACED;
+    }
+
+    /**
+     * 저장 대상 컬럼을 순서대로 이어 붙여 SHA-256 해시를 계산합니다.
+     */
+    private String hash(List<FinancialStatementData> rows) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+        StringBuilder builder = new StringBuilder(256);
+        for (FinancialStatementData row : rows) {
+            builder.setLength(0);
+            append(builder, row.getSjDiv());
+            append(builder, row.getAccountId());
+            append(builder, row.getAccountNm());
+            append(builder, row.getAccountKey());
+            append(builder, row.getThstrmNm());
+            append(builder, row.getThstrmAmount());
+            append(builder, row.getThstrmAddAmount());
+            append(builder, row.getFrmtrmNm());
+            append(builder, row.getFrmtrmAmount());
+            append(builder, row.getFrmtrmQNm());
+            append(builder, row.getFrmtrmQAmount());
+            append(builder, row.getFrmtrmAddAmount());
+            append(builder, row.getBfefrmtrmNm());
+            append(builder, row.getBfefrmtrmAmount());
+            append(builder, row.getCurrency());
+            builder.append(RECORD_SEPARATOR);
+            messageDigest.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static void append(StringBuilder builder, String value) {
+        if (value != null) {
+            builder.append(value);
+        }
+        builder.append(FIELD_SEPARATOR);
+    }
+}
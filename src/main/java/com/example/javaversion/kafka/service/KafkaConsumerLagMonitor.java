@@ -0,0 +1,127 @@
+/**
+ * @file KafkaConsumerLagMonitor.java
+ * @description 컨슈머 그룹의 토픽별 지연(lag)을 주기적으로 조회하여 게이지(kafka.consumer.group.lag)로 노출합니다.
+ *              커밋된 오프셋과 각 파티션의 마지막 오프셋 차이를 토픽별로 합산하므로,
+ *              인스턴스가 여러 개여도 그룹 전체가 얼마나 뒤처져 있는지 한 값으로 확인할 수 있습니다.
+ *              (인스턴스별 할당 파티션 지연은 Kafka 클라이언트 메트릭 kafka.consumer.fetch.manager.records.lag 참고)
+ */
+package com.example.javaversion.kafka.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaConsumerLagMonitor {
+
+    static final String LAG_GAUGE_NAME = "kafka.consumer.group.lag";
+
+    private final KafkaAdmin kafkaAdmin;
+    private final MeterRegistry meterRegistry;
+
+    /** 토픽별 지연 게이지 값 */
+    private final Map<String, AtomicLong> lagByTopic = new ConcurrentHashMap<>();
+
+    private volatile AdminClient adminClient;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${kafka.metrics.lag.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kafka.metrics.lag.timeout-seconds:10}")
+    private long timeoutSeconds;
+
+    /**
+     * 컨슈머 그룹의 토픽별 지연을 조회하여 게이지를 갱신합니다.
+     * 조회에 실패하면 이전 값을 유지하고 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${kafka.metrics.lag.interval-ms:30000}", initialDelayString = "${kafka.metrics.lag.interval-ms:30000}")
+    public void refreshLag() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            AdminClient admin = adminClient();
+            Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(timeoutSeconds, TimeUnit.SECONDS);
+
+            Map<TopicPartition, OffsetSpec> latestRequest = new HashMap<>();
+            committed.forEach((partition, offset) -> {
+                if (offset != null) {
+                    latestRequest.put(partition, OffsetSpec.latest());
+                }
+            });
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> latest = latestRequest.isEmpty()
+                    ? Map.of()
+                    : admin.listOffsets(latestRequest).all().get(timeoutSeconds, TimeUnit.SECONDS);
+
+            Map<String, Long> lagSums = new HashMap<>();
+            latest.forEach((partition, info) -> {
+                long lag = Math.max(0L, info.offset() - committed.get(partition).offset());
+                lagSums.merge(partition.topic(), lag, Long::sum);
+            });
+
+            // 더 이상 커밋 오프셋이 없는 토픽은 0으로 표시
+            lagByTopic.forEach((topic, value) -> {
+                if (!lagSums.containsKey(topic)) {
+                    value.set(0L);
+                }
+            });
+            lagSums.forEach((topic, lag) -> gauge(topic).set(lag));
+            log.debug("컨슈머 그룹 지연 갱신 - 그룹: {}, 토픽별 지연: {}", groupId, lagSums);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("컨슈머 그룹 지연 조회 실패 - 그룹: {}, 오류: {}", groupId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (adminClient != null) {
+            adminClient.close();
+        }
+    }
+
+    private AtomicLong gauge(String topic) {
+        return lagByTopic.computeIfAbsent(topic, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(LAG_GAUGE_NAME, value, AtomicLong::get)
+                    .description("컨슈머 그룹의 토픽별 미처리 메시지 수 (마지막 오프셋 - 커밋 오프셋 합계)")
+                    .tag("group", groupId)
+                    .tag("topic", key)
+                    .baseUnit("records")
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private AdminClient adminClient() {
+        if (adminClient == null) {
+            adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        }
+        return adminClient;
+    }
+}
@@ -2,39 +2,59 @@
  * @file KafkaConsumerService.java
  * @description Kafka 메시지 소비 서비스입니다.
  *              Kafka 토픽으로부터 메시지를 수신하고 처리합니다.
+ *              회사 정보/공시 토픽은 다른 서비스가 보낸 DART 응답을 poll 단위 배치로 받아 DB와 캐시에 반영합니다. (DartDataIngestService)
+ *              DART 요청 한도 초과, 타임아웃 등 일시적인 실패는 TransientApiException 으로 전파하여
+ *              재시도 토픽(지수 백오프)에서 다시 처리하고, 그 외 실패와 재시도 소진 메시지는 DLT 로 보냅니다. (KafkaConfig 참고)
+ *              파트너 회사 이벤트는 DART 고유번호를 키로 발행되어 같은 기업의 이벤트가 한 파티션에서 순서대로 처리됩니다.
+ *              DB의 현재 상태와 맞지 않는(이후 이벤트로 대체된) 이벤트는 건너뛰고,
+ *              마지막 동기화가 신선도 기준보다 최근이면 공시/재무제표 DART 호출을 생략하여 DART 호출 수가 이벤트 수가 아닌 기업 수에 비례하도록 합니다.
+ *              토픽별 처리 건수/오류 수와 파트너 회사 처리 단계별 소요 시간을 메트릭으로 기록합니다. (KafkaListenerMetrics)
  */
 package com.example.javaversion.kafka.service;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.example.javaversion.common.exception.TransientApiException;
+import com.example.javaversion.common.util.WorkloadContext;
 import com.example.javaversion.dart.dto.CompanyProfileResponse;
 import com.example.javaversion.dart.dto.DisclosureSearchResponse;
 import com.example.javaversion.dart.dto.FinancialStatementResponseDto;
 import com.example.javaversion.dart.service.DartApiService;
+import com.example.javaversion.dart.service.DartCallScheduler;
+import com.example.javaversion.dart.service.FinancialAccountNormalizer;
 import com.example.javaversion.database.entity.CompanyProfile;
 import com.example.javaversion.database.entity.Disclosure;
 import com.example.javaversion.database.entity.FinancialStatementData;
+import com.example.javaversion.database.entity.PartnerCompany;
 import com.example.javaversion.database.repository.CompanyProfileRepository;
 import com.example.javaversion.database.repository.DisclosureRepository;
-import com.example.javaversion.database.repository.FinancialStatementDataRepository;
 import com.example.javaversion.database.repository.PartnerCompanyRepository;
 import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
+import com.example.javaversion.kafka.config.KafkaConfig;
 import com.example.javaversion.kafka.dto.NewsAnalysisRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Service
@@ -42,84 +62,164 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class KafkaConsumerService {
 
+    /** DART 조회 실패 시 생성하는 임시 회사 프로필의 회사명 접두사 (임시 여부는 placeholder 컬럼으로 판단) */
+    private static final String DEFAULT_CORP_NAME_PREFIX = "기본 회사명_";
+    /** 처리 단계 메트릭의 파트너 회사 리스너 이름 */
+    private static final String PARTNER_COMPANY_LISTENER = "partner-company";
+    /** DART 정상 응답 상태 코드 */
+    private static final String DART_STATUS_SUCCESS = "000";
+    /** DART 조회된 데이터 없음 상태 코드 */
+    private static final String DART_STATUS_NO_DATA = "013";
+
     private final ObjectMapper objectMapper;
     private final DartApiService dartApiService;
+    private final FinancialAccountNormalizer financialAccountNormalizer;
     private final PartnerCompanyRepository partnerCompanyRepository;
     private final CompanyProfileRepository companyProfileRepository;
     private final DisclosureRepository disclosureRepository;
-    private final FinancialStatementDataRepository financialStatementDataRepository;
+    private final FinancialStatementRefreshService financialStatementRefreshService;
     private final KafkaProducerService kafkaProducerService;
+    private final DartDataIngestService dartDataIngestService;
+    private final KafkaListenerMetrics listenerMetrics;
 
     @Value("${dart.api.key}")
     private String dartApiKey;
 
+    @Value("${kafka.topic.partner-company}")
+    private String partnerCompanyTopic;
+
     @Value("${kafka.topic.news-keywords}")
     private String newsKeywordsTopic;
 
-    private static final String FS_DIV_OFS = "OFS";
-    private static final String[] REPORT_CODES_ANNUAL_QUARTERLY = {"11011", "11012", "11013", "11014"};
+    @Value("${dart.financial-statement.fs-divs:OFS,CFS}")
+    private List<String> fsDivs;
+
+    @Value("${dart.financial-statement.fetch-concurrency:8}")
+    private int fetchConcurrency;
+
+    /** 마지막 공시/재무제표 동기화 후 이 시간(분) 안에 들어온 같은 기업의 이벤트는 DART 재조회를 생략 (0 이하이면 항상 조회) */
+    @Value("${partner.enrichment.sync-freshness-minutes:360}")
+    private long syncFreshnessMinutes;
+
 
     /**
-     * 회사 정보 토픽에서 메시지를 소비합니다.
+     * 회사 정보 토픽에서 DART 회사 개황 조회 결과(CompanyProfileResponse JSON)를 poll 단위로 받아 한 번에 저장합니다.
      *
-     * @param message 수신된 메시지
+     * @param records 수신된 메시지 목록
      */
-    @KafkaListener(topics = "${kafka.topic.company-profile}", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeCompanyProfile(String message) {
-        log.info("회사 정보 메시지 수신: {}", message);
-        try {
-            // 실제 구현에서는 메시지를 처리하는 로직 추가
-            log.info("회사 정보 메시지 처리 완료");
-        } catch (Exception e) {
-            log.error("회사 정보 메시지 처리 중 오류 발생", e);
-        }
+    @KafkaListener(topics = "${kafka.topic.company-profile}", groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConfig.DART_DATA_BATCH_LISTENER_FACTORY)
+    public void consumeCompanyProfile(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("회사 정보 메시지 수신: {}건", records.size());
+        ingestBatch(records, CompanyProfileResponse.class, dartDataIngestService::upsertCompanyProfiles);
     }
 
     /**
-     * 공시 정보 토픽에서 메시지를 소비합니다.
+     * 공시 정보 토픽에서 DART 공시 검색 결과(DisclosureSearchResponse JSON)를 poll 단위로 받아 한 번에 저장합니다.
      *
-     * @param message 수신된 메시지
+     * @param records 수신된 메시지 목록
      */
-    @KafkaListener(topics = "${kafka.topic.disclosure}", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeDisclosure(String message) {
-        log.info("공시 정보 메시지 수신: {}", message);
+    @KafkaListener(topics = "${kafka.topic.disclosure}", groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConfig.DART_DATA_BATCH_LISTENER_FACTORY)
+    public void consumeDisclosure(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("공시 정보 메시지 수신: {}건", records.size());
+        ingestBatch(records, DisclosureSearchResponse.class, dartDataIngestService::upsertDisclosures);
+    }
+
+    /**
+     * 메시지를 타입으로 변환하여 한 번에 저장합니다.
+     * 변환에 실패한 메시지가 있으면 그 앞까지 저장한 뒤 실패 위치를 BatchListenerFailedException 으로 알려
+     * 앞선 메시지의 오프셋은 커밋되고 실패한 메시지는 DLT 로, 이후 메시지는 다음 poll 에서 다시 처리되도록 합니다.
+     * 저장(DB) 실패는 배치 전체를 재시도합니다.
+     */
+    private <T> void ingestBatch(List<ConsumerRecord<String, byte[]>> records, Class<T> type, Consumer<List<T>> ingester) {
+        if (records.isEmpty()) {
+            return;
+        }
+        String topic = records.get(0).topic();
+        List<T> messages = new ArrayList<>(records.size());
+        int skipped = 0;
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, byte[]> record = records.get(i);
+            if (record.value() == null) {
+                log.debug("값이 없는 메시지 건너뜀: 토픽={}, 오프셋={}", record.topic(), record.offset());
+                skipped++;
+                continue;
+            }
+            try {
+                messages.add(objectMapper.readValue(record.value(), type));
+            } catch (IOException e) {
+                listenerMetrics.recordError(topic, e);
+                listenerMetrics.recordProcessed(topic, KafkaListenerMetrics.Outcome.FAILURE, 1);
+                persistBatch(topic, messages, skipped, ingester);
+                throw new BatchListenerFailedException(
+                        "메시지 변환 실패: 토픽=" + record.topic() + ", 오프셋=" + record.offset(), e, i);
+            }
+        }
+        persistBatch(topic, messages, skipped, ingester);
+    }
+
+    private <T> void persistBatch(String topic, List<T> messages, int skipped, Consumer<List<T>> ingester) {
         try {
-            // 실제 구현에서는 메시지를 처리하는 로직 추가
-            log.info("공시 정보 메시지 처리 완료");
-        } catch (Exception e) {
-            log.error("공시 정보 메시지 처리 중 오류 발생", e);
+            ingester.accept(messages);
+        } catch (RuntimeException e) {
+            listenerMetrics.recordError(topic, e);
+            listenerMetrics.recordProcessed(topic, KafkaListenerMetrics.Outcome.FAILURE, messages.size());
+            throw e;
         }
+        listenerMetrics.recordProcessed(topic, KafkaListenerMetrics.Outcome.SUCCESS, messages.size());
+        listenerMetrics.recordProcessed(topic, KafkaListenerMetrics.Outcome.SKIPPED, skipped);
     }
 
     /**
      * 파트너 회사 토픽에서 메시지를 소비합니다.
+     * DART 호출 동안 DB 커넥션을 점유하지 않도록 메소드 전체를 트랜잭션으로 묶지 않고, 저장 단계마다 짧은 트랜잭션을 사용합니다.
      *
      * @param partnerCompanyDto 수신된 메시지
      */
     @KafkaListener(topics = "${kafka.topic.partner-company}", groupId = "${spring.kafka.consumer.group-id}")
-    @Transactional
     public void consumePartnerCompany(PartnerCompanyResponseDto partnerCompanyDto) {
         log.info("파트너 회사 DTO 메시지 수신: {}", partnerCompanyDto);
         try {
             log.info("파트너 회사 메시지 자동 변환 완료: ID={}, 회사명={}, 고유번호={}", 
                      partnerCompanyDto.getId(), partnerCompanyDto.getCorpName(), partnerCompanyDto.getCorpCode());
 
-            partnerCompanyRepository.findById(partnerCompanyDto.getId()).ifPresentOrElse(
+            Optional<PartnerCompany> currentPartner = partnerCompanyRepository.findById(partnerCompanyDto.getId());
+            currentPartner.ifPresentOrElse(
                 partner -> log.info("DB에서 파트너사 확인: ID={}, 이름={}", partner.getId(), partner.getCompanyName()),
                 () -> log.warn("파트너사 ID {} 에 해당하는 정보가 DB에 없습니다. (Kafka 메시지 기준 처리 계속)", partnerCompanyDto.getId())
             );
 
+            if (isStaleEvent(partnerCompanyDto, currentPartner.orElse(null))) {
+                listenerMetrics.recordProcessed(partnerCompanyTopic, KafkaListenerMetrics.Outcome.SKIPPED, 1);
+                return;
+            }
+
             if (partnerCompanyDto.getCorpCode() != null && !partnerCompanyDto.getCorpCode().isEmpty()) {
                 String corpCode = partnerCompanyDto.getCorpCode();
                 log.info("DART 연동 시작: corpCode={}", corpCode);
 
-                CompanyProfile companyProfile = saveOrUpdateCompanyProfileByCorpCode(corpCode);
+                CompanyProfile companyProfile = listenerMetrics.timePhase(PARTNER_COMPANY_LISTENER, "profile",
+                        () -> saveOrUpdateCompanyProfileByCorpCode(corpCode));
+                completePendingEnrichment(partnerCompanyDto, companyProfile);
+
+                if (companyProfile != null && isRecentlySynced(companyProfile)) {
+                    log.info("최근 동기화된 기업이므로 공시/재무제표 조회 생략: corpCode={}, 마지막 동기화={}",
+                            corpCode, companyProfile.getLastSyncedAt());
+                } else if (companyProfile != null) {
+                    boolean disclosuresSynced = listenerMetrics.timePhase(PARTNER_COMPANY_LISTENER, "disclosures",
+                            () -> retrieveAndSaveDisclosures(corpCode, companyProfile));
 
-                if (companyProfile != null) {
-                    retrieveAndSaveDisclosures(corpCode, companyProfile);
+                    boolean statementsSynced = retrieveAndSaveRecentFinancialStatements(corpCode);
+
+                    // 일부 조회/저장이 실패했으면 다음 이벤트에서 다시 조회하도록 마지막 동기화 시각을 갱신하지 않음
+                    if (disclosuresSynced && statementsSynced && !companyProfile.isPlaceholder()) {
+                        companyProfileRepository.updateLastSyncedAt(corpCode, LocalDateTime.now());
+                    } else {
+                        log.warn("공시/재무제표 동기화가 완전하지 않아 마지막 동기화 시각 유지: corpCode={}, 공시={}, 재무제표={}, 임시 프로필={}",
+                                corpCode, disclosuresSynced, statementsSynced, companyProfile.isPlaceholder());
+                    }
 
-                    retrieveAndSaveRecentFinancialStatements(corpCode);
-                    
                     log.info("파트너사 등록 완료. 뉴스 크롤링은 스케줄러가 주기적으로 처리합니다: corpCode={}", corpCode);
                 } else {
                     log.warn("회사 프로필 정보를 가져오거나 생성할 수 없어 DART 연동 중단: corpCode={}", corpCode);
@@ -131,20 +231,85 @@ public class KafkaConsumerService {
             }
 
             log.info("파트너 회사 메시지 처리 완료: ID={}", partnerCompanyDto.getId());
-        } catch (Exception e) {
-            log.error("파트너 회사 메시지 처리 중 오류 발생: ID={}", partnerCompanyDto.getId(), e);
+            listenerMetrics.recordProcessed(partnerCompanyTopic, KafkaListenerMetrics.Outcome.SUCCESS, 1);
+        } catch (TransientApiException e) {
+            listenerMetrics.recordError(partnerCompanyTopic, e);
+            listenerMetrics.recordProcessed(partnerCompanyTopic, KafkaListenerMetrics.Outcome.FAILURE, 1);
+            log.warn("파트너 회사 메시지 처리 중 일시적 오류 - 재시도 토픽에서 다시 처리: ID={}, 오류={}", partnerCompanyDto.getId(), e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            listenerMetrics.recordError(partnerCompanyTopic, e);
+            listenerMetrics.recordProcessed(partnerCompanyTopic, KafkaListenerMetrics.Outcome.FAILURE, 1);
+            log.error("파트너 회사 메시지 처리 중 오류 발생 - DLT 로 전달: ID={}", partnerCompanyDto.getId(), e);
+            throw e;
         }
     }
 
+    /**
+     * 이후 이벤트로 대체되어 더 이상 DB 상태와 맞지 않는 이벤트인지 확인합니다.
+     * 비활성화(삭제) 이벤트, DB에서 이미 비활성화되었거나 고유번호가 바뀐 파트너사의 이벤트는 보강할 필요가 없으며,
+     * 고유번호가 바뀐 경우에는 새 고유번호를 키로 발행된 최신 이벤트가 보강을 수행합니다.
+     */
+    private boolean isStaleEvent(PartnerCompanyResponseDto partnerCompanyDto, PartnerCompany currentPartner) {
+        if (partnerCompanyDto.getStatus() == PartnerCompanyStatus.INACTIVE) {
+            log.info("비활성화된 파트너사 이벤트이므로 DART 연동 생략: ID={}", partnerCompanyDto.getId());
+            return true;
+        }
+        if (currentPartner == null) {
+            return false;
+        }
+        if (currentPartner.getStatus() == PartnerCompanyStatus.INACTIVE) {
+            log.info("DB에서 이미 비활성화된 파트너사이므로 이전 이벤트 건너뜀: ID={}", partnerCompanyDto.getId());
+            return true;
+        }
+        if (!Objects.equals(currentPartner.getCorpCode(), partnerCompanyDto.getCorpCode())) {
+            log.info("고유번호가 변경된 파트너사의 이전 이벤트 건너뜀: ID={}, 이벤트 고유번호={}, 현재 고유번호={}",
+                    partnerCompanyDto.getId(), partnerCompanyDto.getCorpCode(), currentPartner.getCorpCode());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 회사 프로필의 마지막 공시/재무제표 동기화가 신선도 기준 시간 안에 있는지 확인합니다.
+     */
+    private boolean isRecentlySynced(CompanyProfile companyProfile) {
+        LocalDateTime lastSyncedAt = companyProfile.getLastSyncedAt();
+        return syncFreshnessMinutes > 0 && lastSyncedAt != null
+                && lastSyncedAt.isAfter(LocalDateTime.now().minusMinutes(syncFreshnessMinutes));
+    }
+
+    /**
+     * 등록/수정 요청 시 DART 정보를 채우지 못한(PENDING) 파트너사에 회사 프로필의 주식 코드를 반영합니다.
+     * DART 조회에 실패하여 임시 프로필(placeholder)만 있는 경우에는 FAILED 로 표시합니다.
+     * 임시 프로필은 다음 이벤트 처리 시 DART 를 다시 조회하므로, 이후 같은 기업의 이벤트에서 COMPLETED 로 바뀔 수 있습니다.
+     */
+    private void completePendingEnrichment(PartnerCompanyResponseDto partnerCompanyDto, CompanyProfile companyProfile) {
+        if (partnerCompanyDto.getEnrichmentStatus() != PartnerEnrichmentStatus.PENDING) {
+            return;
+        }
+        boolean fetched = companyProfile != null && !companyProfile.isPlaceholder();
+        String stockCode = fetched && companyProfile.getStockCode() != null && !companyProfile.getStockCode().isBlank()
+                ? companyProfile.getStockCode().trim() : null;
+        PartnerEnrichmentStatus result = fetched ? PartnerEnrichmentStatus.COMPLETED : PartnerEnrichmentStatus.FAILED;
+
+        int updated = partnerCompanyRepository.completeEnrichment(partnerCompanyDto.getId(), stockCode, result);
+        log.info("파트너사 DART 정보 비동기 보강: ID={}, 주식코드={}, 결과={}, 반영={}건",
+                partnerCompanyDto.getId(), stockCode, result, updated);
+    }
+
     private CompanyProfile saveOrUpdateCompanyProfileByCorpCode(String corpCode) {
         try {
-            // 먼저 DB에서 회사 프로필이 이미 존재하는지 확인
+            // 먼저 DB에서 회사 프로필이 이미 존재하는지 확인 (임시 프로필이면 DART 를 다시 조회)
             Optional<CompanyProfile> existingProfile = companyProfileRepository.findById(corpCode);
-            if (existingProfile.isPresent()) {
+            if (existingProfile.isPresent() && !existingProfile.get().isPlaceholder()) {
                 log.info("DB에서 기존 회사 프로필 정보 발견: corpCode={}, corpName={}", 
                         corpCode, existingProfile.get().getCorpName());
                 return existingProfile.get();
             }
+            if (existingProfile.isPresent()) {
+                log.info("임시 회사 프로필이므로 DART 재조회: corpCode={}", corpCode);
+            }
 
             log.info("DART API를 통해 회사 정보 조회 시도 (transform 사용): corpCode={}", corpCode);
 
@@ -164,7 +329,7 @@ public class KafkaConsumerService {
                         log.warn("DART API 응답이 비어있음 (transform - switchIfEmpty): corpCode={}", corpCode);
                         return null;
                     }))
-                    .onErrorResume(e -> {
+                    .onErrorResume(e -> !TransientApiException.isTransient(e), e -> {
                         log.error("DART API 처리 중 예외 발생 (transform - onErrorResume): corpCode={}", corpCode, e);
                         return Mono.<CompanyProfile>empty();
                     });
@@ -175,13 +340,17 @@ public class KafkaConsumerService {
 
             if (profileOptional.isPresent()) {
                 return profileOptional.get();
+            } else if (existingProfile.isPresent()) {
+                log.info("DART API에서 정보를 가져오지 못해 기존 임시 회사 프로필 유지: corpCode={}", corpCode);
+                return existingProfile.get();
             } else {
                 // DART API에서 정보를 가져오지 못한 경우, 기본 프로필 생성
                 log.info("DART API에서 정보를 가져오지 못해 기본 회사 프로필 생성: corpCode={}", corpCode);
                 LocalDateTime now = LocalDateTime.now();
                 CompanyProfile defaultProfile = CompanyProfile.builder()
                         .corpCode(corpCode)
-                        .corpName("기본 회사명_" + corpCode) // 기본 회사명 (필수 필드)
+                        .corpName(DEFAULT_CORP_NAME_PREFIX + corpCode) // 기본 회사명 (필수 필드)
+                        .placeholder(true)
                         .createdAt(now)
                         .updatedAt(now)
                         .build();
@@ -189,6 +358,11 @@ public class KafkaConsumerService {
             }
 
         } catch (Exception e) {
+            TransientApiException transientFailure = TransientApiException.wrapIfTransient("DART 회사 정보 조회 일시적 실패", e);
+            if (transientFailure != null) {
+                // 기본 프로필을 만들지 않고 재시도에 맡김
+                throw transientFailure;
+            }
             log.error("saveOrUpdateCompanyProfileByCorpCode 메소드 실행 중 예상치 못한 예외 발생: corpCode={}", corpCode, e);
             return null;
         }
@@ -225,6 +399,7 @@ public class KafkaConsumerService {
         companyProfile.setIndustry(profileResponse.getIndustry());
         companyProfile.setEstablishmentDate(profileResponse.getEstablishmentDate());
         companyProfile.setAccountingMonth(profileResponse.getAccountingMonth());
+        companyProfile.setPlaceholder(false);
         companyProfile.setUpdatedAt(LocalDateTime.now());
     }
 
@@ -252,7 +427,11 @@ public class KafkaConsumerService {
                 .build();
     }
 
-    private void retrieveAndSaveDisclosures(String corpCode, CompanyProfile companyProfile) {
+    /**
+     * 최근 1년간의 공시 정보를 조회하여 저장합니다.
+     * @return 조회와 모든 공시 저장에 성공했으면 true (일시적 오류는 TransientApiException 으로 전파)
+     */
+    private boolean retrieveAndSaveDisclosures(String corpCode, CompanyProfile companyProfile) {
         log.info("회사의 공시 정보 조회 및 저장: corpCode={}", corpCode);
         try {
             LocalDate endDate = LocalDate.now();
@@ -265,23 +444,32 @@ public class KafkaConsumerService {
                     dartApiService.searchDisclosures(corpCode, startDateStr, endDateStr).block();
             if (disclosureResponse != null && disclosureResponse.getList() != null && !disclosureResponse.getList().isEmpty()) {
                 log.info("공시 정보 조회 성공: {} 건", disclosureResponse.getList().size());
+                int failed = 0;
                 for (DisclosureSearchResponse.DisclosureItem item : disclosureResponse.getList()) {
-                    saveDisclosure(item, companyProfile);
+                    if (!saveDisclosure(item, companyProfile)) {
+                        failed++;
+                    }
                 }
-                log.info("공시 정보 저장 완료: corpCode={}, 건수={}", 
-                        corpCode, disclosureResponse.getList().size());
-            } else {
-                log.info("조회된 공시 정보가 없습니다: corpCode={}", corpCode);
+                log.info("공시 정보 저장 완료: corpCode={}, 건수={}, 실패={}",
+                        corpCode, disclosureResponse.getList().size(), failed);
+                return failed == 0;
             }
+            log.info("조회된 공시 정보가 없습니다: corpCode={}", corpCode);
+            return true;
         } catch (Exception e) {
+            TransientApiException transientFailure = TransientApiException.wrapIfTransient("DART 공시 검색 일시적 실패", e);
+            if (transientFailure != null) {
+                throw transientFailure;
+            }
             log.error("공시 정보 조회 및 저장 중 오류 발생: corpCode={}", corpCode, e);
+            return false;
         }
     }
 
-    private void saveDisclosure(DisclosureSearchResponse.DisclosureItem item, CompanyProfile companyProfile) {
+    private boolean saveDisclosure(DisclosureSearchResponse.DisclosureItem item, CompanyProfile companyProfile) {
         if (disclosureRepository.existsById(item.getReceiptNo())) {
             log.debug("이미 존재하는 공시 정보입니다: receiptNo={}", item.getReceiptNo());
-            return;
+            return true;
         }
         try {
             LocalDate receiptDate = LocalDate.parse(item.getReceiptDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
@@ -300,8 +488,10 @@ public class KafkaConsumerService {
                     .build();
             disclosureRepository.save(disclosure);
             log.debug("공시 정보 저장 완료: receiptNo={}, reportName={}", item.getReceiptNo(), item.getReportName());
+            return true;
         } catch (Exception e) {
             log.error("공시 정보 저장 중 오류 발생: receiptNo={}", item.getReceiptNo(), e);
+            return false;
         }
     }
 
@@ -309,58 +499,120 @@ public class KafkaConsumerService {
      * 특정 회사의 최근 1~2년치 주요 재무제표를 조회하고 DB에 저장합니다.
      * - 작년도: 사업보고서 (11011)
      * - 올해: 1분기(11013), 반기(11012), 3분기(11014) 보고서 (존재하는 경우)
+     * 보고서 코드 × 재무제표 구분(OFS/CFS) 조합을 DartCallScheduler 허가 범위 내에서 동시에 조회한 뒤 순차 저장합니다.
+     * 일부 조회가 일시적으로 실패하면 성공한 재무제표를 먼저 저장한 뒤 TransientApiException 을 던져 메시지를 재시도합니다.
+     * (재시도 시 변경 없는 재무제표는 해시 비교로 저장을 생략)
      * @param corpCode 회사 고유번호
+     * @return 모든 조회와 저장에 성공했으면 true, 일시적이지 않은 조회/저장 실패가 있었으면 false
      */
-    private void retrieveAndSaveRecentFinancialStatements(String corpCode) {
-        log.info("최근 1~2년치 재무제표 조회 및 저장 시작: corpCode={}", corpCode);
+    private boolean retrieveAndSaveRecentFinancialStatements(String corpCode) {
+        log.info("최근 1~2년치 재무제표 조회 및 저장 시작: corpCode={}, fsDivs={}", corpCode, fsDivs);
         LocalDate today = LocalDate.now();
         String currentYear = String.valueOf(today.getYear());
         String lastYear = String.valueOf(today.minusYears(1).getYear());
 
-        retrieveAndSaveSingleFinancialStatement(corpCode, lastYear, "11011");
+        List<StatementRequest> requests = new ArrayList<>();
+        for (String fsDiv : fsDivs) {
+            requests.add(new StatementRequest(lastYear, "11011", fsDiv));
+            requests.add(new StatementRequest(currentYear, "11014", fsDiv));
+            requests.add(new StatementRequest(currentYear, "11012", fsDiv));
+            requests.add(new StatementRequest(currentYear, "11013", fsDiv));
+        }
+
+        List<FetchedStatement> fetched = listenerMetrics.timePhase(PARTNER_COMPANY_LISTENER, "financial-statements",
+                () -> Flux.fromIterable(requests)
+                        .flatMap(request -> fetchFinancialStatement(corpCode, request), fetchConcurrency)
+                        // 뒤이은 조회는 응답 스레드에서 시작되므로 리스너 스레드의 우선순위(INGEST)를 Context 로 전달
+                        .contextWrite(DartCallScheduler.priorityContext(WorkloadContext.current()))
+                        .collectList()
+                        .block());
 
-        retrieveAndSaveSingleFinancialStatement(corpCode, currentYear, "11014");
-        retrieveAndSaveSingleFinancialStatement(corpCode, currentYear, "11012");
-        retrieveAndSaveSingleFinancialStatement(corpCode, currentYear, "11013");
+        if (fetched == null) {
+            return false;
+        }
+        PersistenceResult result = listenerMetrics.timePhase(PARTNER_COMPANY_LISTENER, "persistence", () -> {
+            Throwable transientFailure = null;
+            int failed = 0;
+            for (FetchedStatement statement : fetched) {
+                if (statement.failure() != null) {
+                    if (TransientApiException.isTransient(statement.failure())) {
+                        transientFailure = statement.failure();
+                    } else {
+                        failed++;
+                    }
+                    continue;
+                }
+                if (!saveSingleFinancialStatement(corpCode, statement.request(), statement.response())) {
+                    failed++;
+                }
+            }
+            return new PersistenceResult(transientFailure, failed);
+        });
+        if (result.transientFailure() != null) {
+            throw TransientApiException.wrapIfTransient("DART 재무제표 조회 일시적 실패", result.transientFailure());
+        }
+        return result.failed() == 0;
+    }
+
+    private Mono<FetchedStatement> fetchFinancialStatement(String corpCode, StatementRequest request) {
+        log.info("단일 재무제표 조회 시도: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}",
+                 corpCode, request.bsnsYear(), request.reprtCode(), request.fsDiv());
+        long startNanos = System.nanoTime();
+        return dartApiService.getFinancialStatement(corpCode, request.bsnsYear(), request.reprtCode(), request.fsDiv())
+                // 요청 제한 초과(020)는 WebClientService 에서 TransientApiException 으로 전달됨 (캐시되지 않음)
+                .map(response -> new FetchedStatement(request, response, null))
+                .doOnNext(statement -> listenerMetrics.recordDartFetch(
+                        request.reprtCode(), request.fsDiv(), "success", System.nanoTime() - startNanos))
+                .onErrorResume(e -> {
+                    boolean transientError = TransientApiException.isTransient(e);
+                    listenerMetrics.recordDartFetch(request.reprtCode(), request.fsDiv(),
+                            transientError ? "transient_failure" : "failure", System.nanoTime() - startNanos);
+                    if (transientError) {
+                        log.warn("재무제표 조회 일시적 실패: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}, 오류={}",
+                                corpCode, request.bsnsYear(), request.reprtCode(), request.fsDiv(), e.getMessage());
+                    } else {
+                        log.error("재무제표 조회 중 예외 발생: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}",
+                                  corpCode, request.bsnsYear(), request.reprtCode(), request.fsDiv(), e);
+                    }
+                    return Mono.just(new FetchedStatement(request, null, e));
+                });
     }
 
     /**
-     * 특정 연도, 특정 보고서 코드에 대한 재무제표를 조회하고 저장합니다.
+     * 조회된 재무제표 응답을 저장합니다. 같은 재무제표 구분(OFS/CFS)의 기존 데이터만 교체하며,
+     * DART 응답에 데이터가 없으면 기존 데이터를 그대로 유지합니다.
      * @param corpCode 회사 고유번호
-     * @param bsnsYear 사업연도 (YYYY)
-     * @param reprtCode 보고서 코드
+     * @param request 조회 조건 (사업연도, 보고서 코드, 재무제표 구분)
+     * @param responseDto DART 응답
+     * @return 저장했거나 조회할 데이터가 없으면(013) true, 오류 응답이거나 저장에 실패했으면 false
      */
-    private void retrieveAndSaveSingleFinancialStatement(String corpCode, String bsnsYear, String reprtCode) {
-        log.info("단일 재무제표 조회 및 저장 시도: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}", 
-                 corpCode, bsnsYear, reprtCode, FS_DIV_OFS);
+    private boolean saveSingleFinancialStatement(String corpCode, StatementRequest request, FinancialStatementResponseDto responseDto) {
+        String bsnsYear = request.bsnsYear();
+        String reprtCode = request.reprtCode();
+        String fsDiv = request.fsDiv();
         try {
-            long deletedCount = financialStatementDataRepository.deleteByCorpCodeAndBsnsYearAndReprtCode(corpCode, bsnsYear, reprtCode);
-            if (deletedCount > 0) {
-                log.info("기존 재무제표 데이터 {}건 삭제: corpCode={}, bsnsYear={}, reprtCode={}", 
-                         deletedCount, corpCode, bsnsYear, reprtCode);
-            }
-
-            FinancialStatementResponseDto responseDto = 
-                dartApiService.getFinancialStatement(corpCode, bsnsYear, reprtCode, FS_DIV_OFS).block();
-
-            if (responseDto != null && "000".equals(responseDto.getStatus()) && responseDto.getList() != null && !responseDto.getList().isEmpty()) {
-                log.info("재무제표 조회 성공: {}건의 항목. corpCode={}, bsnsYear={}, reprtCode={}", 
-                         responseDto.getList().size(), corpCode, bsnsYear, reprtCode);
-                processAndSaveFinancialStatementItems(responseDto.getList(), corpCode, bsnsYear, reprtCode);
-            } else {
-                log.warn("재무제표 데이터가 없거나 오류 발생: corpCode={}, bsnsYear={}, reprtCode={}, status={}, msg={}",
-                         corpCode, bsnsYear, reprtCode, 
-                         responseDto != null ? responseDto.getStatus() : "N/A",
-                         responseDto != null ? responseDto.getMessage() : "Response is null or empty list");
+            if (responseDto != null && DART_STATUS_SUCCESS.equals(responseDto.getStatus()) && responseDto.getList() != null && !responseDto.getList().isEmpty()) {
+                log.info("재무제표 조회 성공: {}건의 항목. corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}", 
+                         responseDto.getList().size(), corpCode, bsnsYear, reprtCode, fsDiv);
+                processAndSaveFinancialStatementItems(responseDto.getList(), corpCode, bsnsYear, reprtCode, fsDiv);
+                return true;
             }
+            log.warn("재무제표 데이터가 없거나 오류 발생, 기존 데이터 유지: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}, status={}, msg={}",
+                     corpCode, bsnsYear, reprtCode, fsDiv,
+                     responseDto != null ? responseDto.getStatus() : "N/A",
+                     responseDto != null ? responseDto.getMessage() : "Response is null or empty list");
+            // 정상 응답(000)의 빈 목록과 조회된 데이터 없음(013)은 실패가 아님
+            return responseDto != null
+                    && (DART_STATUS_SUCCESS.equals(responseDto.getStatus()) || DART_STATUS_NO_DATA.equals(responseDto.getStatus()));
         } catch (Exception e) {
-            log.error("재무제표 조회/저장 중 예외 발생: corpCode={}, bsnsYear={}, reprtCode={}", corpCode, bsnsYear, reprtCode, e);
+            log.error("재무제표 저장 중 예외 발생: corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}", corpCode, bsnsYear, reprtCode, fsDiv, e);
+            return false;
         }
     }
 
     private void processAndSaveFinancialStatementItems(List<FinancialStatementResponseDto.FinancialStatementItem> items, 
-                                                       String corpCode, String bsnsYear, String reprtCode) {
-        List<FinancialStatementData> dataToSave = new ArrayList<>();
+                                                       String corpCode, String bsnsYear, String reprtCode, String fsDiv) {
+        List<FinancialStatementData> dataToSave = new ArrayList<>(items.size());
         LocalDateTime now = LocalDateTime.now();
 
         for (FinancialStatementResponseDto.FinancialStatementItem item : items) {
@@ -368,9 +620,11 @@ public class KafkaConsumerService {
                     .corpCode(corpCode)
                     .bsnsYear(bsnsYear)
                     .reprtCode(reprtCode)
+                    .fsDiv(fsDiv)
                     .sjDiv(item.getSjDiv())
                     .accountId(item.getAccountId())
                     .accountNm(item.getAccountNm())
+                    .accountKey(financialAccountNormalizer.normalize(item.getSjDiv(), item.getAccountId(), item.getAccountNm()))
                     .thstrmNm(item.getThstrmNm())
                     .thstrmAmount(item.getThstrmAmount())
                     .thstrmAddAmount(item.getThstrmAddAmount())
@@ -388,13 +642,18 @@ public class KafkaConsumerService {
             dataToSave.add(fsData);
         }
 
-        if (!dataToSave.isEmpty()) {
-            financialStatementDataRepository.saveAll(dataToSave);
-            log.info("DB에 재무제표 항목 {}건 저장 완료: corpCode={}, bsnsYear={}, reprtCode={}", 
-                     dataToSave.size(), corpCode, bsnsYear, reprtCode);
-        } else {
-            log.info("DB에 저장할 재무제표 항목 없음: corpCode={}, bsnsYear={}, reprtCode={}", 
-                     corpCode, bsnsYear, reprtCode);
-        }
+        FinancialStatementRefreshService.RefreshResult result =
+                financialStatementRefreshService.refresh(corpCode, bsnsYear, reprtCode, fsDiv, dataToSave);
+        log.info("재무제표 반영 결과 {}: 항목 {}건, corpCode={}, bsnsYear={}, reprtCode={}, fsDiv={}", 
+                 result, dataToSave.size(), corpCode, bsnsYear, reprtCode, fsDiv);
+    }
+
+    private record StatementRequest(String bsnsYear, String reprtCode, String fsDiv) {
+    }
+
+    private record FetchedStatement(StatementRequest request, FinancialStatementResponseDto response, Throwable failure) {
+    }
+
+    private record PersistenceResult(Throwable transientFailure, int failed) {
     }
 } 
@@ -0,0 +1,251 @@
+/**
+ * @file KafkaDeadLetterService.java
+ * @description Kafka DLT(dead-letter topic) 메시지를 보관하고 원래 토픽으로 재발행하는 서비스입니다.
+ *              재시도 토픽을 모두 거치고도 실패했거나 재시도할 수 없는 오류로 DLT 에 도착한 메시지를 kafka_dead_letters 테이블에 저장하며,
+ *              재발행은 아웃박스를 통해 원래 토픽으로 다시 보내 같은 리스너가 처음부터 처리하도록 합니다.
+ *              회사 정보/공시 배치 리스너의 DLT 는 원본 바이트로 도착하므로 토픽별 메시지 타입으로 변환할 수 있을 때만 재발행 가능으로 저장합니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.dart.dto.CompanyProfileResponse;
+import com.example.javaversion.dart.dto.DisclosureSearchResponse;
+import com.example.javaversion.database.entity.KafkaDeadLetter;
+import com.example.javaversion.database.repository.KafkaDeadLetterRepository;
+import com.example.javaversion.kafka.config.KafkaConfig;
+import com.example.javaversion.kafka.dto.KafkaDeadLetterDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaDeadLetterService {
+
+    /** DLT 토픽 접미사 (원래 토픽 + 접미사) */
+    public static final String DLT_SUFFIX = "-dlt";
+    /** 재시도 토픽 설정에서 DLT 처리 메소드로 지정하는 빈/메소드 이름 */
+    public static final String BEAN_NAME = "kafkaDeadLetterService";
+    public static final String HANDLER_METHOD_NAME = "handleDeadLetter";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final KafkaDeadLetterRepository kafkaDeadLetterRepository;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${kafka.topic.company-profile}")
+    private String companyProfileTopic;
+
+    @Value("${kafka.topic.disclosure}")
+    private String disclosureTopic;
+
+    /**
+     * DLT 에 도착한 메시지를 저장합니다. (재시도 토픽 설정의 DLT 처리 메소드)
+     *
+     * @param record DLT 메시지
+     */
+    public void handleDeadLetter(ConsumerRecord<String, Object> record) {
+        String originalTopic = originalTopic(record);
+
+        String payloadType = null;
+        String payload = null;
+        Object value = record.value();
+        if (value instanceof byte[] bytes) {
+            // 역직렬화에 실패한 메시지는 원본 바이트만 남음 (재발행 불가)
+            payload = new String(bytes, StandardCharsets.UTF_8);
+        } else if (value != null) {
+            payloadType = value.getClass().getName();
+            try {
+                payload = objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                payloadType = null;
+                payload = String.valueOf(value);
+            }
+        }
+
+        save(record, originalTopic, payloadType, payload);
+    }
+
+    /**
+     * 회사 정보/공시 배치 리스너의 DLT 메시지를 저장합니다.
+     * 원본이 토픽별 메시지 타입(JSON)으로 변환되면 재발행할 수 있도록 타입을 함께 저장합니다.
+     *
+     * @param records DLT 메시지 목록
+     */
+    @KafkaListener(topics = {"${kafka.topic.company-profile}" + DLT_SUFFIX, "${kafka.topic.disclosure}" + DLT_SUFFIX},
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConfig.DART_DATA_BATCH_LISTENER_FACTORY)
+    public void handleDartDataDeadLetters(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            String originalTopic = originalTopic(record);
+            Class<?> type = originalTopic.equals(companyProfileTopic) ? CompanyProfileResponse.class
+                    : originalTopic.equals(disclosureTopic) ? DisclosureSearchResponse.class : null;
+            String payload = record.value() != null ? new String(record.value(), StandardCharsets.UTF_8) : null;
+            String payloadType = null;
+            if (type != null && record.value() != null) {
+                try {
+                    objectMapper.readValue(record.value(), type);
+                    payloadType = type.getName();
+                } catch (IOException e) {
+                    // 변환할 수 없는 메시지는 원본만 보관 (재발행 불가)
+                }
+            }
+            save(record, originalTopic, payloadType, payload);
+        }
+    }
+
+    private void save(ConsumerRecord<String, ?> record, String originalTopic, String payloadType, String payload) {
+        String exceptionMessage = headerValue(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE);
+        if (exceptionMessage != null && exceptionMessage.length() > MAX_ERROR_LENGTH) {
+            exceptionMessage = exceptionMessage.substring(0, MAX_ERROR_LENGTH);
+        }
+        String exceptionClass = headerValue(record, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN);
+        if (exceptionClass == null) {
+            exceptionClass = headerValue(record, KafkaHeaders.DLT_EXCEPTION_FQCN);
+        }
+
+        KafkaDeadLetter deadLetter = kafkaDeadLetterRepository.save(KafkaDeadLetter.builder()
+                .originalTopic(originalTopic)
+                .messageKey(record.key())
+                .payloadType(payloadType)
+                .payload(payload)
+                .exceptionClass(exceptionClass)
+                .exceptionMessage(exceptionMessage)
+                .build());
+        log.error("DLT 메시지 저장 - ID: {}, 원래 토픽: {}, 키: {}, 원인: {} ({})",
+                deadLetter.getId(), originalTopic, record.key(), exceptionClass, exceptionMessage);
+    }
+
+    /**
+     * DLT 메시지 목록을 최신 순으로 조회합니다.
+     *
+     * @param originalTopic 원래 토픽 (null 이면 전체)
+     * @param pendingOnly 재발행하지 않은 메시지만 조회할지 여부
+     * @param page 페이지 번호 (1부터 시작)
+     * @param pageSize 페이지 크기
+     * @return 목록과 페이지 정보
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> findDeadLetters(String originalTopic, boolean pendingOnly, int page, int pageSize) {
+        Pageable pageable = PageRequest.of(Math.max(page, 1) - 1, pageSize, Sort.by(Sort.Direction.DESC, "id"));
+        Page<KafkaDeadLetter> deadLetters;
+        if (originalTopic != null && pendingOnly) {
+            deadLetters = kafkaDeadLetterRepository.findByReplayedAtIsNullAndOriginalTopic(originalTopic, pageable);
+        } else if (originalTopic != null) {
+            deadLetters = kafkaDeadLetterRepository.findByOriginalTopic(originalTopic, pageable);
+        } else if (pendingOnly) {
+            deadLetters = kafkaDeadLetterRepository.findByReplayedAtIsNull(pageable);
+        } else {
+            deadLetters = kafkaDeadLetterRepository.findAll(pageable);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("data", deadLetters.getContent().stream().map(this::toDto).toList());
+        result.put("total", deadLetters.getTotalElements());
+        result.put("page", page);
+        result.put("pageSize", pageSize);
+        return result;
+    }
+
+    /**
+     * DLT 메시지를 원래 토픽으로 재발행합니다. (아웃박스에 기록되어 커밋 후 발행)
+     *
+     * @param id DLT 메시지 ID
+     * @return 재발행한 DLT 메시지
+     * @throws ResponseStatusException 메시지가 없거나(404) 재발행할 수 없는 경우(409)
+     */
+    @Transactional
+    public KafkaDeadLetterDto replay(Long id) {
+        KafkaDeadLetter deadLetter = kafkaDeadLetterRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        String.format("ID '%s'에 해당하는 DLT 메시지를 찾을 수 없습니다.", id)));
+        replay(deadLetter);
+        return toDto(deadLetter);
+    }
+
+    /**
+     * 원래 토픽의 재발행하지 않은 DLT 메시지를 오래된 순서로 재발행합니다. 재발행할 수 없는 메시지는 건너뜁니다.
+     *
+     * @param originalTopic 원래 토픽
+     * @param limit 최대 재발행 수
+     * @return 재발행 결과 요약
+     */
+    @Transactional
+    public Map<String, Object> replayPending(String originalTopic, int limit) {
+        List<KafkaDeadLetter> pending = kafkaDeadLetterRepository
+                .findByReplayedAtIsNullAndOriginalTopicOrderByIdAsc(originalTopic, PageRequest.of(0, limit));
+        int replayed = 0;
+        int skipped = 0;
+        for (KafkaDeadLetter deadLetter : pending) {
+            if (deadLetter.getPayloadType() == null) {
+                skipped++;
+                continue;
+            }
+            replay(deadLetter);
+            replayed++;
+        }
+        log.info("DLT 메시지 일괄 재발행 - 토픽: {}, 재발행: {}건, 건너뜀: {}건", originalTopic, replayed, skipped);
+        return Map.of("originalTopic", originalTopic, "replayed", replayed, "skipped", skipped);
+    }
+
+    private void replay(KafkaDeadLetter deadLetter) {
+        if (deadLetter.getPayloadType() == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    String.format("ID '%s' DLT 메시지는 역직렬화에 실패한 메시지여서 재발행할 수 없습니다.", deadLetter.getId()));
+        }
+        outboxService.enqueueSerialized(deadLetter.getOriginalTopic(), deadLetter.getMessageKey(),
+                deadLetter.getPayloadType(), deadLetter.getPayload());
+        deadLetter.setReplayCount(deadLetter.getReplayCount() + 1);
+        deadLetter.setReplayedAt(LocalDateTime.now());
+        kafkaDeadLetterRepository.save(deadLetter);
+        log.info("DLT 메시지 재발행 요청 - ID: {}, 토픽: {}, 키: {}", deadLetter.getId(), deadLetter.getOriginalTopic(), deadLetter.getMessageKey());
+    }
+
+    private KafkaDeadLetterDto toDto(KafkaDeadLetter deadLetter) {
+        return KafkaDeadLetterDto.builder()
+                .id(String.valueOf(deadLetter.getId()))
+                .originalTopic(deadLetter.getOriginalTopic())
+                .messageKey(deadLetter.getMessageKey())
+                .payloadType(deadLetter.getPayloadType())
+                .payload(deadLetter.getPayload())
+                .exceptionClass(deadLetter.getExceptionClass())
+                .exceptionMessage(deadLetter.getExceptionMessage())
+                .replayCount(deadLetter.getReplayCount())
+                .replayedAt(deadLetter.getReplayedAt())
+                .createdAt(deadLetter.getCreatedAt())
+                .build();
+    }
+
+    private static String originalTopic(ConsumerRecord<?, ?> record) {
+        return record.topic().endsWith(DLT_SUFFIX)
+                ? record.topic().substring(0, record.topic().length() - DLT_SUFFIX.length())
+                : record.topic();
+    }
+
+    private static String headerValue(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * @file KafkaListenerMetrics.java
+ * @description Kafka 리스너 처리 메트릭을 기록합니다.
+ *              - kafka.listener.records: 토픽별 처리 결과(success, skipped, failure) 건수 (rate 로 초당 처리량 확인)
+ *              - kafka.listener.errors: 토픽별 오류 건수 (예외 타입, 일시적 오류 여부)
+ *              - kafka.listener.phase: 리스너 처리 단계별 소요 시간 (프로필 조회, 공시, 재무제표 조회, 저장 등)
+ *              - kafka.listener.dart.fetch: 재무제표 보고서/구분별 DART 조회 시간 (병목 보고서 확인용)
+ *              Prometheus 에서 히스토그램으로 백분위수를 계산할 수 있도록 타이머는 percentile histogram 을 노출합니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.common.exception.TransientApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class KafkaListenerMetrics {
+
+    static final String RECORDS_COUNTER_NAME = "kafka.listener.records";
+    static final String ERRORS_COUNTER_NAME = "kafka.listener.errors";
+    static final String PHASE_TIMER_NAME = "kafka.listener.phase";
+    static final String DART_FETCH_TIMER_NAME = "kafka.listener.dart.fetch";
+
+    /** 처리 결과 */
+    public enum Outcome { SUCCESS, SKIPPED, FAILURE }
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 처리한 메시지 건수를 결과별로 기록합니다.
+     */
+    public void recordProcessed(String topic, Outcome outcome, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder(RECORDS_COUNTER_NAME)
+                .description("Kafka 리스너가 처리한 메시지 수")
+                .tag("topic", topic)
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * 리스너 처리 오류를 기록합니다.
+     */
+    public void recordError(String topic, Throwable error) {
+        Counter.builder(ERRORS_COUNTER_NAME)
+                .description("Kafka 리스너 처리 오류 수")
+                .tag("topic", topic)
+                .tag("exception", error.getClass().getSimpleName())
+                .tag("transient", String.valueOf(TransientApiException.isTransient(error)))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 리스너 처리 단계의 소요 시간을 기록합니다. 예외가 발생하면 outcome=failure 로 기록하고 그대로 던집니다.
+     *
+     * @param listener 리스너 이름
+     * @param phase 처리 단계
+     * @param body 단계 처리
+     * @return 단계 처리 결과
+     */
+    public <T> T timePhase(String listener, String phase, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            T result = body.get();
+            success = true;
+            return result;
+        } finally {
+            sample.stop(Timer.builder(PHASE_TIMER_NAME)
+                    .description("Kafka 리스너 처리 단계별 소요 시간")
+                    .tag("listener", listener)
+                    .tag("phase", phase)
+                    .tag("outcome", success ? "success" : "failure")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void timePhase(String listener, String phase, Runnable body) {
+        timePhase(listener, phase, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * 재무제표 한 건의 DART 조회 시간을 기록합니다.
+     *
+     * @param reprtCode 보고서 코드
+     * @param fsDiv 재무제표 구분
+     * @param outcome 조회 결과 (success, transient_failure, failure)
+     * @param durationNanos 소요 시간 (나노초)
+     */
+    public void recordDartFetch(String reprtCode, String fsDiv, String outcome, long durationNanos) {
+        Timer.builder(DART_FETCH_TIMER_NAME)
+                .description("재무제표 보고서/구분별 DART 조회 시간")
+                .tag("reprt_code", reprtCode)
+                .tag("fs_div", fsDiv)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -2,9 +2,15 @@
  * @file KafkaProducerService.java
  * @description Kafka 메시지 생성 서비스입니다.
  *              DART API 데이터를 Kafka 토픽으로 전송합니다.
+ *              여러 메시지는 sendMessages 로 응답을 기다리지 않고 모두 전송하여 프로듀서가 배치로 묶게 하고,
+ *              전체 결과를 하나의 future 로 돌려줍니다.
+ *              토픽별 전송 지연(kafka.producer.send)과 일괄 전송 크기(kafka.producer.bulk.size) 분포를 메트릭으로 노출합니다.
  */
 package com.example.javaversion.kafka.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -13,18 +19,37 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaProducerService {
 
+    static final String SEND_TIMER_NAME = "kafka.producer.send";
+    static final String BULK_SIZE_SUMMARY_NAME = "kafka.producer.bulk.size";
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
-    
+    private final MeterRegistry meterRegistry;
+
     @Value("${kafka.topic.partner-company-restore:partner-company-restore}")
     private String partnerCompanyRestoreTopic;
-    
+
+    /**
+     * 일괄 전송 결과
+     *
+     * @param requested 전송 요청 수
+     * @param succeeded 성공 수
+     * @param failed 실패 수
+     * @param firstError 첫 번째 실패 원인 (실패가 없으면 null)
+     */
+    public record BulkSendResult(int requested, int succeeded, int failed, Throwable firstError) {
+    }
+
     /**
      * Kafka 토픽으로 메시지를 전송합니다.
      *
@@ -34,13 +59,13 @@ public class KafkaProducerService {
      * @return CompletableFuture<SendResult<String, Object>> 전송 결과
      */
     public CompletableFuture<SendResult<String, Object>> sendMessage(String topic, String key, Object message) {
-        log.info("Kafka 메시지 전송 - 토픽: {}, 키: {}, 메시지: {}", topic, key, message);
-        
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, message);
-        
+        log.debug("Kafka 메시지 전송 - 토픽: {}, 키: {}, 메시지: {}", topic, key, message);
+
+        CompletableFuture<SendResult<String, Object>> future = send(topic, key, message);
+
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.info("메시지 전송 성공 - 토픽: {}, 파티션: {}, 오프셋: {}",
+                log.debug("메시지 전송 성공 - 토픽: {}, 파티션: {}, 오프셋: {}",
                         result.getRecordMetadata().topic(),
                         result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset());
@@ -48,10 +73,59 @@ public class KafkaProducerService {
                 log.error("메시지 전송 실패 - 토픽: {}, 키: {}", topic, key, ex);
             }
         });
-        
+
         return future;
     }
-    
+
+    /**
+     * 여러 메시지를 같은 토픽으로 전송합니다. 응답을 기다리지 않고 모두 전송하므로
+     * 같은 파티션의 메시지는 프로듀서 배치(linger, batch.size)로 묶여 적은 요청으로 전달됩니다.
+     *
+     * @param topic 메시지를 전송할 토픽
+     * @param messages 메시지 객체 목록
+     * @param keyExtractor 메시지 키 추출 함수
+     * @return 모든 전송이 끝나면 완료되는 일괄 전송 결과 (개별 실패가 있어도 정상 완료)
+     */
+    public <T> CompletableFuture<BulkSendResult> sendMessages(String topic, Collection<? extends T> messages,
+                                                              Function<? super T, String> keyExtractor) {
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(new BulkSendResult(0, 0, 0, null));
+        }
+        DistributionSummary.builder(BULK_SIZE_SUMMARY_NAME)
+                .description("일괄 전송 요청당 메시지 수")
+                .baseUnit("messages")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(messages.size());
+
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            futures.add(send(topic, keyExtractor.apply(message), message));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .handle((ignored, ex) -> {
+                    int failed = 0;
+                    Throwable firstError = null;
+                    for (CompletableFuture<SendResult<String, Object>> future : futures) {
+                        if (future.isCompletedExceptionally()) {
+                            failed++;
+                            if (firstError == null) {
+                                firstError = future.handle((result, error) -> error).join();
+                            }
+                        }
+                    }
+                    BulkSendResult result = new BulkSendResult(futures.size(), futures.size() - failed, failed, firstError);
+                    if (failed > 0) {
+                        log.error("일괄 메시지 전송 중 실패 - 토픽: {}, 실패: {}건 / {}건", topic, failed, futures.size(), firstError);
+                    } else {
+                        log.debug("일괄 메시지 전송 완료 - 토픽: {}, {}건", topic, futures.size());
+                    }
+                    return result;
+                });
+    }
+
     /**
      * 파트너사 복원 이벤트를 Kafka 토픽으로 전송합니다.
      *
@@ -60,13 +134,13 @@ public class KafkaProducerService {
      * @return CompletableFuture<SendResult<String, Object>> 전송 결과
      */
     public CompletableFuture<SendResult<String, Object>> sendPartnerRestoreEvent(String key, Object message) {
-        log.info("파트너사 복원 이벤트 전송 - 키: {}, 메시지: {}", key, message);
-        
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(partnerCompanyRestoreTopic, key, message);
-        
+        log.debug("파트너사 복원 이벤트 전송 - 키: {}, 메시지: {}", key, message);
+
+        CompletableFuture<SendResult<String, Object>> future = send(partnerCompanyRestoreTopic, key, message);
+
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.info("파트너사 복원 이벤트 전송 성공 - 토픽: {}, 파티션: {}, 오프셋: {}",
+                log.debug("파트너사 복원 이벤트 전송 성공 - 토픽: {}, 파티션: {}, 오프셋: {}",
                         result.getRecordMetadata().topic(),
                         result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset());
@@ -74,7 +148,28 @@ public class KafkaProducerService {
                 log.error("파트너사 복원 이벤트 전송 실패 - 키: {}", key, ex);
             }
         });
-        
+
+        return future;
+    }
+
+    /**
+     * 메시지를 전송하고 토픽별 전송 지연(브로커 응답까지)을 결과와 함께 기록합니다.
+     * 직렬화 오류 등 전송 전에 발생한 예외도 실패한 future 로 돌려줍니다.
+     */
+    CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = kafkaTemplate.send(topic, key, message);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, ex) -> sample.stop(Timer.builder(SEND_TIMER_NAME)
+                .description("Kafka 메시지 전송 요청부터 브로커 응답까지의 시간")
+                .tag("topic", topic)
+                .tag("outcome", ex == null ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
         return future;
     }
-} 
\ No newline at end of file
+}
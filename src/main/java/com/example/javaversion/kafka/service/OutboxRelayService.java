@@ -0,0 +1,272 @@
+/**
+ * @file OutboxRelayService.java
+ * @description 아웃박스 테이블의 미발행 메시지를 Kafka 로 일괄 발행하는 릴레이 서비스입니다.
+ *              미발행 이벤트를 id 순서대로 묶음 단위로 잠가(SKIP LOCKED) 점유 표시만 하고 트랜잭션을 끝낸 뒤,
+ *              트랜잭션 밖에서 전송하고 응답을 한 번에 기다려 성공한 이벤트만 발행 완료로 표시합니다.
+ *              같은 토픽·키의 이벤트는 앞 이벤트가 성공한 뒤에만 전송하여 키별 순서를 지킵니다.
+ *              실패한 이벤트는 시도 횟수를 늘려 다음 주기에 다시 발행하므로
+ *              전달 보장은 최소 1회(at-least-once)이며, 컨슈머는 같은 메시지를 다시 받을 수 있습니다.
+ *              발행 완료 이벤트는 보존 기간이 지나면 삭제합니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.database.entity.OutboxEvent;
+import com.example.javaversion.database.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.relay.enabled:true}")
+    private boolean relayEnabled;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.send-timeout-seconds:65}")
+    private long sendTimeoutSeconds;
+
+    /** 발행 중인 메시지의 점유 유지 시간 (send-timeout-seconds 보다 길게, 만료되면 다른 릴레이가 다시 발행) */
+    @Value("${outbox.relay.claim-timeout-seconds:120}")
+    private long claimTimeoutSeconds;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.retention-days:7}")
+    private int retentionDays;
+
+    /**
+     * 미발행 메시지를 발행합니다. 묶음이 가득 차 있으면 한 주기에 최대 max-batches-per-run 묶음까지 이어서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}",
+            initialDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        if (!relayEnabled) {
+            return;
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<OutboxEvent> events = transactionTemplate.execute(status -> claimBatch());
+            if (events == null || events.isEmpty()) {
+                return;
+            }
+            // Kafka 응답은 트랜잭션과 행 잠금 없이 기다림
+            Publication publication = publish(events);
+            transactionTemplate.executeWithoutResult(status -> recordResults(events, publication));
+            if (events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 발행 완료 메시지를 삭제합니다.
+     */
+    @Scheduled(cron = "${outbox.relay.purge-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        if (!relayEnabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = new TransactionTemplate(transactionManager)
+                .execute(status -> outboxEventRepository.deletePublishedBefore(cutoff));
+        log.info("발행 완료 아웃박스 메시지 정리 - 기준 시각: {}, 삭제: {}건", cutoff, deleted);
+    }
+
+    /**
+     * 미발행 메시지 한 묶음을 잠그고 점유 만료 시각을 기록합니다. 잠금은 이 짧은 트랜잭션이 끝나면 풀리고,
+     * 이후에는 점유 표시로 다른 릴레이가 같은 메시지를 가져가지 않도록 합니다.
+     *
+     * @return 점유한 메시지 목록
+     */
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = outboxEventRepository.lockUnpublished(maxAttempts, now, PageRequest.of(0, batchSize));
+        LocalDateTime claimedUntil = now.plusSeconds(claimTimeoutSeconds);
+        for (OutboxEvent event : events) {
+            event.setClaimedUntil(claimedUntil);
+        }
+        return events;
+    }
+
+    /**
+     * 점유한 메시지를 발행하고 응답을 기다립니다.
+     * 키가 다른 메시지는 응답을 기다리지 않고 함께 전송하여 프로듀서가 배치로 묶도록 하고,
+     * 같은 토픽·키의 메시지는 앞 메시지가 성공한 뒤에 순서대로 전송합니다.
+     * 앞 메시지가 실패하거나 대기 시간이 지나면 같은 키의 남은 메시지는 전송하지 않아 키별 순서가 뒤바뀌지 않습니다.
+     *
+     * @return 메시지별 전송 결과와 실제로 전송한 메시지 ID
+     */
+    private Publication publish(List<OutboxEvent> events) {
+        AtomicBoolean deadlinePassed = new AtomicBoolean();
+        Set<Long> sentIds = ConcurrentHashMap.newKeySet();
+        Map<String, CompletableFuture<SendResult<String, Object>>> lastByKey = new HashMap<>();
+        List<CompletableFuture<SendResult<String, Object>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            String orderingKey = event.getMessageKey() != null ? event.getTopic() + ':' + event.getMessageKey() : null;
+            CompletableFuture<SendResult<String, Object>> previous = orderingKey != null ? lastByKey.get(orderingKey) : null;
+            CompletableFuture<SendResult<String, Object>> future;
+            if (previous == null) {
+                sentIds.add(event.getId());
+                future = send(event);
+            } else {
+                // 전송 콜백(프로듀서 I/O 스레드)에서 다음 전송을 시작하지 않도록 별도 스레드에서 이어서 전송
+                future = previous.handleAsync((result, failure) -> {
+                    if (failure != null) {
+                        return CompletableFuture.<SendResult<String, Object>>failedFuture(
+                                new NotSentException("같은 키의 이전 메시지 발행 실패로 보류"));
+                    }
+                    if (deadlinePassed.get()) {
+                        return CompletableFuture.<SendResult<String, Object>>failedFuture(
+                                new NotSentException("발행 응답 대기 시간 초과로 보류"));
+                    }
+                    sentIds.add(event.getId());
+                    return send(event);
+                }).thenCompose(Function.identity());
+            }
+            futures.add(future);
+            if (orderingKey != null) {
+                lastByKey.put(orderingKey, future);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(sendTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 실패는 이벤트별로 기록
+            log.debug("아웃박스 묶음 발행 중 일부 실패 또는 시간 초과: {}", e.getMessage());
+        } finally {
+            deadlinePassed.set(true);
+        }
+        return new Publication(futures, sentIds);
+    }
+
+    /**
+     * 발행 결과를 기록하고 점유를 해제합니다. 성공한 메시지는 발행 완료로 표시하고,
+     * 실패한 메시지는 시도 횟수를 늘려 다음 주기에 다시 발행합니다. (전송하지 않고 보류한 메시지는 시도 횟수를 늘리지 않음)
+     */
+    private void recordResults(List<OutboxEvent> claimed, Publication publication) {
+        Map<Long, OutboxEvent> events = new HashMap<>();
+        for (OutboxEvent event : outboxEventRepository.findAllById(claimed.stream().map(OutboxEvent::getId).toList())) {
+            events.put(event.getId(), event);
+        }
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        int published = 0;
+        int deferred = 0;
+        for (int i = 0; i < claimed.size(); i++) {
+            OutboxEvent event = events.get(claimed.get(i).getId());
+            if (event == null) {
+                continue;
+            }
+            event.setClaimedUntil(null);
+            CompletableFuture<SendResult<String, Object>> future = publication.futures().get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                event.setPublishedAt(publishedAt);
+                published++;
+                continue;
+            }
+            Throwable failure = future.isDone() ? failureOf(future) : null;
+            if (failure instanceof NotSentException || !publication.sentIds().contains(event.getId())) {
+                deferred++;
+                log.debug("아웃박스 메시지 발행 보류 - ID: {}, 토픽: {}, 키: {}, 사유: {}", event.getId(), event.getTopic(),
+                        event.getMessageKey(), failure != null ? failure.getMessage() : "같은 키의 이전 메시지 응답 대기");
+                continue;
+            }
+            String error = failure != null ? failure.getClass().getSimpleName() + ": " + failure.getMessage() : "발행 응답 대기 시간 초과";
+            event.setAttempts(event.getAttempts() + 1);
+            event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (event.getAttempts() >= maxAttempts) {
+                log.error("아웃박스 메시지 발행 포기 - ID: {}, 토픽: {}, 키: {}, 시도: {}회, 오류: {}",
+                        event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts(), error);
+            } else {
+                log.warn("아웃박스 메시지 발행 실패 - ID: {}, 토픽: {}, 키: {}, 시도: {}회, 오류: {}",
+                        event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts(), error);
+            }
+        }
+        log.debug("아웃박스 묶음 발행 - 점유: {}건, 성공: {}건, 보류: {}건", claimed.size(), published, deferred);
+    }
+
+    /**
+     * 저장된 JSON 을 원래 메시지 타입으로 복원하여 전송합니다. (JsonSerializer 의 타입 헤더 유지)
+     */
+    private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event) {
+        try {
+            Class<?> payloadType = ClassUtils.forName(event.getPayloadType(), getClass().getClassLoader());
+            Object message = objectMapper.readValue(event.getPayload(), payloadType);
+            return kafkaProducerService.send(event.getTopic(), event.getMessageKey(), message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            Throwable failure = e;
+            while ((failure instanceof CompletionException || failure instanceof ExecutionException) && failure.getCause() != null) {
+                failure = failure.getCause();
+            }
+            return failure;
+        }
+    }
+
+    /**
+     * 묶음 발행 결과 (futures 는 점유한 메시지와 같은 순서)
+     */
+    private record Publication(List<CompletableFuture<SendResult<String, Object>>> futures, Set<Long> sentIds) {
+    }
+
+    /**
+     * 같은 키의 이전 메시지가 실패했거나 대기 시간이 지나 전송하지 않은 메시지
+     */
+    private static final class NotSentException extends RuntimeException {
+
+        private NotSentException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
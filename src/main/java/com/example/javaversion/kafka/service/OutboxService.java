@@ -0,0 +1,64 @@
+/**
+ * @file OutboxService.java
+ * @description Kafka 로 발행할 메시지를 아웃박스 테이블에 기록하는 서비스입니다.
+ *              호출자의 트랜잭션 안에서만 기록하므로 업무 데이터가 롤백되면 메시지도 함께 사라지고,
+ *              커밋된 변경은 OutboxRelayService 가 반드시(최소 1회) 발행합니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.database.entity.OutboxEvent;
+import com.example.javaversion.database.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 메시지를 아웃박스에 기록합니다. 반드시 업무 데이터를 변경하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param topic 메시지를 전송할 토픽
+     * @param key 메시지 키
+     * @param message 메시지 객체
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, Object message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 직렬화 실패 - 토픽: " + topic + ", 키: " + key, e);
+        }
+
+        enqueueSerialized(topic, key, message.getClass().getName(), payload);
+    }
+
+    /**
+     * 이미 JSON 으로 직렬화된 메시지를 아웃박스에 기록합니다. (DLT 메시지 재발행 등)
+     *
+     * @param topic 메시지를 전송할 토픽
+     * @param key 메시지 키
+     * @param payloadType 메시지 객체 클래스명
+     * @param payload 메시지 JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueSerialized(String topic, String key, String payloadType, String payload) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(key)
+                .payloadType(payloadType)
+                .payload(payload)
+                .build());
+        log.debug("아웃박스 메시지 기록 - ID: {}, 토픽: {}, 키: {}", event.getId(), topic, key);
+    }
+}
@@ -7,7 +7,9 @@
 package com.example.javaversion.partner.controller;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,16 +22,26 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.javaversion.partner.dto.BulkImportResultDto;
 import com.example.javaversion.partner.dto.CreatePartnerCompanyDto;
 import com.example.javaversion.partner.dto.PaginatedPartnerCompanyResponseDto;
+import com.example.javaversion.partner.dto.PartnerCompanyCountsDto;
 import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
 import com.example.javaversion.partner.dto.UpdatePartnerCompanyDto;
 import com.example.javaversion.partner.dto.FinancialRiskAssessmentDto;
+import com.example.javaversion.partner.model.PaginationMode;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.service.PartnerApiClient;
 import com.example.javaversion.partner.service.PartnerCompanyApiService;
+import com.example.javaversion.partner.service.PartnerCompanyBulkImportService;
+import com.example.javaversion.partner.service.PartnerCompanyCountService;
 import com.example.javaversion.partner.service.PartnerFinancialRiskService;
+import com.example.javaversion.partner.service.RiskRuleEngine;
 import com.example.javaversion.kafka.dto.NewsAnalysisRequest;
 import com.example.javaversion.kafka.service.KafkaProducerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,7 +53,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -54,8 +69,13 @@ import java.util.UUID;
 public class PartnerCompanyApiController {
 
     private final PartnerCompanyApiService partnerCompanyApiService;
+    private final PartnerApiClient partnerApiClient;
+    private final PartnerCompanyCountService partnerCompanyCountService;
+    private final PartnerCompanyBulkImportService partnerCompanyBulkImportService;
     private final PartnerFinancialRiskService partnerFinancialRiskService;
+    private final RiskRuleEngine riskRuleEngine;
     private final KafkaProducerService kafkaProducerService;
+    private final ObjectMapper objectMapper;
 
     @Value("${kafka.topic.news-keywords}")
     private String newsKeywordsTopic;
@@ -66,15 +86,16 @@ public class PartnerCompanyApiController {
             @ApiResponse(responseCode = "200", description = "회사 정보 조회 성공",
                     content = @Content(mediaType = "application/json", schema = @Schema(type = "object"))),
             @ApiResponse(responseCode = "404", description = "외부 시스템에서 해당 회사 정보를 찾을 수 없음"),
-            @ApiResponse(responseCode = "500", description = "외부 시스템 API 호출 오류 또는 서버 내부 오류")
+            @ApiResponse(responseCode = "502", description = "외부 시스템 API 호출 오류"),
+            @ApiResponse(responseCode = "503", description = "외부 시스템 일시적 오류 (재시도 후에도 실패)")
     })
-    public ResponseEntity<Map<String, Object>> getCompanyInfo(
+    public Mono<ResponseEntity<Map<String, Object>>> getCompanyInfo(
             @Parameter(description = "조회할 회사의 외부 시스템 ID", required = true, example = "external-company-123")
             @PathVariable String companyId) {
 
         log.info("파트너 회사 정보 조회 API 요청 - 회사 ID: {}", companyId);
-        Map<String, Object> response = partnerCompanyApiService.getCompanyInfo(companyId);
-        return ResponseEntity.ok(response);
+        return partnerApiClient.getCompanyInfo(companyId)
+                .map(ResponseEntity::ok);
     }
 
     @GetMapping("/companies/{companyId}/financials")
@@ -84,9 +105,10 @@ public class PartnerCompanyApiController {
                     content = @Content(mediaType = "application/json", schema = @Schema(type = "object"))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터 (예: 유효하지 않은 연도 또는 분기)"),
             @ApiResponse(responseCode = "404", description = "외부 시스템에서 해당 재무 정보를 찾을 수 없음"),
-            @ApiResponse(responseCode = "500", description = "외부 시스템 API 호출 오류 또는 서버 내부 오류")
+            @ApiResponse(responseCode = "502", description = "외부 시스템 API 호출 오류"),
+            @ApiResponse(responseCode = "503", description = "외부 시스템 일시적 오류 (재시도 후에도 실패)")
     })
-    public ResponseEntity<Map<String, Object>> getFinancialInfo(
+    public Mono<ResponseEntity<Map<String, Object>>> getFinancialInfo(
             @Parameter(description = "조회할 회사의 외부 시스템 ID", required = true, example = "external-company-123")
             @PathVariable String companyId,
 
@@ -97,8 +119,11 @@ public class PartnerCompanyApiController {
             @RequestParam int quarter) {
 
         log.info("파트너 회사 재무 정보 조회 API 요청 - 회사 ID: {}, {}년 {}분기", companyId, year, quarter);
-        Map<String, Object> response = partnerCompanyApiService.getFinancialInfo(companyId, year, quarter);
-        return ResponseEntity.ok(response);
+        if (quarter < 1 || quarter > 4) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "분기는 1~4 중 하나여야 합니다."));
+        }
+        return partnerApiClient.getFinancialInfo(companyId, year, quarter)
+                .map(ResponseEntity::ok);
     }
 
     // 파트너 회사 CRUD 엔드포인트
@@ -124,6 +149,45 @@ public class PartnerCompanyApiController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/partner-companies/bulk", consumes = {"text/csv", "application/x-ndjson"}, produces = "application/x-ndjson")
+    @Operation(summary = "파트너사 일괄 등록", description = "CSV(헤더: companyName,corpCode,contractStartDate,stockCode) 또는 NDJSON(한 줄에 등록 요청 JSON 하나)으로 파트너사를 일괄 등록합니다. "
+            + "청크 단위로 중복 검사, 주식 코드 보강(기업 코드 목록 우선, 없으면 DART API), 배치 저장, Kafka 이벤트 일괄 발행을 수행하며 "
+            + "행별 처리 결과(CREATED, RESTORED, DUPLICATE, INVALID, FAILED)를 NDJSON 으로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "행별 처리 결과 (한 줄에 하나씩 스트리밍)",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = BulkImportResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "빈 본문, 잘못된 CSV 헤더 또는 최대 행 수 초과"),
+            @ApiResponse(responseCode = "415", description = "지원하지 않는 Content-Type"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<StreamingResponseBody> bulkImportPartnerCompanies(
+            @Parameter(description = "파트너사를 등록하는 회원의 ID (요청 헤더 X-Member-Id로 전달)", required = true, example = "user-member-uuid")
+            @RequestHeader("X-MEMBER-ID") String memberId,
+
+            @Parameter(description = "입력 형식 (text/csv 또는 application/x-ndjson)", required = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+
+            @Parameter(description = "일괄 등록할 파트너사 목록 (CSV 또는 NDJSON)", required = true)
+            @RequestBody String body) {
+
+        PartnerCompanyBulkImportService.ImportFormat format = PartnerCompanyBulkImportService.formatOf(contentType);
+        List<PartnerCompanyBulkImportService.ImportRow> rows = partnerCompanyBulkImportService.parse(format, body);
+        log.info("파트너사 일괄 등록 API 요청 - 회원 ID: {}, 형식: {}, 행 수: {}", memberId, format, rows.size());
+
+        StreamingResponseBody stream = outputStream -> partnerCompanyBulkImportService.importRows(memberId, rows, result -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(result));
+                outputStream.write('\n');
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(stream);
+    }
+
     @GetMapping("/partner-companies")
     @Operation(summary = "특정 사용자의 파트너사 목록 조회 (페이지네이션)", description = "X-Member-Id 헤더로 전달된 사용자가 등록한 활성(ACTIVE) 상태의 파트너사 목록을 페이지네이션하여 조회합니다. 회사명으로 필터링할 수 있습니다.")
     @ApiResponses(value = {
@@ -143,7 +207,18 @@ public class PartnerCompanyApiController {
             @RequestParam(defaultValue = "10") int pageSize,
 
             @Parameter(description = "검색할 회사명 (부분 일치, 대소문자 구분 없음)")
-            @RequestParam(required = false) String companyName) {
+            @RequestParam(required = false) String companyName,
+
+            @Parameter(description = "페이지네이션 방식 (OFFSET: 페이지 번호, CURSOR: 커서 기반 무한 스크롤)", example = "OFFSET")
+            @RequestParam(defaultValue = "OFFSET") PaginationMode paginationMode,
+
+            @Parameter(description = "다음 페이지 커서 (CURSOR 모드에서 이전 응답의 nextCursor, 첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor) {
+
+        if (paginationMode == PaginationMode.CURSOR) {
+            return ResponseEntity.ok(partnerCompanyApiService.findPartnerCompaniesByCursor(
+                    memberId, PartnerCompanyStatus.ACTIVE, companyName, cursor, pageSize));
+        }
 
         // 페이지 파라미터 검증
         int validPage = Math.max(1, page);
@@ -171,6 +246,31 @@ public class PartnerCompanyApiController {
         java.util.List<String> response = partnerCompanyApiService.getUniqueActivePartnerCompanyNames();
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/partner-companies/counts")
+    @Operation(summary = "사용자의 파트너사 수 조회", description = "X-Member-Id 헤더로 전달된 사용자가 등록한 파트너사 수를 상태별(ACTIVE/INACTIVE)로 조회합니다. 증분 집계 테이블에서 조회하므로 COUNT 쿼리를 실행하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상태별 파트너사 수입니다.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PartnerCompanyCountsDto.class))),
+            @ApiResponse(responseCode = "400", description = "X-Member-Id 헤더 누락"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public ResponseEntity<PartnerCompanyCountsDto> getPartnerCompanyCounts(
+            @Parameter(description = "파트너사를 조회하는 회원의 ID (요청 헤더 X-Member-Id로 전달)", required = true, example = "user-member-uuid")
+            @RequestHeader("X-MEMBER-ID") String memberId) {
+        log.info("파트너사 수 조회 API 요청 - 회원 ID: {}", memberId);
+        return ResponseEntity.ok(partnerCompanyCountService.getCounts(memberId));
+    }
+
+    @PostMapping("/partner-companies/counts/rebuild")
+    @Operation(summary = "파트너사 수 재집계", description = "파트너사 테이블을 기준으로 모든 회원의 상태별 파트너사 수를 다시 집계합니다. 집계 불일치 복구용입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재집계 결과 (deleted: 삭제된 집계 행 수, rebuilt: 생성된 집계 행 수)")
+    })
+    public ResponseEntity<Map<String, Object>> rebuildPartnerCompanyCounts() {
+        log.info("파트너사 수 재집계 요청");
+        return ResponseEntity.ok(partnerCompanyCountService.rebuild());
+    }
     //----------------------------------------------------------------------------------------------------------------------------------------------------------------------
 
     @GetMapping("/partner-companies/{id}")
@@ -246,12 +346,18 @@ public class PartnerCompanyApiController {
             @Parameter(description = "재무 위험을 분석할 파트너사의 DART 고유번호 (8자리 숫자)", required = true, example = "00126380")
             @PathVariable String partnerCorpCode,
             @Parameter(description = "파트너사명 (결과 표시에 사용, 필수는 아님)")
-            @RequestParam(required = false) String partnerName) {
+            @RequestParam(required = false) String partnerName,
+            @Parameter(description = "재무제표 구분 (OFS: 개별, CFS: 연결). 미지정 시 기본 구분을 사용하고 데이터가 없으면 다른 구분으로 대체합니다.", example = "CFS")
+            @RequestParam(required = false) String fsDiv) {
 
-        log.info("파트너사 재무 위험 분석 요청 - corpCode: {}, partnerName: {}", partnerCorpCode, partnerName);
+        log.info("파트너사 재무 위험 분석 요청 - corpCode: {}, partnerName: {}, fsDiv: {}", partnerCorpCode, partnerName, fsDiv);
+
+        if (fsDiv != null && !PartnerFinancialRiskService.FS_DIV_OFS.equals(fsDiv) && !PartnerFinancialRiskService.FS_DIV_CFS.equals(fsDiv)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "fsDiv는 OFS 또는 CFS만 허용됩니다.");
+        }
 
         try {
-            FinancialRiskAssessmentDto assessment = partnerFinancialRiskService.assessFinancialRisk(partnerCorpCode, partnerName);
+            FinancialRiskAssessmentDto assessment = partnerFinancialRiskService.assessFinancialRisk(partnerCorpCode, partnerName, fsDiv);
             return ResponseEntity.ok(assessment);
         } catch (Exception e) {
             log.error("파트너사 재무 위험 분석 중 오류 발생 - corpCode: {}", partnerCorpCode, e);
@@ -260,6 +366,25 @@ public class PartnerCompanyApiController {
         }
     }
     
+    @GetMapping("/risk-rules")
+    @Operation(summary = "재무 위험 규칙 조회", description = "현재 적용 중인 재무 위험 규칙 평가 계획의 버전과 규칙 목록을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재무 위험 규칙 조회 성공")
+    })
+    public ResponseEntity<Map<String, Object>> getRiskRules() {
+        return ResponseEntity.ok(riskRuleEngine.describe());
+    }
+
+    @PostMapping("/risk-rules/reload")
+    @Operation(summary = "재무 위험 규칙 재적용", description = "규칙 파일을 다시 읽어 평가 계획을 교체합니다. 정의 오류 시 기존 규칙이 유지됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "재적용 결과 (reloaded=false 이면 기존 규칙 유지)")
+    })
+    public ResponseEntity<Map<String, Object>> reloadRiskRules() {
+        log.info("재무 위험 규칙 재적용 요청");
+        return ResponseEntity.ok(riskRuleEngine.reload());
+    }
+
     /**
      * 파트너사 뉴스 크롤링 수동 요청 (테스트용)
      */
@@ -354,10 +479,19 @@ public class PartnerCompanyApiController {
             @Parameter(description = "회사명 필터 (부분 검색)", required = false)
             @RequestParam(required = false) String companyNameFilter,
             @Parameter(description = "INACTIVE 협력사 포함 여부 (기본값: false)", example = "false")
-            @RequestParam(defaultValue = "false") boolean includeInactive) {
-
-        log.info("Scope용 협력사 목록 조회 API 요청 - 사용자 ID: {}, 페이지: {}, 크기: {}, 필터: {}, INACTIVE 포함: {}", 
-                memberId, page, size, companyNameFilter, includeInactive);
+            @RequestParam(defaultValue = "false") boolean includeInactive,
+            @Parameter(description = "페이지네이션 방식 (OFFSET: 회사명 순 페이지 번호, CURSOR: 등록일 역순 커서)", example = "OFFSET")
+            @RequestParam(defaultValue = "OFFSET") PaginationMode paginationMode,
+            @Parameter(description = "다음 페이지 커서 (CURSOR 모드에서 이전 응답의 nextCursor, 첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor) {
+
+        log.info("Scope용 협력사 목록 조회 API 요청 - 사용자 ID: {}, 페이지: {}, 크기: {}, 필터: {}, INACTIVE 포함: {}, 방식: {}", 
+                memberId, page, size, companyNameFilter, includeInactive, paginationMode);
+
+        if (paginationMode == PaginationMode.CURSOR) {
+            return ResponseEntity.ok(partnerCompanyApiService.findPartnerCompaniesByCursor(
+                    null, includeInactive ? null : PartnerCompanyStatus.ACTIVE, companyNameFilter, cursor, size));
+        }
         
         PaginatedPartnerCompanyResponseDto response = partnerCompanyApiService.getPartnerCompaniesForScope(
                 page, size, companyNameFilter, includeInactive);
@@ -0,0 +1,45 @@
+/**
+ * @file BulkImportResultDto.java
+ * @description 파트너 회사 일괄 등록의 행별 처리 결과 DTO입니다.
+ *              응답은 이 DTO를 한 줄에 하나씩 NDJSON 으로 스트리밍합니다.
+ */
+package com.example.javaversion.partner.dto;
+
+import com.example.javaversion.partner.model.BulkImportRowStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "파트너 회사 일괄 등록 행별 처리 결과 DTO")
+public class BulkImportResultDto {
+
+    @Schema(description = "입력 파일의 행 번호 (1부터 시작, CSV 헤더 포함)", example = "2")
+    private int line;
+
+    @Schema(description = "파트너 회사명", example = "주식회사 새협력")
+    private String companyName;
+
+    @Schema(description = "DART 기업 고유 코드", example = "00123456")
+    private String corpCode;
+
+    @Schema(description = "처리 상태", example = "CREATED")
+    private BulkImportRowStatus status;
+
+    @Schema(description = "등록 또는 복원된 파트너 회사 ID (UUID)", example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+    private String partnerCompanyId;
+
+    @Schema(description = "주식 코드 (입력값 또는 기업 코드 목록/DART 조회 결과)", example = "005930")
+    private String stockCode;
+
+    @Schema(description = "건너뛰거나 실패한 사유", example = "DART 기업 고유 코드는 8자리여야 합니다.")
+    private String message;
+}
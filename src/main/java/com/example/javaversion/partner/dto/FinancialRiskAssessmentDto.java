@@ -25,6 +25,8 @@ public class FinancialRiskAssessmentDto {
     private String assessmentYear;
     @Schema(description = "분석 기준 보고서 코드 (예: 11011-사업보고서)", example = "11011")
     private String reportCode;
+    @Schema(description = "분석에 사용된 재무제표 구분 (OFS: 개별, CFS: 연결)", example = "CFS")
+    private String fsDiv;
 
     @Schema(description = "각 재무 위험 항목별 분석 결과 (번호순으로 정렬된 배열)")
     private List<NumberedRiskItemResult> riskItems;
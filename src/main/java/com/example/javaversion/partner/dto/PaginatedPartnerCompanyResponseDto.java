@@ -6,6 +6,8 @@ package com.example.javaversion.partner.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,12 +24,21 @@ public class PaginatedPartnerCompanyResponseDto {
     @Schema(description = "현재 페이지의 파트너사 목록 데이터")
     private List<PartnerCompanyResponseDto> data;
     
-    @Schema(description = "전체 파트너사 개수 (필터링된 경우 필터링된 개수)", example = "123")
-    private long total;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "전체 파트너사 개수 (필터링된 경우 필터링된 개수, 커서 모드에서는 캐시된 회원별 개수이며 회사명 필터 사용 시 생략)", example = "123")
+    private Long total;
     
-    @Schema(description = "현재 페이지 번호 (1부터 시작)", example = "1")
+    @Schema(description = "현재 페이지 번호 (1부터 시작, 커서 모드에서는 0)", example = "1")
     private int page;
     
     @Schema(description = "페이지당 표시된 항목 수", example = "10")
     private int pageSize;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "다음 페이지 조회용 커서 (커서 모드에서만 반환, 마지막 페이지이면 생략)", example = "MjAyNS0wMS0wMVQwOTowMDowMHw...")
+    private String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "다음 페이지 존재 여부 (커서 모드에서만 반환)", example = "true")
+    private Boolean hasNext;
 }
\ No newline at end of file
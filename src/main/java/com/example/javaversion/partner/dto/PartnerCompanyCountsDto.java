@@ -0,0 +1,31 @@
+/**
+ * @file PartnerCompanyCountsDto.java
+ * @description 회원별 파트너사 상태별 개수 응답 DTO입니다.
+ */
+package com.example.javaversion.partner.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "회원별 파트너사 상태별 개수 응답 DTO")
+public class PartnerCompanyCountsDto {
+
+    @Schema(description = "회원 ID (전체 집계인 경우 생략)", example = "user-member-uuid")
+    private String memberId;
+
+    @Schema(description = "활성(ACTIVE) 파트너사 개수", example = "120")
+    private long active;
+
+    @Schema(description = "비활성(INACTIVE) 파트너사 개수", example = "3")
+    private long inactive;
+
+    @Schema(description = "전체 파트너사 개수", example = "123")
+    private long total;
+}
@@ -12,6 +12,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -67,6 +68,10 @@ public class PartnerCompanyResponseDto {
     @Schema(description = "파트너사의 주소 정보", example = "서울특별시 강남구 테헤란로 123, 45층", nullable = true)
     private String address;
     
+    @JsonProperty("enrichment_status")
+    @Schema(description = "DART 정보 보강 상태 (PENDING: 주식 코드 등을 비동기로 보강 중, COMPLETED: 보강 완료, FAILED: 보강 실패)", example = "COMPLETED", nullable = true)
+    private PartnerEnrichmentStatus enrichmentStatus;
+
     @JsonProperty("is_restored")
     @Schema(description = "파트너사가 복원되었는지 여부 (true: 비활성 상태에서 복원됨, false: 새로 생성됨)", example = "false", nullable = true)
     private Boolean isRestored;
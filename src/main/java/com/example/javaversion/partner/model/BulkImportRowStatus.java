@@ -0,0 +1,21 @@
+/**
+ * @file BulkImportRowStatus.java
+ * @description 파트너 회사 일괄 등록 결과의 행별 처리 상태를 나타내는 열거형입니다.
+ */
+package com.example.javaversion.partner.model;
+
+/**
+ * 일괄 등록 행 처리 상태입니다.
+ * CREATED: 새 파트너 회사로 등록됨
+ * RESTORED: 같은 이름의 INACTIVE 파트너 회사를 ACTIVE 로 복원함
+ * DUPLICATE: 같은 이름의 ACTIVE 파트너 회사가 이미 있거나 파일 안에서 중복되어 건너뜀
+ * INVALID: 필수 값 누락 또는 형식 오류로 건너뜀
+ * FAILED: 저장 중 오류로 등록하지 못함
+ */
+public enum BulkImportRowStatus {
+    CREATED,
+    RESTORED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
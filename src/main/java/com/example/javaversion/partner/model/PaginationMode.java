@@ -0,0 +1,15 @@
+/**
+ * @file PaginationMode.java
+ * @description 파트너 회사 목록 조회의 페이지네이션 방식을 나타내는 열거형입니다.
+ */
+package com.example.javaversion.partner.model;
+
+/**
+ * 파트너 회사 목록 페이지네이션 방식입니다.
+ * OFFSET: 페이지 번호 기반 (매 요청마다 COUNT 쿼리 수행)
+ * CURSOR: (created_at, id) 키셋 기반 (COUNT 쿼리 없이 다음 페이지 존재 여부만 반환, 무한 스크롤용)
+ */
+public enum PaginationMode {
+    OFFSET,
+    CURSOR
+}
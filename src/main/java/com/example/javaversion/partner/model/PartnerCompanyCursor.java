@@ -0,0 +1,54 @@
+/**
+ * @file PartnerCompanyCursor.java
+ * @description 파트너 회사 목록 키셋 페이지네이션의 커서입니다.
+ *              마지막으로 반환한 항목의 (createdAt, id)를 담으며, 클라이언트에는 base64url 로 인코딩한 불투명 문자열로 전달합니다.
+ */
+package com.example.javaversion.partner.model;
+
+import com.example.javaversion.database.entity.PartnerCompany;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record PartnerCompanyCursor(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PartnerCompanyCursor of(PartnerCompany partnerCompany) {
+        return new PartnerCompanyCursor(partnerCompany.getCreatedAt(), partnerCompany.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 (첫 페이지이면 null)
+     * @throws ResponseStatusException 커서 형식이 잘못된 경우 (400)
+     */
+    public static PartnerCompanyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                throw new IllegalArgumentException("구분자 없음");
+            }
+            return new PartnerCompanyCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    raw.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다.");
+        }
+    }
+}
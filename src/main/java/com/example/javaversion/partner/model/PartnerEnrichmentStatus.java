@@ -0,0 +1,18 @@
+/**
+ * @file PartnerEnrichmentStatus.java
+ * @description 파트너 회사의 DART 정보 보강(주식 코드 등) 진행 상태를 나타내는 열거형입니다.
+ */
+package com.example.javaversion.partner.model;
+
+/**
+ * DART 정보 보강 상태입니다.
+ * PENDING: 요청 데이터만으로 저장되었고, Kafka 파트너 회사 이벤트 처리 시 DART 정보로 보강될 예정
+ * COMPLETED: 요청 값, 기업 코드 목록 또는 DART 조회로 보강 완료
+ * FAILED: 비동기 보강 중 DART 회사 정보를 가져오지 못함
+ * (값이 없는 기존 데이터는 보강 상태를 추적하기 전에 등록된 데이터)
+ */
+public enum PartnerEnrichmentStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
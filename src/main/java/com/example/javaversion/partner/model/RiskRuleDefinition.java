@@ -0,0 +1,133 @@
+/**
+ * @file RiskRuleDefinition.java
+ * @description 재무 위험 규칙 정의 모델입니다.
+ *              risk-rules.json 등 외부 설정 파일에서 읽어 들이며, RiskRuleEngine이 평가 계획으로 컴파일합니다.
+ */
+package com.example.javaversion.partner.model;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하나의 재무 위험 체크 항목을 기술합니다.
+ * left/right 피연산자는 각각 계정 값들의 합계이며, formula 로 계산한 값을 comparator/threshold 로 판정합니다.
+ */
+@Data
+@NoArgsConstructor
+public class RiskRuleDefinition {
+
+    private String id;
+    private int itemNumber;
+    private String description;
+    private Formula formula;
+    private List<Operand> left = new ArrayList<>();
+    private List<Operand> right = new ArrayList<>();
+    private Comparator comparator;
+    private BigDecimal threshold;
+    private String thresholdLabel;
+    /** 나눗셈 시 소수점 자릿수 */
+    private int scale = 4;
+    /** String.format 패턴. 인자 순서: 계산값, left, right */
+    private String valueFormat;
+    /** 정상 계산 시 함께 내려줄 참고사항 */
+    private String notes;
+    /** 필수 계정 값이 없을 때의 참고사항 */
+    private String missingNote;
+    /** 분모(right) 상태에 따른 예외 처리. 선언 순서대로 먼저 일치하는 항목이 적용됩니다. */
+    private List<Guard> guards = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class Operand {
+        private String account;
+        private Term term = Term.CURRENT;
+        /** true 이면 값이 없을 때 0으로 간주합니다. */
+        private boolean optional;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Guard {
+        private Condition when;
+        private Outcome atRisk = Outcome.NO;
+        /** String.format 패턴. 인자 순서: 계산값(null), left, right */
+        private String actualValue;
+        private String notes;
+    }
+
+    public enum Formula {
+        /** left */
+        VALUE,
+        /** left / right */
+        RATIO,
+        /** left / right * 100 */
+        PERCENT,
+        /** (left - right) / |right| * 100 */
+        CHANGE_PERCENT,
+        /** left - right */
+        DIFFERENCE;
+
+        public boolean requiresRight() {
+            return this != VALUE;
+        }
+
+        public boolean divides() {
+            return this == RATIO || this == PERCENT || this == CHANGE_PERCENT;
+        }
+    }
+
+    public enum Comparator {
+        LT, LTE, GT, GTE;
+
+        public boolean test(BigDecimal value, BigDecimal threshold) {
+            int cmp = value.compareTo(threshold);
+            return switch (this) {
+                case LT -> cmp < 0;
+                case LTE -> cmp <= 0;
+                case GT -> cmp > 0;
+                case GTE -> cmp >= 0;
+            };
+        }
+    }
+
+    /**
+     * DART 재무제표 금액 컬럼
+     */
+    @Getter
+    public enum Term {
+        CURRENT("thstrm_amount"),
+        PREVIOUS("frmtrm_amount"),
+        CURRENT_CUMULATIVE("thstrm_add_amount"),
+        PREVIOUS_CUMULATIVE("frmtrm_add_amount");
+
+        private final String field;
+
+        Term(String field) {
+            this.field = field;
+        }
+    }
+
+    public enum Condition {
+        RIGHT_ZERO,
+        RIGHT_NEGATIVE,
+        RIGHT_NOT_POSITIVE;
+
+        public boolean matches(BigDecimal right) {
+            int sign = right.signum();
+            return switch (this) {
+                case RIGHT_ZERO -> sign == 0;
+                case RIGHT_NEGATIVE -> sign < 0;
+                case RIGHT_NOT_POSITIVE -> sign <= 0;
+            };
+        }
+    }
+
+    public enum Outcome {
+        NO, YES, LEFT_POSITIVE
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * @file PartnerApiClient.java
+ * @description 파트너 회사 외부 시스템 API 클라이언트입니다.
+ *              미리 구성된 partnerApiWebClient(전용 연결 풀, 인증 헤더)를 재사용하며 호출을 블로킹하지 않고 Mono 로 돌려줍니다.
+ *              연결 실패, 타임아웃, 요청 한도 초과(429), 서버 오류(5xx)는 지수 백오프로 재시도하고,
+ *              재시도 후에도 실패하면 TransientApiException(503)으로 응답합니다. 외부 시스템에 없는 회사(404)는 404 로 전달합니다.
+ *              조회 결과는 회사 ID(재무 정보는 회사 ID, 연도, 분기) 기준으로 캐시합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.common.exception.TransientApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartnerApiClient {
+
+    static final String COMPANY_INFO_CACHE_NAME = "partnerCompanyInfo";
+    static final String FINANCIAL_INFO_CACHE_NAME = "partnerFinancialInfo";
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    @Qualifier("partnerApiWebClient")
+    private final WebClient partnerApiWebClient;
+
+    @Value("${partner.api.timeout-seconds:15}")
+    private long timeoutSeconds;
+
+    @Value("${partner.api.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${partner.api.retry.min-backoff-ms:200}")
+    private long retryMinBackoffMs;
+
+    @Value("${partner.api.retry.max-backoff-ms:2000}")
+    private long retryMaxBackoffMs;
+
+    /**
+     * 파트너 API에서 회사 정보를 조회합니다.
+     *
+     * @param companyId 회사 ID
+     * @return 회사 정보
+     */
+    @Cacheable(value = COMPANY_INFO_CACHE_NAME, key = "#companyId")
+    public Mono<Map<String, Object>> getCompanyInfo(String companyId) {
+        log.info("파트너 API 호출 - 회사 정보 조회: {}", companyId);
+        return fetch(partnerApiWebClient.get()
+                .uri("/companies/{companyId}", companyId), "회사 정보 조회: " + companyId);
+    }
+
+    /**
+     * 파트너 API에서 회사의 재무 정보를 조회합니다.
+     *
+     * @param companyId 회사 ID
+     * @param year 조회 연도
+     * @param quarter 조회 분기
+     * @return 재무 정보
+     */
+    @Cacheable(value = FINANCIAL_INFO_CACHE_NAME, key = "#companyId + '_' + #year + '_' + #quarter")
+    public Mono<Map<String, Object>> getFinancialInfo(String companyId, int year, int quarter) {
+        log.info("파트너 API 호출 - 재무 정보 조회: {}, {}년 {}분기", companyId, year, quarter);
+        return fetch(partnerApiWebClient.get()
+                        .uri("/companies/{companyId}/financials?year={year}&quarter={quarter}", companyId, year, quarter),
+                "재무 정보 조회: " + companyId + ", " + year + "년 " + quarter + "분기");
+    }
+
+    private Mono<Map<String, Object>> fetch(WebClient.RequestHeadersSpec<?> request, String description) {
+        return request
+                .retrieve()
+                .bodyToMono(MAP_TYPE)
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .retryWhen(Retry.backoff(retryMaxAttempts - 1L, Duration.ofMillis(retryMinBackoffMs))
+                        .maxBackoff(Duration.ofMillis(retryMaxBackoffMs))
+                        .filter(PartnerApiClient::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("파트너 API 재시도 ({}회) - {}, 오류: {}",
+                                signal.totalRetries() + 1, description, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> new TransientApiException(
+                                "파트너 API 일시적 오류 - " + description, signal.failure())))
+                .onErrorMap(WebClientResponseException.NotFound.class,
+                        e -> new ResponseStatusException(HttpStatus.NOT_FOUND, "파트너 API에서 정보를 찾을 수 없습니다 - " + description))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "파트너 API 호출 실패 - " + description, e))
+                .doOnError(e -> log.error("파트너 API 호출 실패 - {}, 오류: {}", description, e.getMessage()));
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 실패(연결 실패, 타임아웃, 429, 5xx)인지 확인합니다.
+     */
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                    || responseException.getStatusCode().is5xxServerError();
+        }
+        return TransientApiException.isTransient(error);
+    }
+}
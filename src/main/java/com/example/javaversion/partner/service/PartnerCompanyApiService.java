@@ -2,6 +2,8 @@
  * @file PartnerCompanyApiService.java
  * @description 파트너 회사 API와 통신하기 위한 서비스입니다.
  *              파트너 회사 정보의 CRUD 기능을 제공합니다.
+ *              변경 이벤트는 같은 트랜잭션에서 아웃박스에 기록되어 커밋된 변경만 Kafka 로 발행됩니다.
+ *              파트너 회사 토픽의 메시지 키는 DART 고유번호이므로 같은 기업의 이벤트는 같은 파티션에서 순서대로 처리됩니다.
  */
 package com.example.javaversion.partner.service;
 
@@ -9,26 +11,26 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.example.javaversion.dart.dto.CompanyProfileResponse;
 import com.example.javaversion.dart.service.DartApiService;
+import com.example.javaversion.database.entity.DartCorpCode;
 import com.example.javaversion.database.entity.PartnerCompany;
 import com.example.javaversion.database.repository.PartnerCompanyRepository;
-import com.example.javaversion.kafka.service.KafkaProducerService;
+import com.example.javaversion.kafka.service.OutboxService;
 import com.example.javaversion.partner.dto.CreatePartnerCompanyDto;
 import com.example.javaversion.partner.dto.PaginatedPartnerCompanyResponseDto;
 import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
 import com.example.javaversion.partner.dto.UpdatePartnerCompanyDto;
+import com.example.javaversion.partner.model.PartnerCompanyCursor;
 import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,7 +39,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -45,71 +46,31 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PartnerCompanyApiService {
 
-    @Value("${partner.api.base-url}")
-    private String baseUrl;
-
-    @Value("${partner.api.client-id}")
-    private String clientId;
+    /**
+     * DART 정보(주식 코드 등) 보강 방식
+     * SYNC: 등록/수정 요청 처리 중 DART 회사 정보를 조회
+     * ASYNC: 요청 데이터와 기업 코드 목록으로 즉시 저장하고, 나머지는 Kafka 파트너 회사 이벤트 처리 시 보강
+     */
+    public enum EnrichmentMode { SYNC, ASYNC }
 
-    @Value("${partner.api.client-secret}")
-    private String clientSecret;
+    /** 주식 코드 결정 결과 */
+    private record StockCodeResolution(String corpCode, String stockCode, PartnerEnrichmentStatus enrichmentStatus) {
+    }
 
     @Value("${kafka.topic.partner-company}")
     private String partnerCompanyTopic;
 
-    private final WebClient.Builder webClientBuilder;
-    private final PartnerCompanyRepository partnerCompanyRepository;
-    private final DartApiService dartApiService;
-    private final KafkaProducerService kafkaProducerService;
+    @Value("${kafka.topic.partner-company-restore:partner-company-restore}")
+    private String partnerCompanyRestoreTopic;
 
-    /**
-     * 파트너 API에서 회사 정보를 조회합니다.
-     * 
-     * @param companyId 회사 ID
-     * @return 회사 정보
-     */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> getCompanyInfo(String companyId) {
-        log.info("파트너 API 호출 - 회사 정보 조회: {}", companyId);
-
-        return webClientBuilder.baseUrl(baseUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader("X-Client-Id", clientId)
-                .defaultHeader("X-Client-Secret", clientSecret)
-                .build()
-                .get()
-                .uri("/companies/{companyId}", companyId)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .doOnError(e -> log.error("파트너 API 호출 실패: {}", e.getMessage()))
-                .block();
-    }
+    @Value("${partner.enrichment.mode:SYNC}")
+    private EnrichmentMode enrichmentMode;
 
-    /**
-     * 파트너 API에서 회사의 재무 정보를 조회합니다.
-     * 
-     * @param companyId 회사 ID
-     * @param year 조회 연도
-     * @param quarter 조회 분기
-     * @return 재무 정보
-     */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> getFinancialInfo(String companyId, int year, int quarter) {
-        log.info("파트너 API 호출 - 재무 정보 조회: {}, {}년 {}분기", companyId, year, quarter);
-
-        return webClientBuilder.baseUrl(baseUrl)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader("X-Client-Id", clientId)
-                .defaultHeader("X-Client-Secret", clientSecret)
-                .build()
-                .get()
-                .uri("/companies/{companyId}/financials?year={year}&quarter={quarter}", 
-                        companyId, year, quarter)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .doOnError(e -> log.error("파트너 API 호출 실패: {}", e.getMessage()))
-                .block();
-    }
+    private final PartnerCompanyRepository partnerCompanyRepository;
+    private final PartnerCompanySearchService partnerCompanySearchService;
+    private final PartnerCompanyCountService partnerCompanyCountService;
+    private final DartApiService dartApiService;
+    private final OutboxService outboxService;
 
     /**
      * 새로운 파트너 회사를 생성합니다.
@@ -173,6 +134,8 @@ public class PartnerCompanyApiService {
             log.info("INACTIVE 상태의 기존 파트너사 발견 - 복원 처리: {}", createDto.getCompanyName());
             PartnerCompany existingPartner = inactivePartner.get();
             
+            String previousMemberId = existingPartner.getMemberId();
+
             // 기존 데이터를 새로운 정보로 업데이트하고 ACTIVE로 복원
             existingPartner.setCorpCode(createDto.getCorpCode());
             existingPartner.setContractStartDate(createDto.getContractStartDate());
@@ -181,74 +144,33 @@ public class PartnerCompanyApiService {
             existingPartner.setMemberId(memberId); // 현재 사용자로 변경
             
             // stockCode 업데이트
-            String stockCode = createDto.getStockCode();
-            if (stockCode == null || stockCode.trim().isEmpty()) {
-                try {
-                    CompanyProfileResponse dartProfile = dartApiService.getCompanyProfile(createDto.getCorpCode()).block();
-                    if (dartProfile != null) {
-                        stockCode = dartProfile.getStockCode();
-                    }
-                } catch (Exception e) {
-                    log.warn("DART API 호출 중 오류 발생: {}", e.getMessage());
-                }
-            }
-            existingPartner.setStockCode(stockCode);
+            StockCodeResolution resolution = resolveStockCode(createDto.getCorpCode(), createDto.getStockCode());
+            existingPartner.setStockCode(resolution.stockCode());
+            existingPartner.setEnrichmentStatus(resolution.enrichmentStatus());
             
             PartnerCompany restoredPartner = partnerCompanyRepository.save(existingPartner);
             log.info("파트너사 복원 완료 - ID: {}", restoredPartner.getId());
+            requestEnrichmentIfPending(restoredPartner);
+            partnerCompanyCountService.recordTransition(previousMemberId, PartnerCompanyStatus.INACTIVE, memberId, PartnerCompanyStatus.ACTIVE);
             
-            // Kafka 메시지 발행 (복원 이벤트)
-            try {
-                CompletableFuture<SendResult<String, Object>> future =
-                        kafkaProducerService.sendPartnerRestoreEvent(restoredPartner.getId().toString(), mapToResponseDto(restoredPartner));
-                future.whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        log.info("파트너사 복원 이벤트 발행 성공: {}", restoredPartner.getId());
-                    } else {
-                        log.error("파트너사 복원 이벤트 발행 실패: {}", ex.getMessage());
-                    }
-                });
-            } catch (Exception e) {
-                log.error("파트너사 복원 이벤트 발행 중 오류: {}", e.getMessage());
-            }
+            // 복원 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 릴레이가 발행)
+            outboxService.enqueue(partnerCompanyRestoreTopic, restoredPartner.getId(), mapToResponseDto(restoredPartner));
             
             return mapToResponseDto(restoredPartner, true); // 복원됨을 표시
         }
 
         // 3. 새로운 파트너사 생성 (기존 로직)
 
-        // 프론트엔드에서 제공된 stockCode 우선 사용
-        String stockCode = createDto.getStockCode();
-        String finalCorpCode = createDto.getCorpCode();
-
-        // stockCode가 제공되지 않았거나 비어있는 경우 DART API에서 조회
-        if (stockCode == null || stockCode.trim().isEmpty()) {
-            try {
-                CompanyProfileResponse dartProfile = dartApiService.getCompanyProfile(createDto.getCorpCode()).block();
-                if (dartProfile != null) {
-                    log.info("DART API에서 회사 정보 조회 성공 - 회사명: {}", dartProfile.getCorpName());
-                    stockCode = dartProfile.getStockCode();
-
-                    // DART API에서 반환한 corpCode가 다른 경우 업데이트
-                    if (dartProfile.getCorpCode() != null && !dartProfile.getCorpCode().equals(finalCorpCode)) {
-                        log.info("DART API에서 반환한 corpCode({})가 요청한 corpCode({})와 다릅니다. DART API 값을 사용합니다.", 
-                                dartProfile.getCorpCode(), finalCorpCode);
-                        finalCorpCode = dartProfile.getCorpCode();
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("DART API 호출 중 오류 발생: {}", e.getMessage());
-            }
-        } else {
-            log.info("프론트엔드에서 제공된 주식코드 사용: {}", stockCode);
-        }
+        // 프론트엔드에서 제공된 stockCode 우선 사용, 없으면 보강 방식에 따라 조회
+        StockCodeResolution resolution = resolveStockCode(createDto.getCorpCode(), createDto.getStockCode());
 
         // 파트너 회사 엔티티 생성
         PartnerCompany partnerCompany = PartnerCompany.builder()
                 .memberId(memberId)
                 .companyName(createDto.getCompanyName())
-                .corpCode(finalCorpCode)
-                .stockCode(stockCode)
+                .corpCode(resolution.corpCode())
+                .stockCode(resolution.stockCode())
+                .enrichmentStatus(resolution.enrichmentStatus())
                 .contractStartDate(createDto.getContractStartDate())
                 .status(PartnerCompanyStatus.ACTIVE)
                 .createdAt(LocalDateTime.now())
@@ -258,24 +180,13 @@ public class PartnerCompanyApiService {
         // 데이터베이스에 저장
         PartnerCompany savedPartnerCompany = partnerCompanyRepository.save(partnerCompany);
         log.info("파트너 회사 생성 완료 - ID: {}", savedPartnerCompany.getId());
+        partnerCompanyCountService.recordAdded(memberId, PartnerCompanyStatus.ACTIVE);
 
         // 응답 DTO 생성
         PartnerCompanyResponseDto responseDto = mapToResponseDto(savedPartnerCompany);
 
-        // Kafka 메시지 발행
-        try {
-            CompletableFuture<SendResult<String, Object>> future = 
-                    kafkaProducerService.sendMessage(partnerCompanyTopic, savedPartnerCompany.getId().toString(), responseDto);
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("파트너 회사 생성 메시지 발행 성공 - ID: {}", savedPartnerCompany.getId());
-                } else {
-                    log.error("파트너 회사 생성 메시지 발행 실패 - ID: {}", savedPartnerCompany.getId(), ex);
-                }
-            });
-        } catch (Exception e) {
-            log.error("Kafka 메시지 발행 중 오류 발생", e);
-        }
+        // 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 릴레이가 발행)
+        outboxService.enqueue(partnerCompanyTopic, partnerEventKey(savedPartnerCompany), responseDto);
 
         return responseDto;
     }
@@ -302,26 +213,70 @@ public class PartnerCompanyApiService {
         // 페이지 번호는 0부터 시작하므로 1을 빼줌 (이제 항상 0 이상이 보장됨)
         Pageable pageable = PageRequest.of(validPage - 1, validPageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<PartnerCompany> partnerCompaniesPage;
         if (companyName != null && !companyName.isEmpty()) {
-            partnerCompaniesPage = partnerCompanyRepository.findByCompanyNameContainingIgnoreCaseAndStatus(
-                    companyName, PartnerCompanyStatus.ACTIVE, pageable);
-        } else {
-            partnerCompaniesPage = partnerCompanyRepository.findByStatus(PartnerCompanyStatus.ACTIVE, pageable);
+            Page<PartnerCompany> partnerCompaniesPage = partnerCompanySearchService.searchByCompanyName(
+                    null, companyName, PartnerCompanyStatus.ACTIVE, pageable);
+            return toPaginatedResponse(partnerCompaniesPage.getContent(), partnerCompaniesPage.getTotalElements(), validPage, validPageSize);
         }
+        // 필터가 없으면 COUNT 쿼리 대신 회원별 개수 합계를 전체 건수로 사용
+        Slice<PartnerCompany> slice = partnerCompanyRepository.findSliceByStatus(PartnerCompanyStatus.ACTIVE, pageable);
+        return toPaginatedResponse(slice.getContent(),
+                partnerCompanyCountService.count(null, PartnerCompanyStatus.ACTIVE), validPage, validPageSize);
+    }
 
-        List<PartnerCompanyResponseDto> partnerCompanies = partnerCompaniesPage.getContent().stream()
+    /**
+     * 파트너 회사 목록을 커서(키셋) 방식으로 조회합니다.
+     * (createdAt, id) 내림차순으로 정렬하며, COUNT 쿼리 대신 다음 페이지 존재 여부와 커서를 반환합니다.
+     * 회사명 필터가 없으면 전체 건수는 캐시된 회원별 개수로 제공합니다.
+     *
+     * @param memberId 회원 ID (null 이면 전체 회원)
+     * @param status 파트너 회사 상태 (null 이면 모든 상태)
+     * @param companyName 회사명 필터 (부분 일치)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param pageSize 페이지당 항목 수
+     * @return 커서를 포함한 파트너 회사 목록
+     */
+    @Transactional(readOnly = true)
+    public PaginatedPartnerCompanyResponseDto findPartnerCompaniesByCursor(String memberId, PartnerCompanyStatus status,
+                                                                          String companyName, String cursor, int pageSize) {
+        PartnerCompanyCursor after = PartnerCompanyCursor.decode(cursor);
+        int validPageSize = Math.max(1, Math.min(100, pageSize));
+        boolean filtered = companyName != null && !companyName.isBlank();
+        log.info("파트너 회사 목록 커서 조회 요청 - 회원 ID: {}, 상태: {}, 페이지 크기: {}, 회사명 필터: {}, 첫 페이지: {}",
+                memberId, status, validPageSize, companyName, after == null);
+
+        Slice<PartnerCompany> slice = partnerCompanyRepository.findSliceAfterCursor(
+                memberId,
+                status,
+                filtered ? "%" + escapeLikePattern(companyName.trim().toLowerCase()) + "%" : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, validPageSize));
+
+        List<PartnerCompany> content = slice.getContent();
+        List<PartnerCompanyResponseDto> partnerCompanies = content.stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
 
         return PaginatedPartnerCompanyResponseDto.builder()
                 .data(partnerCompanies)
-                .total(partnerCompaniesPage.getTotalElements())
-                .page(validPage)
+                .total(filtered ? null : partnerCompanyCountService.count(memberId, status))
+                .page(0)
                 .pageSize(validPageSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() && !content.isEmpty()
+                        ? PartnerCompanyCursor.of(content.get(content.size() - 1)).encode()
+                        : null)
                 .build();
     }
 
+    /**
+     * LIKE 패턴의 와일드카드 문자를 이스케이프합니다. (JPQL 의 ESCAPE '!' 와 함께 사용)
+     */
+    private static String escapeLikePattern(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * ID로 파트너 회사를 조회합니다.
      * 
@@ -375,6 +330,7 @@ public class PartnerCompanyApiService {
             if (inactivePartner.isPresent()) {
                 log.info("INACTIVE 상태의 기존 파트너사 발견 - 복원 처리: {}", updateDto.getCompanyName());
                 PartnerCompany existingPartner = inactivePartner.get();
+                String previousMemberId = existingPartner.getMemberId();
                 
                 // 현재 파트너사는 삭제 처리
                 partnerCompany.setStatus(PartnerCompanyStatus.INACTIVE);
@@ -389,38 +345,20 @@ public class PartnerCompanyApiService {
                 existingPartner.setMemberId(partnerCompany.getMemberId()); // 현재 사용자로 변경
                 
                 // 주식코드 업데이트
-                String stockCode = updateDto.getStockCode();
-                String finalCorpCode = updateDto.getCorpCode() != null ? updateDto.getCorpCode() : partnerCompany.getCorpCode();
-                
-                if (stockCode == null || stockCode.trim().isEmpty()) {
-                    try {
-                        CompanyProfileResponse dartProfile = dartApiService.getCompanyProfile(finalCorpCode).block();
-                        if (dartProfile != null) {
-                            stockCode = dartProfile.getStockCode();
-                        }
-                    } catch (Exception e) {
-                        log.warn("DART API 호출 중 오류 발생: {}", e.getMessage());
-                    }
-                }
-                existingPartner.setStockCode(stockCode);
+                StockCodeResolution resolution = resolveStockCode(existingPartner.getCorpCode(), updateDto.getStockCode());
+                existingPartner.setStockCode(resolution.stockCode());
+                existingPartner.setEnrichmentStatus(resolution.enrichmentStatus());
                 
                 PartnerCompany restoredPartner = partnerCompanyRepository.save(existingPartner);
                 log.info("파트너사 복원 완료 - ID: {}", restoredPartner.getId());
+                requestEnrichmentIfPending(restoredPartner);
+                partnerCompanyCountService.recordTransition(partnerCompany.getMemberId(), PartnerCompanyStatus.ACTIVE,
+                        partnerCompany.getMemberId(), PartnerCompanyStatus.INACTIVE);
+                partnerCompanyCountService.recordTransition(previousMemberId, PartnerCompanyStatus.INACTIVE,
+                        restoredPartner.getMemberId(), PartnerCompanyStatus.ACTIVE);
                 
-                // Kafka 메시지 발행 (복원 이벤트)
-                try {
-                    CompletableFuture<SendResult<String, Object>> future =
-                            kafkaProducerService.sendPartnerRestoreEvent(restoredPartner.getId().toString(), mapToResponseDto(restoredPartner));
-                    future.whenComplete((result, ex) -> {
-                        if (ex == null) {
-                            log.info("파트너사 복원 이벤트 발행 성공: {}", restoredPartner.getId());
-                        } else {
-                            log.error("파트너사 복원 이벤트 발행 실패: {}", ex.getMessage());
-                        }
-                    });
-                } catch (Exception e) {
-                    log.error("파트너사 복원 이벤트 발행 중 오류: {}", e.getMessage());
-                }
+                // 복원 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 릴레이가 발행)
+                outboxService.enqueue(partnerCompanyRestoreTopic, restoredPartner.getId(), mapToResponseDto(restoredPartner));
                 
                 return mapToResponseDto(restoredPartner, true); // 복원됨을 표시
             }
@@ -433,26 +371,15 @@ public class PartnerCompanyApiService {
         // 프론트엔드에서 stockCode가 명시적으로 제공된 경우 우선 사용
         if (updateDto.getStockCode() != null) {
             stockCode = updateDto.getStockCode();
+            partnerCompany.setEnrichmentStatus(PartnerEnrichmentStatus.COMPLETED);
             log.info("프론트엔드에서 제공된 주식코드로 업데이트: {}", stockCode);
         }
-        // corpCode가 변경된 경우 DART API에서 새로운 정보 조회
+        // corpCode가 변경된 경우 새로운 기업의 주식 코드 조회 (보강 방식에 따라 동기 또는 비동기)
         else if (updateDto.getCorpCode() != null && !updateDto.getCorpCode().equals(partnerCompany.getCorpCode())) {
-            try {
-                CompanyProfileResponse dartProfile = dartApiService.getCompanyProfile(updateDto.getCorpCode()).block();
-                if (dartProfile != null) {
-                    log.info("DART API에서 회사 정보 조회 성공 - 회사명: {}", dartProfile.getCorpName());
-                    stockCode = dartProfile.getStockCode();
-
-                    // DART API에서 반환한 corpCode가 다른 경우 업데이트
-                    if (dartProfile.getCorpCode() != null && !dartProfile.getCorpCode().equals(finalCorpCode)) {
-                        log.info("DART API에서 반환한 corpCode({})가 요청한 corpCode({})와 다릅니다. DART API 값을 사용합니다.", 
-                                dartProfile.getCorpCode(), finalCorpCode);
-                        finalCorpCode = dartProfile.getCorpCode();
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("DART API 호출 중 오류 발생: {}", e.getMessage());
-            }
+            StockCodeResolution resolution = resolveStockCode(updateDto.getCorpCode(), null);
+            finalCorpCode = resolution.corpCode();
+            stockCode = resolution.stockCode();
+            partnerCompany.setEnrichmentStatus(resolution.enrichmentStatus());
         }
 
         // 필드 업데이트
@@ -476,20 +403,8 @@ public class PartnerCompanyApiService {
         // 응답 DTO 생성
         PartnerCompanyResponseDto responseDto = mapToResponseDto(updatedPartnerCompany);
 
-        // Kafka 메시지 발행
-        try {
-            CompletableFuture<SendResult<String, Object>> future = 
-                    kafkaProducerService.sendMessage(partnerCompanyTopic, updatedPartnerCompany.getId().toString(), responseDto);
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("파트너 회사 업데이트 메시지 발행 성공 - ID: {}", updatedPartnerCompany.getId());
-                } else {
-                    log.error("파트너 회사 업데이트 메시지 발행 실패 - ID: {}", updatedPartnerCompany.getId(), ex);
-                }
-            });
-        } catch (Exception e) {
-            log.error("Kafka 메시지 발행 중 오류 발생", e);
-        }
+        // 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 릴레이가 발행)
+        outboxService.enqueue(partnerCompanyTopic, partnerEventKey(updatedPartnerCompany), responseDto);
 
         return responseDto;
     }
@@ -517,27 +432,82 @@ public class PartnerCompanyApiService {
         // 데이터베이스에 저장
         PartnerCompany deletedPartnerCompany = partnerCompanyRepository.save(partnerCompany);
         log.info("파트너 회사 삭제(비활성화) 완료 - ID: {}", deletedPartnerCompany.getId());
+        partnerCompanyCountService.recordTransition(deletedPartnerCompany.getMemberId(), PartnerCompanyStatus.ACTIVE,
+                deletedPartnerCompany.getMemberId(), PartnerCompanyStatus.INACTIVE);
 
         // 응답 DTO 생성
         PartnerCompanyResponseDto responseDto = mapToResponseDto(deletedPartnerCompany);
 
-        // Kafka 메시지 발행
+        // 이벤트를 같은 트랜잭션에서 아웃박스에 기록 (커밋 후 릴레이가 발행)
+        outboxService.enqueue(partnerCompanyTopic, partnerEventKey(deletedPartnerCompany), responseDto);
+
+        return Map.of("message",
+                String.format("ID '%s' 파트너사가 성공적으로 비활성화되었습니다.", id));
+    }
+
+    /**
+     * 주식 코드를 결정합니다. 요청 값이 있으면 그대로 사용하고, 없으면 보강 방식에 따라 조회합니다.
+     * SYNC: DART 회사 정보를 조회 (실패 시 PENDING 으로 저장하여 Kafka 처리 시 다시 보강)
+     * ASYNC: 기업 코드 목록(캐시)에서만 찾고, 없으면 PENDING 으로 저장하여 요청 경로에서 DART 를 호출하지 않음
+     *
+     * @param corpCode 요청한 DART 기업 고유 코드
+     * @param requestedStockCode 요청에 포함된 주식 코드 (없으면 null)
+     * @return 저장할 기업 코드, 주식 코드, 보강 상태
+     */
+    private StockCodeResolution resolveStockCode(String corpCode, String requestedStockCode) {
+        if (requestedStockCode != null && !requestedStockCode.trim().isEmpty()) {
+            log.info("프론트엔드에서 제공된 주식코드 사용: {}", requestedStockCode);
+            return new StockCodeResolution(corpCode, requestedStockCode, PartnerEnrichmentStatus.COMPLETED);
+        }
+
+        if (enrichmentMode == EnrichmentMode.ASYNC) {
+            Optional<DartCorpCode> dartCorpCode = dartApiService.findCorpCodeByCorpCode(corpCode);
+            if (dartCorpCode.isPresent()) {
+                String stockCode = dartCorpCode.get().getStockCode();
+                return new StockCodeResolution(corpCode,
+                        stockCode == null || stockCode.isBlank() ? null : stockCode.trim(), PartnerEnrichmentStatus.COMPLETED);
+            }
+            log.info("기업 코드 목록에 없는 기업 - DART 정보는 Kafka 처리 시 비동기로 보강: corpCode={}", corpCode);
+            return new StockCodeResolution(corpCode, null, PartnerEnrichmentStatus.PENDING);
+        }
+
         try {
-            CompletableFuture<SendResult<String, Object>> future = 
-                    kafkaProducerService.sendMessage(partnerCompanyTopic, deletedPartnerCompany.getId().toString(), responseDto);
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("파트너 회사 삭제 메시지 발행 성공 - ID: {}", deletedPartnerCompany.getId());
-                } else {
-                    log.error("파트너 회사 삭제 메시지 발행 실패 - ID: {}", deletedPartnerCompany.getId(), ex);
+            CompanyProfileResponse dartProfile = dartApiService.getCompanyProfile(corpCode).block();
+            if (dartProfile != null) {
+                log.info("DART API에서 회사 정보 조회 성공 - 회사명: {}", dartProfile.getCorpName());
+                String finalCorpCode = corpCode;
+
+                // DART API에서 반환한 corpCode가 다른 경우 업데이트
+                if (dartProfile.getCorpCode() != null && !dartProfile.getCorpCode().equals(corpCode)) {
+                    log.info("DART API에서 반환한 corpCode({})가 요청한 corpCode({})와 다릅니다. DART API 값을 사용합니다.",
+                            dartProfile.getCorpCode(), corpCode);
+                    finalCorpCode = dartProfile.getCorpCode();
                 }
-            });
+                return new StockCodeResolution(finalCorpCode, dartProfile.getStockCode(), PartnerEnrichmentStatus.COMPLETED);
+            }
         } catch (Exception e) {
-            log.error("Kafka 메시지 발행 중 오류 발생", e);
+            log.warn("DART API 호출 중 오류 발생: {}", e.getMessage());
         }
+        return new StockCodeResolution(corpCode, null, PartnerEnrichmentStatus.PENDING);
+    }
 
-        return Map.of("message",
-                String.format("ID '%s' 파트너사가 성공적으로 비활성화되었습니다.", id));
+    /**
+     * 복원 이벤트는 DART 연동을 수행하지 않으므로, 보강 대기 중인 복원 파트너사는 파트너 회사 토픽으로도 발행하여 보강을 요청합니다.
+     */
+    private void requestEnrichmentIfPending(PartnerCompany partnerCompany) {
+        if (partnerCompany.getEnrichmentStatus() != PartnerEnrichmentStatus.PENDING) {
+            return;
+        }
+        outboxService.enqueue(partnerCompanyTopic, partnerEventKey(partnerCompany), mapToResponseDto(partnerCompany, true));
+    }
+
+    /**
+     * 파트너 회사 토픽의 메시지 키를 반환합니다.
+     * 같은 기업의 이벤트가 같은 파티션에 순서대로 쌓이도록 DART 고유번호를 키로 사용하고, 고유번호가 없으면 파트너사 ID를 사용합니다.
+     */
+    static String partnerEventKey(PartnerCompany partnerCompany) {
+        String corpCode = partnerCompany.getCorpCode();
+        return corpCode != null && !corpCode.isBlank() ? corpCode : partnerCompany.getId();
     }
 
     /**
@@ -562,6 +532,7 @@ public class PartnerCompanyApiService {
                 .industry(partnerCompany.getIndustry())
                 .country(partnerCompany.getCountry())
                 .address(partnerCompany.getAddress())
+                .enrichmentStatus(partnerCompany.getEnrichmentStatus())
                 .isRestored(false) // 기본값은 false (새로 생성됨)
                 .build();
     }
@@ -571,9 +542,9 @@ public class PartnerCompanyApiService {
      * 
      * @param partnerCompany 파트너 회사 엔티티
      * @param isRestored 복원 여부
-     * @return 파트너 회사 응답 DTO
+     * @return 파트너 회사 응답 DTO (일괄 등록 서비스에서도 같은 변환을 사용하므로 패키지 범위로 공개)
      */
-    private PartnerCompanyResponseDto mapToResponseDto(PartnerCompany partnerCompany, boolean isRestored) {
+    PartnerCompanyResponseDto mapToResponseDto(PartnerCompany partnerCompany, boolean isRestored) {
         if (partnerCompany == null) {
             return null;
         }
@@ -589,6 +560,7 @@ public class PartnerCompanyApiService {
                 .industry(partnerCompany.getIndustry())
                 .country(partnerCompany.getCountry())
                 .address(partnerCompany.getAddress())
+                .enrichmentStatus(partnerCompany.getEnrichmentStatus())
                 .isRestored(isRestored)
                 .build();
     }
@@ -616,25 +588,16 @@ public class PartnerCompanyApiService {
         // 페이지 번호는 0부터 시작하므로 1을 빼줌 (이제 항상 0 이상이 보장됨)
         Pageable pageable = PageRequest.of(validPage - 1, validPageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<PartnerCompany> partnerCompaniesPage;
         if (companyName != null && !companyName.isEmpty()) {
-            partnerCompaniesPage = partnerCompanyRepository.findByMemberIdAndCompanyNameContainingIgnoreCaseAndStatus(
+            Page<PartnerCompany> partnerCompaniesPage = partnerCompanySearchService.searchByCompanyName(
                     memberId, companyName, PartnerCompanyStatus.ACTIVE, pageable);
-        } else {
-            partnerCompaniesPage = partnerCompanyRepository.findByMemberIdAndStatus(
-                    memberId, PartnerCompanyStatus.ACTIVE, pageable);
+            return toPaginatedResponse(partnerCompaniesPage.getContent(), partnerCompaniesPage.getTotalElements(), validPage, validPageSize);
         }
-
-        List<PartnerCompanyResponseDto> partnerCompanies = partnerCompaniesPage.getContent().stream()
-                .map(this::mapToResponseDto)
-                .collect(Collectors.toList());
-
-        return PaginatedPartnerCompanyResponseDto.builder()
-                .data(partnerCompanies)
-                .total(partnerCompaniesPage.getTotalElements())
-                .page(validPage)
-                .pageSize(validPageSize)
-                .build();
+        // 필터가 없으면 COUNT 쿼리 대신 회원별 개수를 전체 건수로 사용
+        Slice<PartnerCompany> slice = partnerCompanyRepository.findSliceByMemberIdAndStatus(
+                memberId, PartnerCompanyStatus.ACTIVE, pageable);
+        return toPaginatedResponse(slice.getContent(),
+                partnerCompanyCountService.count(memberId, PartnerCompanyStatus.ACTIVE), validPage, validPageSize);
     }
 
     /**
@@ -671,34 +634,30 @@ public class PartnerCompanyApiService {
         
         Pageable pageable = PageRequest.of(validPage, validSize, Sort.by(Sort.Direction.ASC, "companyName"));
 
-        Page<PartnerCompany> partnerCompaniesPage;
-        
-        if (includeInactive) {
-            // ACTIVE와 INACTIVE 모두 포함
-            if (companyNameFilter != null && !companyNameFilter.isEmpty()) {
-                partnerCompaniesPage = partnerCompanyRepository.findByCompanyNameContainingIgnoreCase(companyNameFilter, pageable);
-            } else {
-                partnerCompaniesPage = partnerCompanyRepository.findAll(pageable);
-            }
-        } else {
-            // ACTIVE만 포함
-            if (companyNameFilter != null && !companyNameFilter.isEmpty()) {
-                partnerCompaniesPage = partnerCompanyRepository.findByCompanyNameContainingIgnoreCaseAndStatus(
-                        companyNameFilter, PartnerCompanyStatus.ACTIVE, pageable);
-            } else {
-                partnerCompaniesPage = partnerCompanyRepository.findByStatus(PartnerCompanyStatus.ACTIVE, pageable);
-            }
+        // ACTIVE와 INACTIVE 모두 포함하면 상태 조건 없음
+        PartnerCompanyStatus status = includeInactive ? null : PartnerCompanyStatus.ACTIVE;
+        if (companyNameFilter != null && !companyNameFilter.isEmpty()) {
+            Page<PartnerCompany> partnerCompaniesPage = partnerCompanySearchService.searchByCompanyName(
+                    null, companyNameFilter, status, pageable);
+            return toPaginatedResponse(partnerCompaniesPage.getContent(), partnerCompaniesPage.getTotalElements(), validPage, validSize);
         }
+        // 필터가 없으면 COUNT 쿼리 대신 회원별 개수 합계를 전체 건수로 사용
+        Slice<PartnerCompany> slice = includeInactive
+                ? partnerCompanyRepository.findSliceBy(pageable)
+                : partnerCompanyRepository.findSliceByStatus(PartnerCompanyStatus.ACTIVE, pageable);
+        return toPaginatedResponse(slice.getContent(), partnerCompanyCountService.count(null, status), validPage, validSize);
+    }
 
-        List<PartnerCompanyResponseDto> partnerCompanies = partnerCompaniesPage.getContent().stream()
+    private PaginatedPartnerCompanyResponseDto toPaginatedResponse(List<PartnerCompany> content, long total, int page, int pageSize) {
+        List<PartnerCompanyResponseDto> partnerCompanies = content.stream()
                 .map(this::mapToResponseDto)
                 .collect(Collectors.toList());
 
         return PaginatedPartnerCompanyResponseDto.builder()
                 .data(partnerCompanies)
-                .total(partnerCompaniesPage.getTotalElements())
-                .page(validPage)
-                .pageSize(validSize)
+                .total(total)
+                .page(page)
+                .pageSize(pageSize)
                 .build();
     }
 
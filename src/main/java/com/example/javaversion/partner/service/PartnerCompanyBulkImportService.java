@@ -0,0 +1,601 @@
+/**
+ * @file PartnerCompanyBulkImportService.java
+ * @description 파트너 회사 일괄 등록(CSV/NDJSON)을 처리하는 서비스입니다.
+ *              입력을 청크 단위로 나누어 다음 순서로 처리합니다.
+ *              1. 회사명 중복 검사: 청크의 회사명을 한 번의 IN 쿼리로 조회 (ACTIVE 는 중복, INACTIVE 는 복원)
+ *              2. 주식 코드 보강: 기업 코드 목록(dart_corp_codes)에서 먼저 찾고, 없는 기업만 DART API 를 제한된 동시성으로 호출
+ *                 (DART 호출은 DartCallScheduler 의 BACKGROUND 우선순위로 처리하여 사용자 조회를 밀어내지 않음)
+ *              3. 저장: 청크 전체를 하나의 짧은 트랜잭션에서 saveAll (JDBC 배치) 후 회원별 개수 증감
+ *                 청크 저장이 실패하면 행마다 따로 저장하여 실패한 행만 FAILED 로 남김
+ *              4. 이벤트 기록: 같은 트랜잭션에서 청크의 Kafka 이벤트를 아웃박스에 기록 (커밋 후 릴레이가 일괄 발행)
+ *              행 검증(Bean Validation, 컬럼 길이)은 저장 전 파싱 단계에서 행마다 수행하며,
+ *              행별 처리 결과는 청크가 끝날 때마다 호출자에게 순서대로 전달됩니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.common.util.WorkloadContext;
+import com.example.javaversion.dart.service.DartApiService;
+import com.example.javaversion.dart.service.DartCallScheduler;
+import com.example.javaversion.database.entity.DartCorpCode;
+import com.example.javaversion.database.entity.PartnerCompany;
+import com.example.javaversion.database.repository.DartCorpCodeRepository;
+import com.example.javaversion.database.repository.PartnerCompanyRepository;
+import com.example.javaversion.kafka.service.OutboxService;
+import com.example.javaversion.partner.dto.BulkImportResultDto;
+import com.example.javaversion.partner.dto.CreatePartnerCompanyDto;
+import com.example.javaversion.partner.model.BulkImportRowStatus;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartnerCompanyBulkImportService {
+
+    /**
+     * 일괄 등록 입력 형식
+     * CSV: 첫 줄이 헤더(companyName, corpCode, contractStartDate, stockCode)인 쉼표 구분 파일 (RFC 4180 큰따옴표 필드, 필드 안 줄바꿈 지원)
+     * NDJSON: 한 줄에 CreatePartnerCompanyDto JSON 객체 하나
+     */
+    public enum ImportFormat { CSV, NDJSON }
+
+    /**
+     * 파싱된 입력 행 (error 가 있으면 검증 실패 행)
+     */
+    public record ImportRow(int line, CreatePartnerCompanyDto dto, String error) {
+    }
+
+    /** DART 조회 결과로 보강할 값 (보강하지 못한 행은 PENDING 으로 저장되어 Kafka 처리 시 다시 보강) */
+    private record Enrichment(String corpCode, String stockCode, PartnerEnrichmentStatus enrichmentStatus) {
+    }
+
+    /** 저장할 행 (previousMemberId 가 있으면 해당 회원의 INACTIVE 파트너 회사를 복원) */
+    private record PendingSave(int index, PartnerCompany entity, String previousMemberId) {
+
+        boolean restored() {
+            return previousMemberId != null;
+        }
+    }
+
+    /** CSV 레코드 (line: 레코드가 시작하는 행 번호, 큰따옴표 필드 안 줄바꿈이 있으면 여러 행에 걸침) */
+    record CsvRecord(int line, List<String> fields, boolean unterminatedQuote) {
+
+        boolean isBlank() {
+            return !unterminatedQuote && fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+
+    private static final String COLUMN_COMPANY_NAME = "companyname";
+    private static final String COLUMN_CORP_CODE = "corpcode";
+    private static final String COLUMN_CONTRACT_START_DATE = "contractstartdate";
+    private static final String COLUMN_STOCK_CODE = "stockcode";
+
+    /** partner_companies.stock_code 컬럼 길이 */
+    private static final int STOCK_CODE_MAX_LENGTH = 6;
+
+    private final PartnerCompanyRepository partnerCompanyRepository;
+    private final DartCorpCodeRepository dartCorpCodeRepository;
+    private final PartnerCompanyApiService partnerCompanyApiService;
+    private final PartnerCompanyCountService partnerCompanyCountService;
+    private final DartApiService dartApiService;
+    private final OutboxService outboxService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${kafka.topic.partner-company}")
+    private String partnerCompanyTopic;
+
+    @Value("${kafka.topic.partner-company-restore:partner-company-restore}")
+    private String partnerCompanyRestoreTopic;
+
+    @Value("${partner.bulk-import.max-rows:5000}")
+    private int maxRows;
+
+    @Value("${partner.bulk-import.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${partner.bulk-import.dart-concurrency:4}")
+    private int dartConcurrency;
+
+
+    /**
+     * Content-Type 으로 입력 형식을 결정합니다.
+     *
+     * @throws ResponseStatusException 지원하지 않는 형식인 경우 (415)
+     */
+    public static ImportFormat formatOf(String contentType) {
+        String normalized = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (normalized.startsWith("text/csv")) {
+            return ImportFormat.CSV;
+        }
+        if (normalized.startsWith("application/x-ndjson") || normalized.startsWith("application/jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                "일괄 등록은 text/csv 또는 application/x-ndjson 형식만 지원합니다.");
+    }
+
+    /**
+     * 입력 본문을 행 단위로 파싱하고 검증합니다. 행 단위 오류는 INVALID 결과로 남기고, 입력 전체의 오류만 예외로 처리합니다.
+     *
+     * @throws ResponseStatusException 본문이 비어 있거나, CSV 헤더가 잘못되었거나, 최대 행 수를 넘는 경우 (400)
+     */
+    public List<ImportRow> parse(ImportFormat format, String body) {
+        if (body == null || body.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일괄 등록할 데이터가 없습니다.");
+        }
+        List<ImportRow> rows = format == ImportFormat.CSV ? parseCsv(body) : parseNdjson(body.split("\\r?\\n"));
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일괄 등록할 데이터가 없습니다.");
+        }
+        if (rows.size() > maxRows) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    String.format("한 번에 최대 %d건까지 등록할 수 있습니다. (요청: %d건)", maxRows, rows.size()));
+        }
+        return rows;
+    }
+
+    /**
+     * 파싱된 행을 청크 단위로 등록하고, 행별 결과를 입력 순서대로 전달합니다.
+     *
+     * @param memberId 등록하는 회원 ID
+     * @param rows     parse 결과
+     * @param sink     행별 결과 수신자 (청크가 끝날 때마다 호출)
+     */
+    public void importRows(String memberId, List<ImportRow> rows, Consumer<BulkImportResultDto> sink) {
+        log.info("파트너 회사 일괄 등록 시작 - 회원 ID: {}, 행 수: {}, 청크 크기: {}", memberId, rows.size(), chunkSize);
+        long startNanos = System.nanoTime();
+        Set<String> seenNames = new HashSet<>();
+        Map<BulkImportRowStatus, Integer> summary = new EnumMap<>(BulkImportRowStatus.class);
+
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            List<ImportRow> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            for (BulkImportResultDto result : importChunk(memberId, chunk, seenNames)) {
+                summary.merge(result.getStatus(), 1, Integer::sum);
+                sink.accept(result);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+        log.info("파트너 회사 일괄 등록 완료 - 회원 ID: {}, 결과: {}, 소요: {}ms", memberId, summary, elapsedMillis);
+    }
+
+    private List<BulkImportResultDto> importChunk(String memberId, List<ImportRow> chunk, Set<String> seenNames) {
+        BulkImportResultDto[] results = new BulkImportResultDto[chunk.size()];
+
+        // 1. 검증 실패 행과 파일 안 중복 제외
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            if (row.error() != null) {
+                results[i] = result(row, BulkImportRowStatus.INVALID, null, row.error());
+            } else if (!seenNames.add(lowerCaseName(row))) {
+                results[i] = result(row, BulkImportRowStatus.DUPLICATE, null, "파일 안에서 중복된 회사명입니다.");
+            } else {
+                candidates.add(i);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of(results);
+        }
+
+        // 2. 기존 파트너 회사와의 중복 검사 (청크당 한 번의 쿼리)
+        Map<String, PartnerCompany> existingByName = findExistingByName(
+                candidates.stream().map(i -> lowerCaseName(chunk.get(i))).collect(Collectors.toSet()));
+
+        List<Integer> creates = new ArrayList<>();
+        Map<Integer, PartnerCompany> restores = new LinkedHashMap<>();
+        for (int i : candidates) {
+            ImportRow row = chunk.get(i);
+            PartnerCompany existing = existingByName.get(lowerCaseName(row));
+            if (existing == null) {
+                creates.add(i);
+            } else if (existing.getStatus() == PartnerCompanyStatus.ACTIVE) {
+                results[i] = result(row, BulkImportRowStatus.DUPLICATE, null,
+                        String.format("'%s' 이름의 파트너사가 이미 등록되어 있습니다.", row.dto().getCompanyName()));
+            } else {
+                restores.put(i, existing);
+            }
+        }
+
+        // 3. 주식 코드 보강 (입력값이 없는 행만)
+        Set<String> corpCodesToResolve = new HashSet<>();
+        for (int i : creates) {
+            addIfStockCodeMissing(chunk.get(i), corpCodesToResolve);
+        }
+        for (int i : restores.keySet()) {
+            addIfStockCodeMissing(chunk.get(i), corpCodesToResolve);
+        }
+        Map<String, Enrichment> enrichments = resolveEnrichments(corpCodesToResolve);
+
+        // 4. 엔티티 구성
+        List<PendingSave> pending = new ArrayList<>();
+        for (int i : creates) {
+            CreatePartnerCompanyDto dto = chunk.get(i).dto();
+            Enrichment enrichment = enrichmentOf(dto, enrichments);
+            pending.add(new PendingSave(i, PartnerCompany.builder()
+                    .memberId(memberId)
+                    .companyName(dto.getCompanyName())
+                    .corpCode(enrichment.corpCode())
+                    .stockCode(enrichment.stockCode())
+                    .enrichmentStatus(enrichment.enrichmentStatus())
+                    .contractStartDate(dto.getContractStartDate())
+                    .status(PartnerCompanyStatus.ACTIVE)
+                    .build(), null));
+        }
+        for (Map.Entry<Integer, PartnerCompany> entry : restores.entrySet()) {
+            CreatePartnerCompanyDto dto = chunk.get(entry.getKey()).dto();
+            Enrichment enrichment = enrichmentOf(dto, enrichments);
+            PartnerCompany existing = entry.getValue();
+            String previousMemberId = existing.getMemberId();
+
+            existing.setCorpCode(enrichment.corpCode());
+            existing.setStockCode(enrichment.stockCode());
+            existing.setEnrichmentStatus(enrichment.enrichmentStatus());
+            existing.setContractStartDate(dto.getContractStartDate());
+            existing.setStatus(PartnerCompanyStatus.ACTIVE);
+            existing.setMemberId(memberId);
+            pending.add(new PendingSave(entry.getKey(), existing, previousMemberId));
+        }
+
+        if (pending.isEmpty()) {
+            return List.of(results);
+        }
+
+        // 5. 저장 (청크당 하나의 트랜잭션, 실패하면 행 단위로 다시 저장)
+        try {
+            List<PartnerCompany> saved = saveChunk(memberId, pending);
+            for (int k = 0; k < saved.size(); k++) {
+                results[pending.get(k).index()] = saveResult(chunk, pending.get(k), saved.get(k));
+            }
+        } catch (RuntimeException e) {
+            log.warn("파트너 회사 일괄 등록 청크 저장 실패, 행 단위로 다시 저장합니다 - 회원 ID: {}, 대상: {}건, 오류: {}",
+                    memberId, pending.size(), e.getMessage());
+            for (PendingSave row : pending) {
+                results[row.index()] = saveRow(memberId, chunk, row);
+            }
+        }
+
+        return List.of(results);
+    }
+
+    /**
+     * 청크 전체를 하나의 트랜잭션에서 저장하고 회원별 개수와 아웃박스 이벤트를 기록합니다.
+     */
+    private List<PartnerCompany> saveChunk(String memberId, List<PendingSave> pending) {
+        List<PartnerCompany> entities = pending.stream().map(PendingSave::entity).toList();
+        long createdCount = pending.stream().filter(row -> !row.restored()).count();
+        Map<String, Long> restoredByPreviousMember = pending.stream()
+                .filter(PendingSave::restored)
+                .collect(Collectors.groupingBy(PendingSave::previousMemberId, Collectors.counting()));
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<PartnerCompany> persisted = partnerCompanyRepository.saveAll(entities);
+            if (createdCount > 0) {
+                partnerCompanyCountService.recordAdded(memberId, PartnerCompanyStatus.ACTIVE, createdCount);
+            }
+            restoredByPreviousMember.forEach((previousMemberId, count) -> partnerCompanyCountService.recordTransition(
+                    previousMemberId, PartnerCompanyStatus.INACTIVE, memberId, PartnerCompanyStatus.ACTIVE, count));
+            for (int k = 0; k < persisted.size(); k++) {
+                enqueueEvent(persisted.get(k), pending.get(k).restored());
+            }
+            return persisted;
+        });
+    }
+
+    /**
+     * 한 행을 별도 트랜잭션에서 저장합니다. (청크 저장 실패 시 실패 원인 행만 FAILED 로 남기기 위해 사용)
+     */
+    private BulkImportResultDto saveRow(String memberId, List<ImportRow> chunk, PendingSave row) {
+        PartnerCompany entity = row.entity();
+        if (!row.restored()) {
+            // 실패한 청크 저장에서 발급된 ID 는 버리고 새로 등록
+            entity.setId(null);
+        }
+        try {
+            PartnerCompany saved = new TransactionTemplate(transactionManager).execute(status -> {
+                PartnerCompany persisted = partnerCompanyRepository.save(entity);
+                if (row.restored()) {
+                    partnerCompanyCountService.recordTransition(
+                            row.previousMemberId(), PartnerCompanyStatus.INACTIVE, memberId, PartnerCompanyStatus.ACTIVE);
+                } else {
+                    partnerCompanyCountService.recordAdded(memberId, PartnerCompanyStatus.ACTIVE);
+                }
+                enqueueEvent(persisted, row.restored());
+                return persisted;
+            });
+            return saveResult(chunk, row, saved);
+        } catch (RuntimeException e) {
+            log.error("파트너 회사 일괄 등록 행 저장 실패 - 회원 ID: {}, 행: {}, 회사명: {}",
+                    memberId, chunk.get(row.index()).line(), entity.getCompanyName(), e);
+            return result(chunk.get(row.index()), BulkImportRowStatus.FAILED, null, "저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static BulkImportResultDto saveResult(List<ImportRow> chunk, PendingSave row, PartnerCompany saved) {
+        return result(chunk.get(row.index()),
+                row.restored() ? BulkImportRowStatus.RESTORED : BulkImportRowStatus.CREATED, saved, null);
+    }
+
+    /**
+     * 회사명(소문자)별 기존 파트너 회사를 조회합니다. 같은 이름이 여러 건이면 ACTIVE 를 우선합니다.
+     */
+    private Map<String, PartnerCompany> findExistingByName(Set<String> lowerCaseNames) {
+        Map<String, PartnerCompany> existingByName = new HashMap<>();
+        for (PartnerCompany partnerCompany : partnerCompanyRepository.findAllByLowerCaseCompanyNameIn(lowerCaseNames)) {
+            existingByName.merge(partnerCompany.getCompanyName().toLowerCase(Locale.ROOT), partnerCompany,
+                    (current, candidate) -> candidate.getStatus() == PartnerCompanyStatus.ACTIVE ? candidate : current);
+        }
+        return existingByName;
+    }
+
+    /**
+     * 기업 코드별 보강 값을 조회합니다.
+     * 기업 코드 목록에 있는 기업은 DART 를 호출하지 않고, 없는 기업만 DART 회사 정보를 제한된 동시성으로 조회합니다.
+     * 조회에 실패한 기업은 보강 없이 입력값으로 저장합니다.
+     */
+    private Map<String, Enrichment> resolveEnrichments(Set<String> corpCodes) {
+        Map<String, Enrichment> enrichments = new HashMap<>();
+        if (corpCodes.isEmpty()) {
+            return enrichments;
+        }
+
+        for (DartCorpCode dartCorpCode : dartCorpCodeRepository.findAllById(corpCodes)) {
+            enrichments.put(dartCorpCode.getCorpCode(),
+                    new Enrichment(dartCorpCode.getCorpCode(), blankToNull(dartCorpCode.getStockCode()), PartnerEnrichmentStatus.COMPLETED));
+        }
+
+        List<String> missing = corpCodes.stream().filter(corpCode -> !enrichments.containsKey(corpCode)).toList();
+        if (!missing.isEmpty()) {
+            Map<String, Enrichment> fetched = Flux.fromIterable(missing)
+                    .flatMap(corpCode -> dartApiService.getCompanyProfile(corpCode)
+                            .map(profile -> Map.entry(corpCode, new Enrichment(
+                                    profile.getCorpCode() != null ? profile.getCorpCode() : corpCode,
+                                    blankToNull(profile.getStockCode()), PartnerEnrichmentStatus.COMPLETED)))
+                            .onErrorResume(e -> {
+                                log.warn("일괄 등록 DART 회사 정보 조회 실패 - corpCode: {}, 오류: {}", corpCode, e.getMessage());
+                                return Mono.empty();
+                            }), dartConcurrency)
+                    .contextWrite(DartCallScheduler.priorityContext(WorkloadContext.Workload.BACKGROUND))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block();
+            if (fetched != null) {
+                enrichments.putAll(fetched);
+            }
+        }
+        log.debug("일괄 등록 주식 코드 보강 - 대상: {}건, 기업 코드 목록: {}건, DART 조회: {}건",
+                corpCodes.size(), corpCodes.size() - missing.size(), missing.size());
+        return enrichments;
+    }
+
+    /**
+     * 저장한 파트너 회사의 이벤트를 아웃박스에 기록합니다. (청크 저장 트랜잭션 안에서 호출)
+     */
+    private void enqueueEvent(PartnerCompany partnerCompany, boolean restored) {
+        if (!restored) {
+            outboxService.enqueue(partnerCompanyTopic, PartnerCompanyApiService.partnerEventKey(partnerCompany),
+                    partnerCompanyApiService.mapToResponseDto(partnerCompany, false));
+            return;
+        }
+        if (partnerCompany.getEnrichmentStatus() == PartnerEnrichmentStatus.PENDING) {
+            // 복원 이벤트는 DART 연동을 수행하지 않으므로 보강 대기 행은 파트너 회사 토픽으로도 발행
+            outboxService.enqueue(partnerCompanyTopic, PartnerCompanyApiService.partnerEventKey(partnerCompany),
+                    partnerCompanyApiService.mapToResponseDto(partnerCompany, true));
+        }
+        outboxService.enqueue(partnerCompanyRestoreTopic, partnerCompany.getId(),
+                partnerCompanyApiService.mapToResponseDto(partnerCompany, true));
+    }
+
+    private List<ImportRow> parseCsv(String body) {
+        List<ImportRow> rows = new ArrayList<>();
+        Map<String, Integer> columns = null;
+        for (CsvRecord record : readCsvRecords(body)) {
+            if (record.isBlank()) {
+                continue;
+            }
+            List<String> fields = record.fields();
+            if (columns == null) {
+                columns = parseCsvHeader(fields);
+                continue;
+            }
+
+            CreatePartnerCompanyDto dto = CreatePartnerCompanyDto.builder()
+                    .companyName(field(fields, columns, COLUMN_COMPANY_NAME))
+                    .corpCode(field(fields, columns, COLUMN_CORP_CODE))
+                    .stockCode(field(fields, columns, COLUMN_STOCK_CODE))
+                    .build();
+            if (record.unterminatedQuote()) {
+                rows.add(new ImportRow(record.line(), dto, "닫히지 않은 큰따옴표가 있습니다."));
+                continue;
+            }
+            String contractStartDate = field(fields, columns, COLUMN_CONTRACT_START_DATE);
+            if (contractStartDate != null) {
+                try {
+                    dto.setContractStartDate(LocalDate.parse(contractStartDate));
+                } catch (DateTimeParseException e) {
+                    rows.add(new ImportRow(record.line(), dto, "계약 시작일 형식이 올바르지 않습니다. (yyyy-MM-dd)"));
+                    continue;
+                }
+            }
+            rows.add(new ImportRow(record.line(), dto, validate(dto)));
+        }
+        return rows;
+    }
+
+    private Map<String, Integer> parseCsvHeader(List<String> fields) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        for (String required : List.of(COLUMN_COMPANY_NAME, COLUMN_CORP_CODE, COLUMN_CONTRACT_START_DATE)) {
+            if (!columns.containsKey(required)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "CSV 헤더에 companyName, corpCode, contractStartDate 열이 필요합니다.");
+            }
+        }
+        return columns;
+    }
+
+    private List<ImportRow> parseNdjson(String[] lines) {
+        List<ImportRow> rows = new ArrayList<>();
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            int line = i + 1;
+            try {
+                CreatePartnerCompanyDto dto = objectMapper.readValue(lines[i], CreatePartnerCompanyDto.class);
+                rows.add(new ImportRow(line, dto, validate(dto)));
+            } catch (JsonProcessingException e) {
+                rows.add(new ImportRow(line, new CreatePartnerCompanyDto(), "JSON 형식이 올바르지 않습니다."));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 단건 등록 API 와 같은 Bean Validation 제약과 저장 컬럼 길이를 행마다 확인합니다.
+     * 저장 시점의 제약 위반은 청크 전체의 저장을 실패시키므로 저장 전에 해당 행만 INVALID 로 걸러냅니다.
+     *
+     * @return 오류 메시지 (유효하면 null)
+     */
+    private String validate(CreatePartnerCompanyDto dto) {
+        Set<ConstraintViolation<CreatePartnerCompanyDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        String stockCode = blankToNull(dto.getStockCode());
+        if (stockCode != null && stockCode.length() > STOCK_CODE_MAX_LENGTH) {
+            return String.format("주식 코드는 최대 %d자까지 저장할 수 있습니다.", STOCK_CODE_MAX_LENGTH);
+        }
+        return null;
+    }
+
+    /**
+     * CSV 본문을 레코드로 나눕니다. 큰따옴표로 감싼 필드, 이중 큰따옴표("") 이스케이프, 필드 안 줄바꿈을 지원합니다.
+     * 레코드 구분은 \n, \r\n, \r 이며, 닫히지 않은 큰따옴표는 본문 끝까지를 한 필드로 보고 해당 레코드에 표시합니다.
+     */
+    static List<CsvRecord> readCsvRecords(String body) {
+        List<CsvRecord> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        int line = 1;
+        int recordLine = 1;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < body.length() && body.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < body.length() && body.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                fields.add(current.toString());
+                current.setLength(0);
+                records.add(new CsvRecord(recordLine, List.copyOf(fields), false));
+                fields.clear();
+                line++;
+                recordLine = line;
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted || !current.isEmpty() || !fields.isEmpty()) {
+            fields.add(current.toString());
+            records.add(new CsvRecord(recordLine, List.copyOf(fields), quoted));
+        }
+        return records;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        return blankToNull(fields.get(index));
+    }
+
+    private static void addIfStockCodeMissing(ImportRow row, Set<String> corpCodes) {
+        if (blankToNull(row.dto().getStockCode()) == null) {
+            corpCodes.add(row.dto().getCorpCode());
+        }
+    }
+
+    private static Enrichment enrichmentOf(CreatePartnerCompanyDto dto, Map<String, Enrichment> enrichments) {
+        String stockCode = blankToNull(dto.getStockCode());
+        if (stockCode != null) {
+            return new Enrichment(dto.getCorpCode(), stockCode, PartnerEnrichmentStatus.COMPLETED);
+        }
+        return enrichments.getOrDefault(dto.getCorpCode(),
+                new Enrichment(dto.getCorpCode(), null, PartnerEnrichmentStatus.PENDING));
+    }
+
+    private static BulkImportResultDto result(ImportRow row, BulkImportRowStatus status, PartnerCompany partnerCompany, String message) {
+        CreatePartnerCompanyDto dto = row.dto();
+        return BulkImportResultDto.builder()
+                .line(row.line())
+                .companyName(dto.getCompanyName())
+                .corpCode(partnerCompany != null ? partnerCompany.getCorpCode() : dto.getCorpCode())
+                .status(status)
+                .partnerCompanyId(partnerCompany != null ? partnerCompany.getId() : null)
+                .stockCode(partnerCompany != null ? partnerCompany.getStockCode() : dto.getStockCode())
+                .message(message)
+                .build();
+    }
+
+    private static String lowerCaseName(ImportRow row) {
+        return row.dto().getCompanyName().toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
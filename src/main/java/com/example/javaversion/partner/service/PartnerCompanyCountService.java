@@ -0,0 +1,186 @@
+/**
+ * @file PartnerCompanyCountService.java
+ * @description 회원별 파트너 회사 수(상태별)를 제공하고 증감하는 서비스입니다.
+ *              개수는 partner_company_counters 테이블에 증분으로 유지되며(생성/복원/삭제 트랜잭션 안에서 UPSERT),
+ *              조회는 캐시에서 O(1)로 제공합니다. 캐시는 트랜잭션 커밋 후에 무효화하여
+ *              커밋 전 값이 다시 캐시되는 일을 막습니다.
+ *              캐시 미스 시 개수는 별도의 쓰기 트랜잭션으로 주(primary) DB 에서 읽어, 목록 조회(readOnly) 중에
+ *              복제 지연으로 갱신 전 값이 TTL 동안 다시 캐시되지 않도록 합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.cache.service.CacheService;
+import com.example.javaversion.database.entity.PartnerCompanyCounter;
+import com.example.javaversion.database.repository.PartnerCompanyCounterRepository;
+import com.example.javaversion.partner.dto.PartnerCompanyCountsDto;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartnerCompanyCountService {
+
+    public static final String CACHE_NAME = "partnerCompanyCounts";
+    /** 전체 회원 합계의 캐시 키 */
+    private static final String ALL_MEMBERS_KEY = "*";
+
+    private final PartnerCompanyCounterRepository partnerCompanyCounterRepository;
+    private final CacheService cacheService;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 회원의 상태별 파트너 회사 수를 조회합니다.
+     *
+     * @param memberId 회원 ID (null 이면 전체 회원 합계)
+     * @return 상태별 개수
+     */
+    public PartnerCompanyCountsDto getCounts(String memberId) {
+        String cacheKey = memberId != null ? memberId : ALL_MEMBERS_KEY;
+        PartnerCompanyCountsDto cached = cacheService.get(CACHE_NAME, cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 호출한 목록 조회가 readOnly(복제 DB) 트랜잭션이어도 캐시할 값은 주 DB 에서 읽음
+        TransactionTemplate primaryRead = new TransactionTemplate(transactionManager);
+        primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        primaryRead.setReadOnly(false);
+        PartnerCompanyCountsDto counts = primaryRead.execute(status -> loadCounts(memberId));
+        cacheService.put(CACHE_NAME, cacheKey, counts);
+        return counts;
+    }
+
+    private PartnerCompanyCountsDto loadCounts(String memberId) {
+        long active;
+        long inactive;
+        if (memberId != null) {
+            PartnerCompanyCounter counter = partnerCompanyCounterRepository.findById(memberId).orElse(null);
+            active = counter != null ? counter.getActiveCount() : 0L;
+            inactive = counter != null ? counter.getInactiveCount() : 0L;
+        } else {
+            active = partnerCompanyCounterRepository.sumActiveCount();
+            inactive = partnerCompanyCounterRepository.sumInactiveCount();
+        }
+        return PartnerCompanyCountsDto.builder()
+                .memberId(memberId)
+                .active(active)
+                .inactive(inactive)
+                .total(active + inactive)
+                .build();
+    }
+
+    /**
+     * 파트너 회사 수를 조회합니다.
+     *
+     * @param memberId 회원 ID (null 이면 전체 회원)
+     * @param status   파트너 회사 상태 (null 이면 모든 상태)
+     * @return 파트너 회사 수
+     */
+    public long count(String memberId, PartnerCompanyStatus status) {
+        PartnerCompanyCountsDto counts = getCounts(memberId);
+        if (status == null) {
+            return counts.getTotal();
+        }
+        return status == PartnerCompanyStatus.ACTIVE ? counts.getActive() : counts.getInactive();
+    }
+
+    /**
+     * 파트너 회사가 새로 추가되었음을 기록합니다.
+     */
+    @Transactional
+    public void recordAdded(String memberId, PartnerCompanyStatus status) {
+        recordAdded(memberId, status, 1L);
+    }
+
+    /**
+     * 파트너 회사 여러 건이 새로 추가되었음을 한 번의 증감으로 기록합니다. (일괄 등록용)
+     */
+    @Transactional
+    public void recordAdded(String memberId, PartnerCompanyStatus status, long count) {
+        adjust(memberId, status, count);
+    }
+
+    /**
+     * 파트너 회사의 소유 회원 또는 상태가 변경되었음을 기록합니다. (삭제, 복원 포함)
+     */
+    @Transactional
+    public void recordTransition(String fromMemberId, PartnerCompanyStatus fromStatus,
+                                 String toMemberId, PartnerCompanyStatus toStatus) {
+        recordTransition(fromMemberId, fromStatus, toMemberId, toStatus, 1L);
+    }
+
+    /**
+     * 같은 회원/상태 간에 옮겨진 파트너 회사 여러 건을 한 번의 증감으로 기록합니다. (일괄 등록용)
+     */
+    @Transactional
+    public void recordTransition(String fromMemberId, PartnerCompanyStatus fromStatus,
+                                 String toMemberId, PartnerCompanyStatus toStatus, long count) {
+        if (fromMemberId != null && fromMemberId.equals(toMemberId) && fromStatus == toStatus) {
+            return;
+        }
+        adjust(fromMemberId, fromStatus, -count);
+        adjust(toMemberId, toStatus, count);
+    }
+
+    /**
+     * partner_companies 테이블 기준으로 모든 회원의 개수를 다시 집계합니다. (집계 불일치 복구용)
+     *
+     * @return 재집계 결과 요약
+     */
+    @Transactional
+    public Map<String, Object> rebuild() {
+        int deleted = partnerCompanyCounterRepository.deleteAllCounts();
+        int inserted = partnerCompanyCounterRepository.insertCountsFromPartnerCompanies();
+        log.info("파트너 회사 개수 재집계 완료 - 삭제: {}건, 생성: {}건", deleted, inserted);
+        evictAfterCommit(null);
+        return Map.of("deleted", deleted, "rebuilt", inserted);
+    }
+
+    private void adjust(String memberId, PartnerCompanyStatus status, long delta) {
+        if (memberId == null || status == null) {
+            return;
+        }
+        long activeDelta = status == PartnerCompanyStatus.ACTIVE ? delta : 0L;
+        long inactiveDelta = status == PartnerCompanyStatus.INACTIVE ? delta : 0L;
+        partnerCompanyCounterRepository.addCounts(memberId, activeDelta, inactiveDelta);
+        log.debug("파트너 회사 개수 증감 - 회원 ID: {}, 상태: {}, 증감: {}", memberId, status, delta);
+        evictAfterCommit(memberId);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 캐시를 무효화합니다. (트랜잭션 밖이면 즉시 무효화)
+     *
+     * @param memberId 회원 ID (null 이면 캐시 전체)
+     */
+    private void evictAfterCommit(String memberId) {
+        Runnable eviction = () -> {
+            if (memberId != null) {
+                cacheService.evict(CACHE_NAME, memberId);
+                cacheService.evict(CACHE_NAME, ALL_MEMBERS_KEY);
+            } else {
+                cacheService.clear(CACHE_NAME);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
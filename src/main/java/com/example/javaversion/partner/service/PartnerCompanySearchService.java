@@ -0,0 +1,110 @@
+/**
+ * @file PartnerCompanySearchService.java
+ * @description 파트너 회사 회사명 검색을 담당하는 서비스입니다.
+ *              LIKE 모드는 기존 부분 일치(LOWER(company_name) LIKE '%x%') 조회와 COUNT 쿼리를 사용하고,
+ *              FULLTEXT 모드는 MySQL ngram FULLTEXT 인덱스로 관련도 순 상위 N건만 조회하여 COUNT 쿼리 없이 페이지를 구성합니다.
+ *              검색어가 ngram 토큰 길이보다 짧으면 FULLTEXT 인덱스로 찾을 수 없으므로 LIKE 모드로 대체합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.database.entity.PartnerCompany;
+import com.example.javaversion.database.repository.PartnerCompanyRepository;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartnerCompanySearchService {
+
+    /**
+     * 회사명 검색 방식
+     * LIKE: 부분 일치 (인덱스 미사용, 모든 DB 지원)
+     * FULLTEXT: MySQL ngram FULLTEXT 인덱스 (관련도 순, 결과 수 제한)
+     */
+    public enum SearchMode { LIKE, FULLTEXT }
+
+    /** BOOLEAN MODE 연산자로 해석되는 문자 (구문 검색식 안에서 제거) */
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[\"+\\-<>()~*@]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final PartnerCompanyRepository partnerCompanyRepository;
+
+    @Value("${partner.search.mode:LIKE}")
+    private SearchMode searchMode;
+
+    @Value("${partner.search.max-results:200}")
+    private int maxResults;
+
+    @Value("${partner.search.min-fulltext-length:2}")
+    private int minFullTextLength;
+
+    /**
+     * 회사명으로 파트너 회사를 검색합니다.
+     *
+     * @param memberId    회원 ID (null 이면 전체 회원)
+     * @param companyName 회사명 검색어
+     * @param status      파트너 회사 상태 (null 이면 모든 상태)
+     * @param pageable    페이지 정보 (LIKE 모드에서만 정렬 조건 적용, FULLTEXT 모드는 관련도 순)
+     * @return 검색 결과 페이지 (FULLTEXT 모드의 전체 건수는 최대 결과 수로 제한됨)
+     */
+    public Page<PartnerCompany> searchByCompanyName(String memberId, String companyName, PartnerCompanyStatus status, Pageable pageable) {
+        String phrase = toFullTextPhrase(companyName);
+        if (searchMode != SearchMode.FULLTEXT || phrase == null) {
+            return searchByLike(memberId, companyName, status, pageable);
+        }
+
+        List<PartnerCompany> ranked;
+        if (memberId != null) {
+            PartnerCompanyStatus effectiveStatus = status != null ? status : PartnerCompanyStatus.ACTIVE;
+            ranked = partnerCompanyRepository.searchByMemberIdAndCompanyNameFullText(memberId, phrase, effectiveStatus.name(), maxResults);
+        } else if (status != null) {
+            ranked = partnerCompanyRepository.searchByCompanyNameFullText(phrase, status.name(), maxResults);
+        } else {
+            ranked = partnerCompanyRepository.searchAllStatusesByCompanyNameFullText(phrase, maxResults);
+        }
+        log.debug("FULLTEXT 회사명 검색 - 검색식: {}, 결과 수: {} (최대 {})", phrase, ranked.size(), maxResults);
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), ranked.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(ranked.subList(fromIndex, toIndex), pageable, ranked.size());
+    }
+
+    private Page<PartnerCompany> searchByLike(String memberId, String companyName, PartnerCompanyStatus status, Pageable pageable) {
+        if (memberId != null) {
+            PartnerCompanyStatus effectiveStatus = status != null ? status : PartnerCompanyStatus.ACTIVE;
+            return partnerCompanyRepository.findByMemberIdAndCompanyNameContainingIgnoreCaseAndStatus(
+                    memberId, companyName, effectiveStatus, pageable);
+        }
+        if (status != null) {
+            return partnerCompanyRepository.findByCompanyNameContainingIgnoreCaseAndStatus(companyName, status, pageable);
+        }
+        return partnerCompanyRepository.findByCompanyNameContainingIgnoreCase(companyName, pageable);
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 구문 검색식("...")으로 변환합니다.
+     * ngram 파서에서 구문 검색은 연속된 토큰 일치이므로 기존 부분 일치와 같은 의미를 가집니다.
+     *
+     * @return 검색식 (FULLTEXT 로 검색할 수 없는 짧은 검색어이면 null)
+     */
+    private String toFullTextPhrase(String companyName) {
+        if (companyName == null) {
+            return null;
+        }
+        String sanitized = WHITESPACE.matcher(BOOLEAN_OPERATORS.matcher(companyName).replaceAll(" ")).replaceAll(" ").trim();
+        if (sanitized.length() < minFullTextLength) {
+            return null;
+        }
+        return "\"" + sanitized + "\"";
+    }
+}
@@ -12,9 +12,9 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * 파트너사 뉴스 크롤링 스케줄러 서비스
@@ -95,65 +95,37 @@ public class PartnerNewsSchedulerService {
                 return;
             }
 
-            // 회사명 기준으로 중복 제거 (동일한 회사가 여러 파트너사로 등록된 경우)
-            Set<String> uniqueCompanyNames = activePartners.stream()
-                    .map(PartnerCompany::getCompanyName)
-                    .filter(name -> name != null && !name.trim().isEmpty())
-                    .map(String::trim)
-                    .collect(Collectors.toSet());
-
-            log.info("중복 제거 후 고유 회사명 {}개: {}", uniqueCompanyNames.size(), uniqueCompanyNames);
-
-            // 각 고유 회사명에 대해 뉴스 크롤링 요청
-            int successCount = 0;
-            int failureCount = 0;
-
-            for (String companyName : uniqueCompanyNames) {
-                try {
-                    // 해당 회사명의 대표 파트너사 정보 가져오기 (첫 번째 것 사용)
-                    PartnerCompany representativePartner = activePartners.stream()
-                            .filter(p -> companyName.equals(p.getCompanyName()))
-                            .findFirst()
-                            .orElse(null);
-
-                    if (representativePartner == null) {
-                        log.warn("회사명 '{}'에 해당하는 파트너사를 찾을 수 없습니다.", companyName);
-                        failureCount++;
-                        continue;
-                    }
-
-                    // 뉴스 크롤링 요청 메시지 생성
-                    NewsAnalysisRequest newsRequest = NewsAnalysisRequest.builder()
-                            .keyword(companyName)
-                            .periods(List.of(periods))
-                            .sources(List.of("naver")) // 네이버 뉴스
-                            .partnerId(representativePartner.getId())
-                            .corpCode(representativePartner.getCorpCode())
-                            .requestedAt(LocalDateTime.now().toString())
-                            .build();
-
-                    // 비동기로 뉴스 크롤링 요청 전송
-                    kafkaProducerService.sendMessage(newsKeywordsTopic, companyName, newsRequest)
-                            .whenComplete((result, ex) -> {
-                                if (ex == null) {
-                                    log.debug("스케줄 뉴스 크롤링 요청 전송 성공: {}", companyName);
-                                } else {
-                                    log.error("스케줄 뉴스 크롤링 요청 전송 실패: {}", companyName, ex);
-                                }
-                            });
-
-                    successCount++;
-                    
-                    // API 호출 간격 조절 (과부하 방지)
-                    Thread.sleep(100); // 100ms 대기
-
-                } catch (Exception e) {
-                    log.error("회사명 '{}'에 대한 뉴스 크롤링 요청 중 오류 발생", companyName, e);
-                    failureCount++;
+            // 회사명 기준으로 중복 제거 (동일한 회사가 여러 파트너사로 등록된 경우 첫 번째 파트너사를 대표로 사용)
+            Map<String, PartnerCompany> representativeByCompanyName = new LinkedHashMap<>();
+            for (PartnerCompany partner : activePartners) {
+                String name = partner.getCompanyName();
+                if (name != null && !name.trim().isEmpty()) {
+                    representativeByCompanyName.putIfAbsent(name.trim(), partner);
                 }
             }
 
-            log.info("=== 파트너사 일일/주간 뉴스 크롤링 스케줄 완료 === 성공: {}, 실패: {}", successCount, failureCount);
+            log.info("중복 제거 후 고유 회사명 {}개", representativeByCompanyName.size());
+            log.debug("뉴스 크롤링 대상 회사명: {}", representativeByCompanyName.keySet());
+
+            // 뉴스 크롤링 요청 메시지 생성
+            String requestedAt = LocalDateTime.now().toString();
+            List<NewsAnalysisRequest> newsRequests = representativeByCompanyName.entrySet().stream()
+                    .map(entry -> NewsAnalysisRequest.builder()
+                            .keyword(entry.getKey())
+                            .periods(List.of(periods))
+                            .sources(List.of("naver")) // 네이버 뉴스
+                            .partnerId(entry.getValue().getId())
+                            .corpCode(entry.getValue().getCorpCode())
+                            .requestedAt(requestedAt)
+                            .build())
+                    .toList();
+
+            // 한 번에 모두 전송하여 프로듀서 배치로 묶고, 전체 전송 결과를 기다림
+            KafkaProducerService.BulkSendResult result = kafkaProducerService
+                    .sendMessages(newsKeywordsTopic, newsRequests, NewsAnalysisRequest::getKeyword)
+                    .join();
+
+            log.info("=== 파트너사 일일/주간 뉴스 크롤링 스케줄 완료 === 성공: {}, 실패: {}", result.succeeded(), result.failed());
 
         } catch (Exception e) {
             log.error("파트너사 뉴스 크롤링 스케줄 실행 중 오류 발생", e);
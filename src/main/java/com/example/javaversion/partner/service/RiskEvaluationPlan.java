@@ -0,0 +1,331 @@
+/**
+ * @file RiskEvaluationPlan.java
+ * @description 재무 위험 규칙 정의를 한 번 컴파일한 평가 계획입니다.
+ *              규칙이 참조하는 (표준 계정 키, 금액 컬럼) 조합마다 슬롯을 할당해 두고,
+ *              재무제표 항목을 한 번만 순회하며 슬롯을 채운 뒤 모든 규칙을 평가합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.dart.service.FinancialAccountNormalizer;
+import com.example.javaversion.database.entity.FinancialStatementData;
+import com.example.javaversion.partner.dto.FinancialRiskAssessmentDto;
+import com.example.javaversion.partner.model.RiskRuleDefinition;
+import com.example.javaversion.partner.model.RiskRuleDefinition.Guard;
+import com.example.javaversion.partner.model.RiskRuleDefinition.Operand;
+import com.example.javaversion.partner.model.RiskRuleDefinition.Term;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public final class RiskEvaluationPlan {
+
+    static final String RULE_TIMER_NAME = "partner.risk.rule.evaluation";
+
+    private static final Term[] TERMS = Term.values();
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Getter
+    private final String version;
+    @Getter
+    private final LocalDateTime compiledAt;
+    private final FinancialAccountNormalizer accountNormalizer;
+    private final Map<String, int[]> slotsByAccount;
+    private final int slotCount;
+    private final List<CompiledRule> rules;
+
+    private RiskEvaluationPlan(String version, FinancialAccountNormalizer accountNormalizer,
+                               Map<String, int[]> slotsByAccount, int slotCount, List<CompiledRule> rules) {
+        this.version = version;
+        this.compiledAt = LocalDateTime.now();
+        this.accountNormalizer = accountNormalizer;
+        this.slotsByAccount = slotsByAccount;
+        this.slotCount = slotCount;
+        this.rules = rules;
+    }
+
+    /**
+     * 규칙 정의를 검증하고 평가 계획으로 컴파일합니다.
+     * 규칙의 계정 참조(표준 계정 키 또는 계정명)는 이 시점에 표준 계정 키로 해석됩니다.
+     *
+     * @throws IllegalStateException 규칙 정의가 올바르지 않은 경우
+     */
+    public static RiskEvaluationPlan compile(String version, List<RiskRuleDefinition> definitions,
+                                             FinancialAccountNormalizer accountNormalizer, MeterRegistry meterRegistry) {
+        if (definitions == null || definitions.isEmpty()) {
+            throw new IllegalStateException("위험 규칙 정의가 비어 있습니다.");
+        }
+
+        Map<String, int[]> slotsByAccount = new HashMap<>();
+        int[] slotCounter = {0};
+        Set<String> ids = new HashSet<>();
+        List<CompiledRule> compiled = new ArrayList<>(definitions.size());
+
+        for (RiskRuleDefinition definition : definitions) {
+            validate(definition, accountNormalizer);
+            if (!ids.add(definition.getId())) {
+                throw new IllegalStateException("중복된 위험 규칙 ID: " + definition.getId());
+            }
+        }
+        // 모든 규칙이 유효할 때만 타이머를 등록 (컴파일 실패 시 적용되지 않은 규칙의 타이머가 남지 않도록)
+        for (RiskRuleDefinition definition : definitions) {
+            compiled.add(new CompiledRule(
+                    definition,
+                    toSlots(definition.getLeft(), accountNormalizer, slotsByAccount, slotCounter),
+                    toOptionalFlags(definition.getLeft()),
+                    toSlots(definition.getRight(), accountNormalizer, slotsByAccount, slotCounter),
+                    toOptionalFlags(definition.getRight()),
+                    Timer.builder(RULE_TIMER_NAME)
+                            .description("재무 위험 규칙별 평가 소요 시간")
+                            .tag("rule", definition.getId())
+                            .register(meterRegistry)));
+        }
+        compiled.sort(Comparator.comparingInt(rule -> rule.definition().getItemNumber()));
+
+        return new RiskEvaluationPlan(version, accountNormalizer, Map.copyOf(slotsByAccount), slotCounter[0], List.copyOf(compiled));
+    }
+
+    public int getRuleCount() {
+        return rules.size();
+    }
+
+    public List<String> getRuleIds() {
+        return rules.stream().map(rule -> rule.definition().getId()).toList();
+    }
+
+    /**
+     * 이 계획에는 있지만 새 계획에는 없는 규칙의 타이머를 레지스트리에서 제거합니다. (규칙 교체 후 호출)
+     *
+     * @return 제거한 타이머 수
+     */
+    int removeTimersNotIn(RiskEvaluationPlan next, MeterRegistry meterRegistry) {
+        Set<String> nextRuleIds = new HashSet<>(next.getRuleIds());
+        int removed = 0;
+        for (CompiledRule rule : rules) {
+            if (!nextRuleIds.contains(rule.definition().getId()) && meterRegistry.remove(rule.timer()) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 재무제표 항목을 한 번 순회하여 계정 값을 채운 뒤, 모든 규칙을 번호순으로 평가합니다.
+     * 적재 시 정규화된 accountKey 를 그대로 조회 키로 사용하며, 정규화 이전에 적재된 행만 즉석에서 정규화합니다.
+     */
+    public List<FinancialRiskAssessmentDto.NumberedRiskItemResult> evaluate(List<FinancialStatementData> items) {
+        BigDecimal[] values = new BigDecimal[slotCount];
+        for (FinancialStatementData item : items) {
+            String accountKey = item.getAccountKey() != null
+                    ? item.getAccountKey()
+                    : accountNormalizer.normalize(item.getSjDiv(), item.getAccountId(), item.getAccountNm());
+            if (accountKey == null) {
+                continue;
+            }
+            int[] termSlots = slotsByAccount.get(accountKey);
+            if (termSlots == null) {
+                continue;
+            }
+            for (Term term : TERMS) {
+                int slot = termSlots[term.ordinal()];
+                // 동일 계정이 여러 번 나오면 처음으로 값이 존재하는 항목을 사용합니다.
+                if (slot >= 0 && values[slot] == null) {
+                    values[slot] = parseAmount(item, term);
+                }
+            }
+        }
+
+        List<FinancialRiskAssessmentDto.NumberedRiskItemResult> results = new ArrayList<>(rules.size());
+        for (CompiledRule rule : rules) {
+            long start = System.nanoTime();
+            results.add(rule.evaluate(values));
+            rule.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return results;
+    }
+
+    private static void validate(RiskRuleDefinition definition, FinancialAccountNormalizer accountNormalizer) {
+        String id = definition.getId();
+        if (id == null || id.isBlank()) {
+            throw new IllegalStateException("위험 규칙 ID가 없습니다: " + definition.getDescription());
+        }
+        if (definition.getFormula() == null || definition.getComparator() == null || definition.getThreshold() == null) {
+            throw new IllegalStateException("위험 규칙 " + id + " 의 formula/comparator/threshold 가 필요합니다.");
+        }
+        if (definition.getLeft() == null || definition.getLeft().isEmpty()) {
+            throw new IllegalStateException("위험 규칙 " + id + " 의 left 계정이 필요합니다.");
+        }
+        if (definition.getFormula().requiresRight() && (definition.getRight() == null || definition.getRight().isEmpty())) {
+            throw new IllegalStateException("위험 규칙 " + id + " 의 formula " + definition.getFormula() + " 에는 right 계정이 필요합니다.");
+        }
+        for (Operand operand : concat(definition.getLeft(), definition.getRight())) {
+            if (operand.getAccount() == null || operand.getAccount().isBlank() || operand.getTerm() == null) {
+                throw new IllegalStateException("위험 규칙 " + id + " 에 계정명 또는 term 이 없는 피연산자가 있습니다.");
+            }
+            if (accountNormalizer.resolveName(operand.getAccount()) == null) {
+                throw new IllegalStateException("위험 규칙 " + id + " 의 계정 " + operand.getAccount() + " 을(를) 표준 계정 키로 해석할 수 없습니다.");
+            }
+        }
+        if (definition.getGuards() != null) {
+            for (Guard guard : definition.getGuards()) {
+                if (guard.getWhen() == null || guard.getAtRisk() == null) {
+                    throw new IllegalStateException("위험 규칙 " + id + " 의 guard 에 when/atRisk 가 필요합니다.");
+                }
+            }
+        }
+    }
+
+    private static List<Operand> concat(List<Operand> left, List<Operand> right) {
+        List<Operand> all = new ArrayList<>(left);
+        if (right != null) {
+            all.addAll(right);
+        }
+        return all;
+    }
+
+    private static int[] toSlots(List<Operand> operands, FinancialAccountNormalizer accountNormalizer,
+                                 Map<String, int[]> slotsByAccount, int[] slotCounter) {
+        if (operands == null) {
+            return new int[0];
+        }
+        int[] slots = new int[operands.size()];
+        for (int i = 0; i < operands.size(); i++) {
+            Operand operand = operands.get(i);
+            int[] termSlots = slotsByAccount.computeIfAbsent(accountNormalizer.resolveName(operand.getAccount()), key -> {
+                int[] empty = new int[TERMS.length];
+                Arrays.fill(empty, -1);
+                return empty;
+            });
+            int termIndex = operand.getTerm().ordinal();
+            if (termSlots[termIndex] < 0) {
+                termSlots[termIndex] = slotCounter[0]++;
+            }
+            slots[i] = termSlots[termIndex];
+        }
+        return slots;
+    }
+
+    private static boolean[] toOptionalFlags(List<Operand> operands) {
+        if (operands == null) {
+            return new boolean[0];
+        }
+        boolean[] flags = new boolean[operands.size()];
+        for (int i = 0; i < operands.size(); i++) {
+            flags[i] = operands.get(i).isOptional();
+        }
+        return flags;
+    }
+
+    private static BigDecimal parseAmount(FinancialStatementData item, Term term) {
+        String amountStr = switch (term) {
+            case CURRENT -> item.getThstrmAmount();
+            case PREVIOUS -> item.getFrmtrmAmount();
+            case CURRENT_CUMULATIVE -> item.getThstrmAddAmount();
+            case PREVIOUS_CUMULATIVE -> item.getFrmtrmAddAmount();
+        };
+        if (amountStr == null) {
+            return null;
+        }
+        String trimmed = amountStr.trim();
+        if (trimmed.isEmpty() || "-".equals(trimmed)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(trimmed.replace(",", ""));
+        } catch (NumberFormatException e) {
+            log.warn("금액 변환 오류: 계정명={}, 값(termField)={}, 원본값='{}', 회사코드={}, 사업연도={}, 보고서코드={}",
+                    item.getAccountNm(), term.getField(), amountStr, item.getCorpCode(), item.getBsnsYear(), item.getReprtCode(), e);
+            return null;
+        }
+    }
+
+    private record CompiledRule(RiskRuleDefinition definition,
+                                int[] leftSlots, boolean[] leftOptional,
+                                int[] rightSlots, boolean[] rightOptional,
+                                Timer timer) {
+
+        FinancialRiskAssessmentDto.NumberedRiskItemResult evaluate(BigDecimal[] values) {
+            BigDecimal left = sum(values, leftSlots, leftOptional);
+            BigDecimal right = definition.getFormula().requiresRight() ? sum(values, rightSlots, rightOptional) : null;
+            if (left == null || (definition.getFormula().requiresRight() && right == null)) {
+                return result(false, "데이터 부족", definition.getMissingNote());
+            }
+
+            if (right != null && definition.getGuards() != null) {
+                for (Guard guard : definition.getGuards()) {
+                    if (guard.getWhen().matches(right)) {
+                        boolean atRisk = switch (guard.getAtRisk()) {
+                            case NO -> false;
+                            case YES -> true;
+                            case LEFT_POSITIVE -> left.signum() > 0;
+                        };
+                        return result(atRisk, format(guard.getActualValue(), null, left, right), guard.getNotes());
+                    }
+                }
+            }
+
+            if (definition.getFormula().divides() && right.signum() == 0) {
+                return result(false, "계산 불가", "분모 값이 0입니다.");
+            }
+
+            BigDecimal value = switch (definition.getFormula()) {
+                case VALUE -> left;
+                case RATIO -> left.divide(right, definition.getScale(), RoundingMode.HALF_UP);
+                case PERCENT -> left.divide(right, definition.getScale(), RoundingMode.HALF_UP).multiply(HUNDRED);
+                case CHANGE_PERCENT -> left.subtract(right)
+                        .divide(right.abs(), definition.getScale(), RoundingMode.HALF_UP)
+                        .multiply(HUNDRED);
+                case DIFFERENCE -> left.subtract(right);
+            };
+            boolean atRisk = definition.getComparator().test(value, definition.getThreshold());
+            return result(atRisk, format(definition.getValueFormat(), value, left, right), definition.getNotes());
+        }
+
+        private FinancialRiskAssessmentDto.NumberedRiskItemResult result(boolean atRisk, String actualValue, String notes) {
+            return FinancialRiskAssessmentDto.NumberedRiskItemResult.numberedBuilder()
+                    .isAtRisk(atRisk)
+                    .description(definition.getDescription())
+                    .actualValue(actualValue)
+                    .threshold(definition.getThresholdLabel())
+                    .notes(notes)
+                    .itemNumber(definition.getItemNumber())
+                    .build();
+        }
+
+        private static BigDecimal sum(BigDecimal[] values, int[] slots, boolean[] optional) {
+            BigDecimal total = BigDecimal.ZERO;
+            for (int i = 0; i < slots.length; i++) {
+                BigDecimal value = values[slots[i]];
+                if (value == null) {
+                    if (!optional[i]) {
+                        return null;
+                    }
+                    continue;
+                }
+                total = total.add(value);
+            }
+            return total;
+        }
+
+        private static String format(String pattern, BigDecimal value, BigDecimal left, BigDecimal right) {
+            if (pattern == null) {
+                return value != null ? value.toPlainString() : null;
+            }
+            return String.format(pattern, value, left, right);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * @file RiskRuleEngine.java
+ * @description 설정 파일에 정의된 재무 위험 규칙을 로드하여 평가 계획으로 컴파일하고 실행하는 엔진입니다.
+ *              규칙 파일이 변경되면 주기적으로 감지해 다시 컴파일하며(hot reload),
+ *              잘못된 정의가 들어오면 기존 계획을 유지합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.dart.service.FinancialAccountNormalizer;
+import com.example.javaversion.database.entity.FinancialStatementData;
+import com.example.javaversion.partner.dto.FinancialRiskAssessmentDto;
+import com.example.javaversion.partner.model.RiskRuleDefinition;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RiskRuleEngine {
+
+    private final ObjectMapper objectMapper;
+    private final ResourceLoader resourceLoader;
+    private final FinancialAccountNormalizer financialAccountNormalizer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${partner.risk.rules.location:classpath:risk-rules.json}")
+    private String rulesLocation;
+
+    private volatile RiskEvaluationPlan plan;
+    private volatile long lastModified = -1L;
+
+    @PostConstruct
+    public void init() {
+        reload();
+        if (plan == null) {
+            throw new IllegalStateException("재무 위험 규칙을 로드하지 못했습니다: " + rulesLocation);
+        }
+    }
+
+    /**
+     * 현재 평가 계획으로 모든 규칙을 평가합니다.
+     */
+    public List<FinancialRiskAssessmentDto.NumberedRiskItemResult> evaluate(List<FinancialStatementData> items) {
+        return plan.evaluate(items);
+    }
+
+    /**
+     * 규칙 파일을 다시 읽어 평가 계획을 교체합니다. 실패 시 기존 계획을 유지합니다.
+     *
+     * @return 적용 결과 요약
+     */
+    public synchronized Map<String, Object> reload() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("location", rulesLocation);
+        try {
+            long modified = lastModifiedOf(resource);
+            RiskEvaluationPlan compiled = compile(resource);
+            RiskEvaluationPlan previous = plan;
+            plan = compiled;
+            lastModified = modified;
+            log.info("재무 위험 규칙 로드 완료 - location: {}, version: {}, 규칙 수: {}",
+                    rulesLocation, compiled.getVersion(), compiled.getRuleCount());
+            if (previous != null) {
+                // 삭제된 규칙의 규칙별 타이머는 더 이상 기록되지 않으므로 레지스트리에서 제거
+                int removedTimers = previous.removeTimersNotIn(compiled, meterRegistry);
+                if (removedTimers > 0) {
+                    log.info("삭제된 재무 위험 규칙 타이머 제거 - {}개", removedTimers);
+                }
+            }
+            summary.put("reloaded", true);
+        } catch (Exception e) {
+            log.error("재무 위험 규칙 로드 실패, 기존 규칙을 유지합니다 - location: {}", rulesLocation, e);
+            summary.put("reloaded", false);
+            summary.put("error", e.getMessage());
+        }
+        summary.putAll(describe());
+        return summary;
+    }
+
+    /**
+     * 현재 적용 중인 평가 계획 정보를 반환합니다.
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> info = new LinkedHashMap<>();
+        RiskEvaluationPlan current = plan;
+        if (current != null) {
+            info.put("version", current.getVersion());
+            info.put("compiledAt", current.getCompiledAt().toString());
+            info.put("rules", current.getRuleIds());
+        }
+        return info;
+    }
+
+    /**
+     * 규칙 파일의 수정 시각을 주기적으로 확인하여 변경된 경우 다시 컴파일합니다.
+     */
+    @Scheduled(fixedDelayString = "${partner.risk.rules.reload-interval-ms:60000}",
+            initialDelayString = "${partner.risk.rules.reload-interval-ms:60000}")
+    public void reloadIfModified() {
+        Resource resource = resourceLoader.getResource(rulesLocation);
+        long modified;
+        try {
+            modified = lastModifiedOf(resource);
+        } catch (IOException e) {
+            log.debug("재무 위험 규칙 파일 수정 시각 확인 실패 - location: {}", rulesLocation, e);
+            return;
+        }
+        if (modified > 0 && modified != lastModified) {
+            log.info("재무 위험 규칙 파일 변경 감지 - location: {}", rulesLocation);
+            reload();
+        }
+    }
+
+    private RiskEvaluationPlan compile(Resource resource) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            JsonNode root = objectMapper.readTree(inputStream);
+            String version = root.path("version").asText("unknown");
+            List<RiskRuleDefinition> definitions = objectMapper.convertValue(
+                    root.path("rules"), new TypeReference<List<RiskRuleDefinition>>() {});
+            return RiskEvaluationPlan.compile(version, definitions, financialAccountNormalizer, meterRegistry);
+        }
+    }
+
+    private long lastModifiedOf(Resource resource) throws IOException {
+        return resource.isFile() ? resource.lastModified() : 0L;
+    }
+}
@@ -0,0 +1,3 @@
+-- 회사 프로필 공시/재무제표 마지막 동기화 시각 컬럼 추가
+
+ALTER TABLE company_profiles ADD COLUMN IF NOT EXISTS last_synced_at TIMESTAMP(6);
@@ -0,0 +1,5 @@
+-- DART 조회 실패로 만든 임시 회사 프로필 표시 컬럼 추가
+
+ALTER TABLE company_profiles ADD COLUMN IF NOT EXISTS placeholder BOOLEAN DEFAULT FALSE NOT NULL;
+
+UPDATE company_profiles SET placeholder = TRUE WHERE corp_name LIKE '기본 회사명\_%';
@@ -0,0 +1,4 @@
+-- 아웃박스 릴레이가 발행 중인 이벤트를 표시하는 점유 만료 시각 컬럼 추가
+-- 릴레이는 행 잠금을 짧은 트랜잭션에서 점유 표시로 바꾸고, Kafka 응답은 트랜잭션 밖에서 기다림
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP(6);
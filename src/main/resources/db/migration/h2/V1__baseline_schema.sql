@@ -0,0 +1,107 @@
+-- 기존 엔티티 기준 초기 스키마
+-- ddl-auto: update 로 이미 생성된 데이터베이스에서도 안전하도록 IF NOT EXISTS 로 작성 (baseline-version 0 이후 적용)
+
+CREATE TABLE IF NOT EXISTS dart_corp_codes (
+    corp_code   VARCHAR(8)   NOT NULL,
+    corp_name   VARCHAR(255) NOT NULL,
+    stock_code  VARCHAR(6),
+    modify_date VARCHAR(255) NOT NULL,
+    corp_cls    VARCHAR(1),
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (corp_code)
+);
+
+CREATE TABLE IF NOT EXISTS company_profiles (
+    corp_code                     VARCHAR(8)   NOT NULL,
+    corp_name                     VARCHAR(255) NOT NULL,
+    corp_name_eng                 VARCHAR(255),
+    stock_code                    VARCHAR(6),
+    ceo_name                      VARCHAR(255),
+    corp_class                    VARCHAR(10),
+    business_number               VARCHAR(13),
+    corporate_registration_number VARCHAR(13),
+    address                       VARCHAR(500),
+    homepage_url                  VARCHAR(200),
+    ir_url                        VARCHAR(200),
+    phone_number                  VARCHAR(20),
+    fax_number                    VARCHAR(20),
+    industry                      VARCHAR(200),
+    establishment_date            VARCHAR(8),
+    accounting_month              VARCHAR(2),
+    created_at                    TIMESTAMP(6)  NOT NULL,
+    updated_at                    TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (corp_code)
+);
+
+CREATE TABLE IF NOT EXISTS disclosures (
+    receipt_no     VARCHAR(255)  NOT NULL,
+    corp_code      VARCHAR(8)    NOT NULL,
+    corp_name      VARCHAR(255)  NOT NULL,
+    stock_code     VARCHAR(6),
+    corp_class     VARCHAR(10),
+    report_name    VARCHAR(255)  NOT NULL,
+    submitter_name VARCHAR(255),
+    receipt_date   DATE          NOT NULL,
+    remark         VARCHAR(1000),
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (receipt_no),
+    CONSTRAINT fk_disclosures_corp_code FOREIGN KEY (corp_code) REFERENCES company_profiles (corp_code)
+);
+
+CREATE TABLE IF NOT EXISTS partner_companies (
+    id                  CHAR(36) NOT NULL,
+    member_id           VARCHAR(255) NOT NULL,
+    company_name        VARCHAR(255) NOT NULL,
+    corp_code           VARCHAR(8),
+    stock_code          VARCHAR(6),
+    contract_start_date DATE,
+    contract_end_date   DATE,
+    industry            VARCHAR(100),
+    country             VARCHAR(50),
+    address             VARCHAR(255),
+    status              ENUM ('ACTIVE', 'INACTIVE') NOT NULL,
+    created_at          TIMESTAMP(6)  NOT NULL,
+    updated_at          TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS financial_statement_data (
+    id                BIGINT       NOT NULL,
+    corp_code         VARCHAR(8)   NOT NULL,
+    bsns_year         VARCHAR(4)   NOT NULL,
+    reprt_code        VARCHAR(5)   NOT NULL,
+    fs_div            VARCHAR(3),
+    sj_div            VARCHAR(10),
+    account_id        VARCHAR(255),
+    account_nm        VARCHAR(255) NOT NULL,
+    account_key       VARCHAR(50),
+    thstrm_nm         VARCHAR(50),
+    thstrm_amount     VARCHAR(50),
+    thstrm_add_amount VARCHAR(50),
+    frmtrm_nm         VARCHAR(50),
+    frmtrm_amount     VARCHAR(50),
+    frmtrmqnm         VARCHAR(50),  -- frmtrmQNm (연속 대문자는 물리 명명 전략에서 밑줄 없이 변환됨)
+    frmtrmqamount     VARCHAR(50),
+    frmtrm_add_amount VARCHAR(50),
+    bfefrmtrm_nm      VARCHAR(50),
+    bfefrmtrm_amount  VARCHAR(50),
+    currency          VARCHAR(10),
+    created_at        TIMESTAMP(6)  NOT NULL,
+    updated_at        TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS financial_statement_digests (
+    statement_key VARCHAR(30) NOT NULL,
+    corp_code     VARCHAR(8)  NOT NULL,
+    bsns_year     VARCHAR(4)  NOT NULL,
+    reprt_code    VARCHAR(5)  NOT NULL,
+    fs_div        VARCHAR(3)  NOT NULL,
+    content_hash  VARCHAR(64) NOT NULL,
+    item_count    INT         NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (statement_key)
+);
@@ -0,0 +1,4 @@
+-- 재무제표 구분(fs_div)과 표준 계정 키(account_key) 컬럼 추가
+
+ALTER TABLE financial_statement_data ADD COLUMN IF NOT EXISTS fs_div VARCHAR(3);
+ALTER TABLE financial_statement_data ADD COLUMN IF NOT EXISTS account_key VARCHAR(50);
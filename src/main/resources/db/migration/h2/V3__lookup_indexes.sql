@@ -0,0 +1,10 @@
+-- 조회용 보조 인덱스
+
+CREATE INDEX IF NOT EXISTS idx_partner_companies_corp_code ON partner_companies (corp_code);
+CREATE INDEX IF NOT EXISTS idx_partner_companies_stock_code ON partner_companies (stock_code);
+CREATE INDEX IF NOT EXISTS idx_partner_companies_member_id ON partner_companies (member_id);
+
+CREATE INDEX IF NOT EXISTS idx_disclosures_corp_receipt_date ON disclosures (corp_code, receipt_date);
+
+CREATE INDEX IF NOT EXISTS idx_fs_corp_year_reprt_div ON financial_statement_data (corp_code, bsns_year, reprt_code, fs_div);
+DROP INDEX IF EXISTS idx_fs_corp_year_reprt;
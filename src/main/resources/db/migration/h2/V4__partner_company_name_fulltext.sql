@@ -0,0 +1,2 @@
+-- 파트너 회사명 FULLTEXT 인덱스는 MySQL 전용 (H2 에서는 partner.search.mode=LIKE 로 사용)
+-- 버전 번호를 MySQL 스크립트와 맞추기 위한 빈 마이그레이션
@@ -0,0 +1,5 @@
+-- 파트너 회사 목록 키셋 페이지네이션용 인덱스 (ORDER BY created_at DESC, id DESC)
+
+CREATE INDEX IF NOT EXISTS idx_partner_companies_member_status_created ON partner_companies (member_id, status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_partner_companies_status_created ON partner_companies (status, created_at, id);
+DROP INDEX IF EXISTS idx_partner_companies_member_id;
@@ -0,0 +1,21 @@
+-- 회원별 파트너 회사 수(상태별) 집계 테이블
+-- 증감 쿼리가 INSERT ... ON DUPLICATE KEY UPDATE 를 사용하므로 H2 는 MODE=MySQL 로 실행해야 함
+
+CREATE TABLE IF NOT EXISTS partner_company_counters (
+    member_id      VARCHAR(255) NOT NULL,
+    active_count   BIGINT       DEFAULT 0 NOT NULL,
+    inactive_count BIGINT       DEFAULT 0 NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (member_id)
+);
+
+-- 기존 데이터로 초기 집계
+DELETE FROM partner_company_counters;
+
+INSERT INTO partner_company_counters (member_id, active_count, inactive_count, updated_at)
+SELECT member_id,
+       SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status = 'INACTIVE' THEN 1 ELSE 0 END),
+       CURRENT_TIMESTAMP(6)
+FROM partner_companies
+GROUP BY member_id;
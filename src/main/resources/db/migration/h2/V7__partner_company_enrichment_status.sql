@@ -0,0 +1,3 @@
+-- 파트너 회사 DART 정보 보강 상태 컬럼 추가
+
+ALTER TABLE partner_companies ADD COLUMN IF NOT EXISTS enrichment_status ENUM ('PENDING', 'COMPLETED', 'FAILED');
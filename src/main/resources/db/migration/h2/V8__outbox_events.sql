@@ -0,0 +1,16 @@
+-- Kafka 발행용 트랜잭션 아웃박스 테이블
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT        NOT NULL,
+    topic        VARCHAR(255)  NOT NULL,
+    message_key  VARCHAR(255),
+    payload_type VARCHAR(255)  NOT NULL,
+    payload      CLOB          NOT NULL,
+    attempts     INT           DEFAULT 0 NOT NULL,
+    last_error   VARCHAR(1000),
+    created_at   TIMESTAMP(6)  NOT NULL,
+    published_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_id ON outbox_events (published_at, id);
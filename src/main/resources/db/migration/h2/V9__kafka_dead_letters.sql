@@ -0,0 +1,17 @@
+-- DLT 에 도착한 Kafka 메시지 보관 테이블
+
+CREATE TABLE IF NOT EXISTS kafka_dead_letters (
+    id                BIGINT        NOT NULL,
+    original_topic    VARCHAR(255)  NOT NULL,
+    message_key       VARCHAR(255),
+    payload_type      VARCHAR(255),
+    payload           CLOB,
+    exception_class   VARCHAR(255),
+    exception_message VARCHAR(1000),
+    replay_count      INT           DEFAULT 0 NOT NULL,
+    replayed_at       TIMESTAMP(6),
+    created_at        TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_kafka_dead_letters_replayed_topic ON kafka_dead_letters (replayed_at, original_topic, id);
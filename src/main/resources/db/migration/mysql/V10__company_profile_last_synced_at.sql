@@ -0,0 +1,10 @@
+-- 회사 프로필 공시/재무제표 마지막 동기화 시각 컬럼 추가
+-- 파트너 회사 이벤트 처리 시 최근에 동기화된 회사는 DART 호출을 생략하는 기준으로 사용 (기존 데이터는 NULL = 동기화 필요)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'company_profiles' AND column_name = 'last_synced_at') = 0,
+              'ALTER TABLE company_profiles ADD COLUMN last_synced_at DATETIME(6), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
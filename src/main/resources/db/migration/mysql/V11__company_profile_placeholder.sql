@@ -0,0 +1,12 @@
+-- DART 조회 실패로 만든 임시 회사 프로필 표시 컬럼 추가
+-- 임시 프로필은 다음 파트너 회사 이벤트 처리 시 DART 를 다시 조회하여 채움 (기존 임시 프로필은 회사명 접두사로 표시)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'company_profiles' AND column_name = 'placeholder') = 0,
+              'ALTER TABLE company_profiles ADD COLUMN placeholder BOOLEAN NOT NULL DEFAULT FALSE, ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+UPDATE company_profiles SET placeholder = TRUE WHERE corp_name LIKE '기본 회사명\_%';
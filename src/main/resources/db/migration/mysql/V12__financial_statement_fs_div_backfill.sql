@@ -0,0 +1,4 @@
+-- fs_div 컬럼 추가(V2) 이전에 저장된 재무제표 행은 개별 재무제표(OFS)만 조회했으므로 OFS 로 채움
+-- 위험 분석의 fs_div 등치 조회에서 기존 행이 누락되지 않도록 함
+
+UPDATE financial_statement_data SET fs_div = 'OFS' WHERE fs_div IS NULL;
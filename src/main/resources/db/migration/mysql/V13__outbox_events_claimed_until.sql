@@ -0,0 +1,11 @@
+-- 아웃박스 릴레이가 발행 중인 이벤트를 표시하는 점유 만료 시각 컬럼 추가
+-- 릴레이는 행 잠금을 짧은 트랜잭션에서 점유 표시로 바꾸고, Kafka 응답은 트랜잭션 밖에서 기다림
+-- 점유가 만료된(발행 중 인스턴스가 종료된) 이벤트는 다른 릴레이가 다시 가져감
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'outbox_events' AND column_name = 'claimed_until') = 0,
+              'ALTER TABLE outbox_events ADD COLUMN claimed_until DATETIME(6) NULL, ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
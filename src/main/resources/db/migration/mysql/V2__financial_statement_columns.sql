@@ -0,0 +1,18 @@
+-- 재무제표 구분(fs_div)과 표준 계정 키(account_key) 컬럼 추가
+-- 해당 컬럼 도입 이전에 생성된 테이블에만 적용되며, 끝에 NULL 허용 컬럼을 추가하므로 테이블 잠금 없이 수행
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'financial_statement_data' AND column_name = 'fs_div') = 0,
+              'ALTER TABLE financial_statement_data ADD COLUMN fs_div VARCHAR(3), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'financial_statement_data' AND column_name = 'account_key') = 0,
+              'ALTER TABLE financial_statement_data ADD COLUMN account_key VARCHAR(50), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
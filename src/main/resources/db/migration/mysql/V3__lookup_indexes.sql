@@ -0,0 +1,55 @@
+-- 조회용 보조 인덱스
+-- MySQL 은 CREATE INDEX IF NOT EXISTS 를 지원하지 않으므로 information_schema 로 존재 여부를 확인한 뒤
+-- ALGORITHM = INPLACE, LOCK = NONE 으로 생성하여 인덱스 빌드 중에도 읽기/쓰기를 막지 않음
+
+-- 협력사: 회원별 목록, DART 고유번호/종목코드 조회
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'idx_partner_companies_corp_code') = 0,
+              'ALTER TABLE partner_companies ADD INDEX idx_partner_companies_corp_code (corp_code), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'idx_partner_companies_stock_code') = 0,
+              'ALTER TABLE partner_companies ADD INDEX idx_partner_companies_stock_code (stock_code), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'idx_partner_companies_member_id') = 0,
+              'ALTER TABLE partner_companies ADD INDEX idx_partner_companies_member_id (member_id), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 공시: 회사별 접수일 범위 조회 (외래 키 인덱스도 겸함)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'disclosures' AND index_name = 'idx_disclosures_corp_receipt_date') = 0,
+              'ALTER TABLE disclosures ADD INDEX idx_disclosures_corp_receipt_date (corp_code, receipt_date), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 재무제표: 위험 분석 조회 및 재무제표 교체(DELETE) 조건
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'financial_statement_data' AND index_name = 'idx_fs_corp_year_reprt_div') = 0,
+              'ALTER TABLE financial_statement_data ADD INDEX idx_fs_corp_year_reprt_div (corp_code, bsns_year, reprt_code, fs_div), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- ddl-auto 시절 생성된 3컬럼 인덱스는 위 인덱스의 접두사이므로 제거
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'financial_statement_data' AND index_name = 'idx_fs_corp_year_reprt') > 0,
+              'ALTER TABLE financial_statement_data DROP INDEX idx_fs_corp_year_reprt, ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
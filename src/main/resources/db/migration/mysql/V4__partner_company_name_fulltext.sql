@@ -0,0 +1,11 @@
+-- 파트너 회사명 FULLTEXT 인덱스 (ngram 파서, partner.search.mode=FULLTEXT 에서 사용)
+-- FULLTEXT 인덱스는 LOCK = NONE 을 지원하지 않으므로 빌드 중 쓰기만 대기하고 읽기는 허용(LOCK = SHARED)
+-- 최소 검색 길이는 서버의 ngram_token_size(기본 2)를 따르며, 더 짧은 검색어는 애플리케이션에서 LIKE 로 대체
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'ft_partner_companies_company_name') = 0,
+              'ALTER TABLE partner_companies ADD FULLTEXT INDEX ft_partner_companies_company_name (company_name) WITH PARSER ngram, ALGORITHM = INPLACE, LOCK = SHARED',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
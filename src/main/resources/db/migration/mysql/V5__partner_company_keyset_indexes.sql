@@ -0,0 +1,27 @@
+-- 파트너 회사 목록 키셋 페이지네이션용 인덱스 (ORDER BY created_at DESC, id DESC)
+-- 회원별 목록: (member_id, status, created_at, id), 전체 목록: (status, created_at, id)
+-- 기존 member_id 단일 인덱스는 새 인덱스의 접두사이므로 제거
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'idx_partner_companies_member_status_created') = 0,
+              'ALTER TABLE partner_companies ADD INDEX idx_partner_companies_member_status_created (member_id, status, created_at, id), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'idx_partner_companies_status_created') = 0,
+              'ALTER TABLE partner_companies ADD INDEX idx_partner_companies_status_created (status, created_at, id), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND index_name = 'idx_partner_companies_member_id') > 0,
+              'ALTER TABLE partner_companies DROP INDEX idx_partner_companies_member_id, ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,21 @@
+-- 회원별 파트너 회사 수(상태별) 집계 테이블
+-- 파트너 회사 생성/복원/삭제 트랜잭션 안에서 증감되며, 목록 API 의 전체 건수를 COUNT 쿼리 없이 제공
+
+CREATE TABLE IF NOT EXISTS partner_company_counters (
+    member_id      VARCHAR(255) NOT NULL,
+    active_count   BIGINT       NOT NULL DEFAULT 0,
+    inactive_count BIGINT       NOT NULL DEFAULT 0,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (member_id)
+) ENGINE = InnoDB;
+
+-- 기존 데이터로 초기 집계
+DELETE FROM partner_company_counters;
+
+INSERT INTO partner_company_counters (member_id, active_count, inactive_count, updated_at)
+SELECT member_id,
+       SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END),
+       SUM(CASE WHEN status = 'INACTIVE' THEN 1 ELSE 0 END),
+       CURRENT_TIMESTAMP(6)
+FROM partner_companies
+GROUP BY member_id;
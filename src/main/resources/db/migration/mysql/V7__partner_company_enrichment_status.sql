@@ -0,0 +1,10 @@
+-- 파트너 회사 DART 정보 보강 상태 컬럼 추가 (비동기 보강 모드에서 PENDING 으로 저장 후 Kafka 처리 시 갱신)
+-- 기존 데이터는 NULL (상태 추적 이전 데이터)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'partner_companies' AND column_name = 'enrichment_status') = 0,
+              'ALTER TABLE partner_companies ADD COLUMN enrichment_status ENUM(''PENDING'', ''COMPLETED'', ''FAILED''), ALGORITHM = INPLACE, LOCK = NONE',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,16 @@
+-- Kafka 발행용 트랜잭션 아웃박스 테이블
+-- 업무 데이터와 같은 트랜잭션에서 저장되고, 릴레이가 id 순서대로 발행한 뒤 published_at 을 기록
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT        NOT NULL,
+    topic        VARCHAR(255)  NOT NULL,
+    message_key  VARCHAR(255),
+    payload_type VARCHAR(255)  NOT NULL,
+    payload      LONGTEXT      NOT NULL,
+    attempts     INT           NOT NULL DEFAULT 0,
+    last_error   VARCHAR(1000),
+    created_at   DATETIME(6)   NOT NULL,
+    published_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_events_published_id (published_at, id)
+) ENGINE = InnoDB;
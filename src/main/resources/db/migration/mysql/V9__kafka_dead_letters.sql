@@ -0,0 +1,16 @@
+-- DLT 에 도착한 Kafka 메시지 보관 테이블 (원인 조회 및 원래 토픽으로 재발행)
+
+CREATE TABLE IF NOT EXISTS kafka_dead_letters (
+    id                BIGINT        NOT NULL,
+    original_topic    VARCHAR(255)  NOT NULL,
+    message_key       VARCHAR(255),
+    payload_type      VARCHAR(255),
+    payload           LONGTEXT,
+    exception_class   VARCHAR(255),
+    exception_message VARCHAR(1000),
+    replay_count      INT           NOT NULL DEFAULT 0,
+    replayed_at       DATETIME(6),
+    created_at        DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_kafka_dead_letters_replayed_topic (replayed_at, original_topic, id)
+) ENGINE = InnoDB;
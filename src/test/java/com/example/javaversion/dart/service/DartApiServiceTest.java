@@ -0,0 +1,82 @@
+/**
+ * @file DartApiServiceTest.java
+ * @description DartApiService 의 회사 정보 조회가 캐시 히트이면 캐시 값을 돌려주고,
+ *              캐시 미스이면 DART API 를 호출한 뒤 응답을 캐시에 저장하는지 검증합니다.
+ */
+package com.example.javaversion.dart.service;
+
+import com.example.javaversion.cache.service.CacheService;
+import com.example.javaversion.dart.dto.CompanyProfileResponse;
+import com.example.javaversion.database.repository.DartCorpCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DartApiServiceTest {
+
+    private static final String CACHE_NAME = "companyProfiles";
+    private static final String CORP_CODE = "00126380";
+
+    @Mock
+    private DartCorpCodeRepository dartCorpCodeRepository;
+    @Mock
+    private CacheService cacheService;
+    @Mock
+    private WebClientService webClientService;
+    @Mock
+    private XmlParserService xmlParserService;
+    @Mock
+    private ZipExtractorService zipExtractorService;
+
+    private DartApiService dartApiService;
+
+    @BeforeEach
+    void setUp() {
+        dartApiService = new DartApiService(dartCorpCodeRepository, cacheService, webClientService,
+                xmlParserService, zipExtractorService, Schedulers.immediate());
+    }
+
+    @Test
+    void fetchesCompanyProfileFromDartAndCachesItOnCacheMiss() {
+        CompanyProfileResponse fetched = profile("005930");
+        when(cacheService.get(CACHE_NAME, CORP_CODE)).thenReturn(null);
+        when(webClientService.getCompanyProfile(CORP_CODE)).thenReturn(Mono.just(fetched));
+
+        CompanyProfileResponse result = dartApiService.getCompanyProfile(CORP_CODE).block();
+
+        assertThat(result).isSameAs(fetched);
+        verify(cacheService).put(CACHE_NAME, CORP_CODE, fetched);
+    }
+
+    @Test
+    void returnsCachedCompanyProfileWithoutCallingDart() {
+        CompanyProfileResponse cached = profile("005930");
+        when(cacheService.get(CACHE_NAME, CORP_CODE)).thenReturn(cached);
+
+        CompanyProfileResponse result = dartApiService.getCompanyProfile(CORP_CODE).block();
+
+        assertThat(result).isSameAs(cached);
+        verify(webClientService, never()).getCompanyProfile(anyString());
+        verify(cacheService, never()).put(anyString(), any(), any());
+    }
+
+    private static CompanyProfileResponse profile(String stockCode) {
+        CompanyProfileResponse profile = new CompanyProfileResponse();
+        profile.setStatus("000");
+        profile.setCorpCode(CORP_CODE);
+        profile.setStockCode(stockCode);
+        return profile;
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * @file FinancialAccountNormalizerTest.java
+ * @description FinancialAccountNormalizer 의 표준 계정 ID 우선 매핑과 계정명 동의어 매핑 범위를 검증합니다.
+ */
+package com.example.javaversion.dart.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FinancialAccountNormalizerTest {
+
+    private final FinancialAccountNormalizer normalizer = new FinancialAccountNormalizer();
+
+    @Test
+    void mapsStandardAccountIds() {
+        assertThat(normalizer.normalize("IS", "ifrs-full_Revenue", "영업수익"))
+                .isEqualTo(FinancialAccountNormalizer.REVENUE);
+        assertThat(normalizer.normalize("BS", "ifrs_Assets", "자산총계"))
+                .isEqualTo(FinancialAccountNormalizer.TOTAL_ASSETS);
+    }
+
+    @Test
+    void doesNotFallBackToNameWhenStandardAccountIdIsPresent() {
+        // 다른 표준 계정의 계정명이 동의어와 같더라도 매핑하지 않음
+        assertThat(normalizer.normalize("IS", "ifrs-full_OtherIncome", "매출액")).isNull();
+    }
+
+    @Test
+    void fallsBackToNameForNonStandardOrMissingAccountIds() {
+        assertThat(normalizer.normalize("IS", "-표준계정코드 미사용-", "매출액"))
+                .isEqualTo(FinancialAccountNormalizer.REVENUE);
+        assertThat(normalizer.normalize("CIS", null, "영업이익(손실)"))
+                .isEqualTo(FinancialAccountNormalizer.OPERATING_INCOME);
+        assertThat(normalizer.normalize("BS", " ", "매출채권 및 기타채권"))
+                .isEqualTo(FinancialAccountNormalizer.TRADE_RECEIVABLES);
+    }
+
+    @Test
+    void appliesNameFallbackOnlyToTheStatementOfTheAccount() {
+        assertThat(normalizer.normalize("CF", "-표준계정코드 미사용-", "영업활동으로 인한 현금흐름"))
+                .isEqualTo(FinancialAccountNormalizer.OPERATING_CASH_FLOW);
+        // 현금흐름표의 매출채권(증감)이나 재무상태표의 영업활동현금흐름은 매핑하지 않음
+        assertThat(normalizer.normalize("CF", "-표준계정코드 미사용-", "매출채권")).isNull();
+        assertThat(normalizer.normalize("BS", null, "영업활동현금흐름")).isNull();
+        assertThat(normalizer.normalize("SCE", null, "자본금")).isNull();
+    }
+
+    @Test
+    void doesNotFallBackToNameWithoutStatementDivision() {
+        assertThat(normalizer.normalize(null, "-표준계정코드 미사용-", "매출액")).isNull();
+        assertThat(normalizer.normalize(null, null, "자산총계")).isNull();
+        assertThat(normalizer.normalize(null, "ifrs-full_Assets", "자산총계"))
+                .isEqualTo(FinancialAccountNormalizer.TOTAL_ASSETS);
+    }
+
+    @Test
+    void doesNotTreatGenericIncomeAsRevenue() {
+        assertThat(normalizer.normalize("IS", "-표준계정코드 미사용-", "수익")).isNull();
+        assertThat(normalizer.normalize("IS", "-표준계정코드 미사용-", "금융수익")).isNull();
+    }
+}
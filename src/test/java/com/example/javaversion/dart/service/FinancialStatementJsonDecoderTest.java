@@ -0,0 +1,168 @@
+/**
+ * @file FinancialStatementJsonDecoderTest.java
+ * @description FinancialStatementJsonDecoder 가 응답을 한 버퍼로 받을 때와 1~7바이트 조각으로 나뉘어 받을 때
+ *              (한글 계정명의 UTF-8 멀티바이트 문자가 조각 경계에서 잘리는 경우 포함) 모두
+ *              BUFFERED 방식(Jackson2JsonDecoder DTO 매핑)과 같은 결과를 내는지 검증합니다.
+ *              오류 상태 응답, 빈 목록, 빈 본문, 잘린 JSON 처리도 확인합니다.
+ */
+package com.example.javaversion.dart.service;
+
+import com.example.javaversion.dart.dto.FinancialStatementResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FinancialStatementJsonDecoderTest {
+
+    /** 스트리밍 디코더가 적재에 쓰지 않아 건너뛰는 항목 필드 */
+    private static final String[] SKIPPED_ITEM_FIELDS = {
+            "list.rceptNo", "list.reprtCode", "list.bsnsYear", "list.corpCode", "list.sjNm", "list.accountDetail", "list.ord"
+    };
+
+    private static final String PAYLOAD = """
+            {"status":"000","message":"정상","meta":{"source":["dart",{"v":1}]},"list":[
+            {"rcept_no":"20240312000736","reprt_code":"11011","bsns_year":"2023","corp_code":"00126380","sj_div":"BS","sj_nm":"재무상태표",
+             "account_id":"ifrs-full_CurrentAssets","account_nm":"유동자산","account_detail":"-","thstrm_nm":"제 55 기","thstrm_amount":"195936557000000",
+             "frmtrm_nm":"제 54 기","frmtrm_amount":"218470581000000","bfefrmtrm_nm":"제 53 기","bfefrmtrm_amount":"198215579000000","ord":"1","currency":"KRW"},
+            {"rcept_no":"20240312000736","reprt_code":"11011","bsns_year":"2023","corp_code":"00126380","sj_div":"IS","sj_nm":"손익계산서",
+             "account_id":"-표준계정코드 미사용-","account_nm":"매출총이익(손실)","thstrm_nm":"제 55 기","thstrm_amount":"56570600000000",
+             "thstrm_add_amount":null,"frmtrm_nm":"제 54 기","frmtrm_amount":"92467856000000","frmtrm_q_nm":"","frmtrm_q_amount":"",
+             "frmtrm_add_amount":"","ord":"7","currency":"KRW"},
+            {"rcept_no":"20240312000736","reprt_code":"11011","bsns_year":"2023","corp_code":"00126380","sj_div":"CF","sj_nm":"현금흐름표",
+             "account_id":"ifrs-full_CashFlowsFromUsedInOperatingActivities","account_nm":"영업활동 현금흐름 \\"연결\\" ✓","thstrm_nm":"제 55 기",
+             "thstrm_amount":"44137427000000","frmtrm_nm":"제 54 기","frmtrm_amount":"62181346000000","ord":"20","currency":"KRW"}
+            ]}
+            """;
+
+    private final FinancialStatementJsonDecoder decoder = new FinancialStatementJsonDecoder();
+    private final Jackson2JsonDecoder bufferedDecoder = new Jackson2JsonDecoder();
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    void decodesSingleBufferLikeBufferedPath() {
+        byte[] bytes = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+        FinancialStatementResponseDto streamed = decoder.decode(Flux.just(bufferFactory.wrap(bytes))).block();
+
+        assertThat(streamed.getList()).hasSize(3);
+        assertSameAsBuffered(streamed, bytes);
+    }
+
+    @Test
+    void decodesArbitrarySmallChunksLikeBufferedPath() {
+        byte[] bytes = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+
+        for (long seed = 0; seed < 20; seed++) {
+            FinancialStatementResponseDto streamed = decoder.decode(chunks(bytes, new Random(seed))).block();
+
+            assertSameAsBuffered(streamed, bytes);
+        }
+    }
+
+    @Test
+    void decodesKoreanAccountNameSplitInsideMultiByteCharacter() {
+        byte[] bytes = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        // "유동자산" 의 첫 글자(3바이트) 가운데에서 버퍼를 나눔
+        int nameStart = indexOf(bytes, "유동자산".getBytes(StandardCharsets.UTF_8));
+        int split = nameStart + 1;
+
+        FinancialStatementResponseDto streamed = decoder.decode(Flux.just(
+                bufferFactory.wrap(Arrays.copyOfRange(bytes, 0, split)),
+                bufferFactory.wrap(Arrays.copyOfRange(bytes, split, split + 1)),
+                bufferFactory.wrap(Arrays.copyOfRange(bytes, split + 1, bytes.length)))).block();
+
+        assertThat(streamed.getList().get(0).getAccountNm()).isEqualTo("유동자산");
+        assertThat(streamed.getList().get(2).getAccountNm()).isEqualTo("영업활동 현금흐름 \"연결\" ✓");
+        assertSameAsBuffered(streamed, bytes);
+    }
+
+    @Test
+    void decodesErrorStatusWithoutList() {
+        byte[] bytes = """
+                {"status":"013","message":"조회된 데이타가 없습니다."}""".getBytes(StandardCharsets.UTF_8);
+
+        FinancialStatementResponseDto streamed = decoder.decode(chunks(bytes, new Random(7))).block();
+
+        assertThat(streamed.getStatus()).isEqualTo("013");
+        assertThat(streamed.getMessage()).isEqualTo("조회된 데이타가 없습니다.");
+        assertThat(streamed.getList()).isNull();
+        assertSameAsBuffered(streamed, bytes);
+    }
+
+    @Test
+    void decodesEmptyList() {
+        byte[] bytes = """
+                {"status":"000","message":"정상","list":[]}""".getBytes(StandardCharsets.UTF_8);
+
+        FinancialStatementResponseDto streamed = decoder.decode(chunks(bytes, new Random(3))).block();
+
+        assertThat(streamed.getList()).isEmpty();
+        assertSameAsBuffered(streamed, bytes);
+    }
+
+    @Test
+    void completesEmptyForEmptyBody() {
+        assertThat(decoder.decode(Flux.empty()).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void failsOnTruncatedJson() {
+        byte[] bytes = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        assertThatThrownBy(() -> decoder.decode(chunks(truncated, new Random(1))).block())
+                .isInstanceOf(DecodingException.class);
+    }
+
+    private void assertSameAsBuffered(FinancialStatementResponseDto streamed, byte[] bytes) {
+        FinancialStatementResponseDto buffered = (FinancialStatementResponseDto) bufferedDecoder.decodeToMono(
+                Flux.just(bufferFactory.wrap(bytes)), ResolvableType.forClass(FinancialStatementResponseDto.class),
+                null, Map.of()).block();
+
+        assertThat(streamed)
+                .usingRecursiveComparison()
+                .ignoringFields(SKIPPED_ITEM_FIELDS)
+                .isEqualTo(buffered);
+    }
+
+    /**
+     * 본문을 1~7바이트 크기의 DataBuffer 조각으로 나눕니다.
+     */
+    private Flux<DataBuffer> chunks(byte[] bytes, Random random) {
+        List<DataBuffer> buffers = new ArrayList<>();
+        int offset = 0;
+        while (offset < bytes.length) {
+            int size = Math.min(1 + random.nextInt(7), bytes.length - offset);
+            buffers.add(bufferFactory.wrap(Arrays.copyOfRange(bytes, offset, offset + size)));
+            offset += size;
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        outer:
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (bytes[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalArgumentException("대상 바이트열을 찾을 수 없습니다.");
+    }
+}
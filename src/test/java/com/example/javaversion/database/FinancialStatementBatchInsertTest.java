@@ -0,0 +1,102 @@
+/**
+ * @file FinancialStatementBatchInsertTest.java
+ * @description 재무제표 항목 N건을 hibernate.jdbc.batch_size 사용/미사용으로 각각 저장하여
+ *              배치 사용 시 INSERT 문 준비 횟수가 배치 크기만큼 줄어드는지 확인합니다. (H2, Flyway 마이그레이션 스키마)
+ *              TSID 로 애플리케이션에서 id 를 발급하므로 IDENTITY 와 달리 Hibernate 가 INSERT 를 배치로 묶을 수 있습니다.
+ *              초당 저장 건수는 JMH 벤치마크(FinancialStatementBatchInsertBenchmark)로 측정합니다.
+ */
+package com.example.javaversion.database;
+
+import com.example.javaversion.database.entity.FinancialStatementData;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FinancialStatementBatchInsertTest {
+
+    /** 한 재무제표(회사·연도·보고서·구분)의 항목 수와 비슷한 트랜잭션 단위 */
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final int STATEMENTS = 10;
+    private static final int ROWS = ROWS_PER_STATEMENT * STATEMENTS;
+    private static final int BATCH_SIZE = 50;
+
+    @Test
+    void batchingGroupsStatementInserts() {
+        InsertRun unbatched = run("fs_batch_off", 0);
+        InsertRun batched = run("fs_batch_on", BATCH_SIZE);
+
+        assertThat(unbatched.inserted()).isEqualTo(ROWS);
+        assertThat(batched.inserted()).isEqualTo(ROWS);
+        assertThat(unbatched.preparedStatements()).isGreaterThanOrEqualTo(ROWS);
+        assertThat(batched.preparedStatements()).isLessThanOrEqualTo(ROWS / BATCH_SIZE + STATEMENTS);
+    }
+
+    private static InsertRun run(String databaseName, int batchSize) {
+        String url = "jdbc:h2:mem:" + databaseName + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .applySetting(AvailableSettings.GENERATE_STATISTICS, true)
+                .build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(FinancialStatementData.class)
+                .buildMetadata()
+                .buildSessionFactory()) {
+            insertStatements(sessionFactory, STATEMENTS);
+            Statistics statistics = sessionFactory.getStatistics();
+            return new InsertRun(statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+        }
+    }
+
+    private static void insertStatements(SessionFactory sessionFactory, int statements) {
+        for (int statement = 0; statement < statements; statement++) {
+            String corpCode = String.format("%08d", statement);
+            try (Session session = sessionFactory.openSession()) {
+                session.beginTransaction();
+                for (int i = 0; i < ROWS_PER_STATEMENT; i++) {
+                    session.persist(item(corpCode, i));
+                }
+                session.getTransaction().commit();
+            }
+        }
+    }
+
+    private static FinancialStatementData item(String corpCode, int index) {
+        return FinancialStatementData.builder()
+                .corpCode(corpCode)
+                .bsnsYear("2023")
+                .reprtCode("11011")
+                .fsDiv("OFS")
+                .sjDiv(index % 2 == 0 ? "BS" : "IS")
+                .accountId("ifrs-full_Account" + index)
+                .accountNm("계정" + index)
+                .thstrmNm("제 50 기")
+                .thstrmAmount(String.valueOf(1_000_000L * (index + 1)))
+                .frmtrmNm("제 49 기")
+                .frmtrmAmount(String.valueOf(900_000L * (index + 1)))
+                .currency("KRW")
+                .build();
+    }
+
+    private record InsertRun(long inserted, long preparedStatements) {
+    }
+}
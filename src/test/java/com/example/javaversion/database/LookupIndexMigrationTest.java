@@ -0,0 +1,100 @@
+/**
+ * @file LookupIndexMigrationTest.java
+ * @description H2 Flyway 마이그레이션(db/migration/h2)을 처음부터 적용한 뒤, 재무제표·공시 조회가
+ *              V3 복합 인덱스(idx_fs_corp_year_reprt_div, idx_disclosures_corp_receipt_date)를 사용하는지 EXPLAIN 으로 확인합니다.
+ */
+package com.example.javaversion.database;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LookupIndexMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:lookup_index_migration;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        MigrateResult result = Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .load()
+                .migrate();
+        assertThat(result.success).isTrue();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            // 여러 회사·연도·구분에 걸친 행을 넣어 corp_code 단일 조건보다 복합 조건의 선택도가 높도록 함
+            statement.execute("""
+                    INSERT INTO company_profiles (corp_code, corp_name, created_at, updated_at)
+                    SELECT LPAD(CAST(X AS VARCHAR), 8, '0'), CONCAT('회사', X), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                    FROM SYSTEM_RANGE(1, 50)""");
+            statement.execute("""
+                    INSERT INTO disclosures (receipt_no, corp_code, corp_name, report_name, receipt_date, created_at, updated_at)
+                    SELECT CONCAT('R', X), LPAD(CAST(MOD(X, 50) + 1 AS VARCHAR), 8, '0'), '회사', '사업보고서',
+                           DATEADD('DAY', -MOD(X, 730), DATE '2024-12-31'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                    FROM SYSTEM_RANGE(1, 5000)""");
+            statement.execute("""
+                    INSERT INTO financial_statement_data (id, corp_code, bsns_year, reprt_code, fs_div, account_nm, created_at, updated_at)
+                    SELECT X, LPAD(CAST(MOD(X, 50) + 1 AS VARCHAR), 8, '0'), CAST(2015 + MOD(X / 50, 10) AS VARCHAR),
+                           CASE WHEN MOD(X / 500, 2) = 0 THEN '11011' ELSE '11012' END,
+                           CASE WHEN MOD(X / 1000, 2) = 0 THEN 'OFS' ELSE 'CFS' END,
+                           '매출액', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                    FROM SYSTEM_RANGE(1, 5000)""");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            }
+            connection.close();
+        }
+    }
+
+    @Test
+    void financialStatementLookupUsesCompositeIndex() throws SQLException {
+        // FinancialStatementDataRepository.findByCorpCodeAndBsnsYearAndReprtCodeAndFsDiv
+        String plan = explain("""
+                SELECT * FROM financial_statement_data
+                WHERE corp_code = '00000001' AND bsns_year = '2023' AND reprt_code = '11011' AND fs_div = 'OFS'""");
+
+        assertThat(plan).containsIgnoringCase("idx_fs_corp_year_reprt_div");
+    }
+
+    @Test
+    void disclosureLookupUsesCompositeIndex() throws SQLException {
+        // DisclosureRepository.findByCompanyProfile_CorpCodeAndReceiptDateBetween
+        String plan = explain("""
+                SELECT * FROM disclosures
+                WHERE corp_code = '00000001' AND receipt_date BETWEEN DATE '2024-01-01' AND DATE '2024-06-30'""");
+
+        assertThat(plan).containsIgnoringCase("idx_disclosures_corp_receipt_date");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * @file SmileOrJsonSerdeTest.java
+ * @description SmileOrJsonSerializer/SmileOrJsonDeserializer 의 Smile 왕복 변환과 JSON 대체 경로를 검증합니다.
+ */
+package com.example.javaversion.kafka.serde;
+
+import com.example.javaversion.kafka.dto.NewsAnalysisRequest;
+import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmileOrJsonSerdeTest {
+
+    private static final String SMILE_TOPIC = "partner-company";
+    private static final String JSON_TOPIC = "partner-company-json";
+
+    private SmileOrJsonSerializer serializer;
+    private SmileOrJsonDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new SmileOrJsonSerializer(Set.of(SMILE_TOPIC));
+        serializer.configure(Map.of(), false);
+        deserializer = new SmileOrJsonDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Test
+    void roundTripsSupportedTypesAsSmileOnSmileTopics() {
+        PartnerCompanyResponseDto partner = partnerCompany();
+        Headers headers = new RecordHeaders();
+
+        byte[] bytes = serializer.serialize(SMILE_TOPIC, headers, partner);
+
+        assertThat(SmileCodec.isSmile(bytes)).isTrue();
+        assertThat(new String(headers.lastHeader(SmileCodec.TYPE_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo(PartnerCompanyResponseDto.class.getName());
+        assertThat(deserializer.deserialize(SMILE_TOPIC, headers, bytes)).isEqualTo(partner);
+    }
+
+    @Test
+    void roundTripsNewsAnalysisRequestAsSmile() {
+        NewsAnalysisRequest request = NewsAnalysisRequest.builder()
+                .keyword("주식회사 협력업체")
+                .periods(List.of("1w", "1m"))
+                .sources(List.of("naver"))
+                .partnerId("a1b2c3d4")
+                .corpCode("00123456")
+                .requestedAt("2024-05-16T10:00:00")
+                .build();
+        Headers headers = new RecordHeaders();
+
+        byte[] bytes = serializer.serialize(SMILE_TOPIC, headers, request);
+
+        assertThat(SmileCodec.isSmile(bytes)).isTrue();
+        assertThat(deserializer.deserialize(SMILE_TOPIC, headers, bytes)).isEqualTo(request);
+    }
+
+    @Test
+    void smileIsSmallerThanJsonForTheSameMessage() {
+        PartnerCompanyResponseDto partner = partnerCompany();
+
+        byte[] smile = serializer.serialize(SMILE_TOPIC, new RecordHeaders(), partner);
+        byte[] json = serializer.serialize(JSON_TOPIC, new RecordHeaders(), partner);
+
+        assertThat(smile.length).isLessThan(json.length);
+    }
+
+    @Test
+    void fallsBackToJsonOnTopicsNotSwitchedToSmile() {
+        PartnerCompanyResponseDto partner = partnerCompany();
+        Headers headers = new RecordHeaders();
+
+        byte[] bytes = serializer.serialize(JSON_TOPIC, headers, partner);
+
+        assertThat(SmileCodec.isSmile(bytes)).isFalse();
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+        assertThat(headers.lastHeader(SmileCodec.TYPE_HEADER)).isNull();
+        assertThat(deserializer.deserialize(JSON_TOPIC, headers, bytes)).isEqualTo(partner);
+    }
+
+    @Test
+    void fallsBackToJsonForUnsupportedTypesOnSmileTopics() {
+        Map<String, Object> payload = Map.of("corp_code", "00123456");
+        Headers headers = new RecordHeaders();
+
+        byte[] bytes = serializer.serialize(SMILE_TOPIC, headers, payload);
+
+        assertThat(SmileCodec.isSmile(bytes)).isFalse();
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).contains("\"corp_code\":\"00123456\"");
+    }
+
+    @Test
+    void passesRawBytesThrough() {
+        byte[] raw = {1, 2, 3};
+
+        assertThat(serializer.serialize(SMILE_TOPIC, new RecordHeaders(), raw)).isSameAs(raw);
+    }
+
+    @Test
+    void rejectsSmileMessagesWithoutTypeHeader() {
+        byte[] bytes = serializer.serialize(SMILE_TOPIC, new RecordHeaders(), partnerCompany());
+
+        assertThatThrownBy(() -> deserializer.deserialize(SMILE_TOPIC, new RecordHeaders(), bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void rejectsSmileMessagesWithUnknownTypeHeader() {
+        Headers headers = new RecordHeaders();
+        byte[] bytes = serializer.serialize(SMILE_TOPIC, headers, partnerCompany());
+        headers.remove(SmileCodec.TYPE_HEADER);
+        headers.add(SmileCodec.TYPE_HEADER, "java.lang.Runtime".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> deserializer.deserialize(SMILE_TOPIC, headers, bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private static PartnerCompanyResponseDto partnerCompany() {
+        return PartnerCompanyResponseDto.builder()
+                .id("a1b2c3d4-e5f6-7890-1234-567890abcdef")
+                .corpCode("00123456")
+                .corpName("주식회사 협력업체")
+                .stockCode("005930")
+                .contractStartDate(LocalDate.of(2023, 1, 1))
+                .modifyDate("20240516")
+                .status(PartnerCompanyStatus.ACTIVE)
+                .industry("제조업")
+                .country("대한민국")
+                .address("서울특별시 강남구")
+                .enrichmentStatus(PartnerEnrichmentStatus.COMPLETED)
+                .isRestored(Boolean.FALSE)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * @file KafkaConsumerServiceTest.java
+ * @description KafkaConsumerService 의 파트너 회사 이벤트 처리에서 마지막 동기화 시각(lastSyncedAt) 갱신 조건을 검증합니다.
+ *              공시/재무제표 조회와 저장이 모두 성공했을 때만 갱신하고, 일부가 실패하면 다음 이벤트에서 다시 조회하도록 그대로 둡니다.
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.dart.dto.DisclosureSearchResponse;
+import com.example.javaversion.dart.dto.FinancialStatementResponseDto;
+import com.example.javaversion.dart.service.DartApiService;
+import com.example.javaversion.dart.service.FinancialAccountNormalizer;
+import com.example.javaversion.database.entity.CompanyProfile;
+import com.example.javaversion.database.repository.CompanyProfileRepository;
+import com.example.javaversion.database.repository.DisclosureRepository;
+import com.example.javaversion.database.repository.PartnerCompanyRepository;
+import com.example.javaversion.partner.dto.PartnerCompanyResponseDto;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaConsumerServiceTest {
+
+    private static final String CORP_CODE = "00126380";
+    private static final String PARTNER_ID = "partner-1";
+
+    @Mock
+    private DartApiService dartApiService;
+    @Mock
+    private FinancialAccountNormalizer financialAccountNormalizer;
+    @Mock
+    private PartnerCompanyRepository partnerCompanyRepository;
+    @Mock
+    private CompanyProfileRepository companyProfileRepository;
+    @Mock
+    private DisclosureRepository disclosureRepository;
+    @Mock
+    private FinancialStatementRefreshService financialStatementRefreshService;
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+    @Mock
+    private DartDataIngestService dartDataIngestService;
+
+    private KafkaConsumerService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new KafkaConsumerService(new ObjectMapper(), dartApiService, financialAccountNormalizer,
+                partnerCompanyRepository, companyProfileRepository, disclosureRepository, financialStatementRefreshService,
+                kafkaProducerService, dartDataIngestService, new KafkaListenerMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(service, "partnerCompanyTopic", "partner-company");
+        ReflectionTestUtils.setField(service, "fsDivs", List.of("OFS"));
+        ReflectionTestUtils.setField(service, "fetchConcurrency", 2);
+        ReflectionTestUtils.setField(service, "syncFreshnessMinutes", 360L);
+
+        CompanyProfile profile = CompanyProfile.builder()
+                .corpCode(CORP_CODE)
+                .corpName("삼성전자")
+                .lastSyncedAt(LocalDateTime.now().minusDays(1))
+                .build();
+        when(companyProfileRepository.findById(CORP_CODE)).thenReturn(Optional.of(profile));
+        when(dartApiService.searchDisclosures(eq(CORP_CODE), anyString(), anyString()))
+                .thenReturn(Mono.just(new DisclosureSearchResponse()));
+    }
+
+    @Test
+    void keepsLastSyncedAtWhenFinancialStatementFetchFails() {
+        when(dartApiService.getFinancialStatement(eq(CORP_CODE), anyString(), anyString(), eq("OFS")))
+                .thenAnswer(invocation -> "11011".equals(invocation.getArgument(2))
+                        ? Mono.error(new IllegalStateException("DART 응답 변환 실패"))
+                        : Mono.just(statementResponse("013")));
+
+        service.consumePartnerCompany(partnerEvent());
+
+        verify(companyProfileRepository, never()).updateLastSyncedAt(any(), any());
+    }
+
+    @Test
+    void keepsLastSyncedAtWhenFinancialStatementResponseIsAnError() {
+        when(dartApiService.getFinancialStatement(eq(CORP_CODE), anyString(), anyString(), eq("OFS")))
+                .thenAnswer(invocation -> Mono.just(statementResponse("11012".equals(invocation.getArgument(2)) ? "100" : "013")));
+
+        service.consumePartnerCompany(partnerEvent());
+
+        verify(companyProfileRepository, never()).updateLastSyncedAt(any(), any());
+    }
+
+    @Test
+    void updatesLastSyncedAtWhenEveryStepSucceeds() {
+        when(dartApiService.getFinancialStatement(eq(CORP_CODE), anyString(), anyString(), eq("OFS")))
+                .thenReturn(Mono.just(statementResponse("013")));
+
+        service.consumePartnerCompany(partnerEvent());
+
+        verify(companyProfileRepository).updateLastSyncedAt(eq(CORP_CODE), any(LocalDateTime.class));
+    }
+
+    private static PartnerCompanyResponseDto partnerEvent() {
+        return PartnerCompanyResponseDto.builder()
+                .id(PARTNER_ID)
+                .corpCode(CORP_CODE)
+                .corpName("삼성전자")
+                .status(PartnerCompanyStatus.ACTIVE)
+                .build();
+    }
+
+    private static FinancialStatementResponseDto statementResponse(String status) {
+        FinancialStatementResponseDto response = new FinancialStatementResponseDto();
+        response.setStatus(status);
+        response.setMessage("013".equals(status) ? "조회된 데이타가 없습니다." : "필드의 부적절한 값입니다.");
+        return response;
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * @file OutboxRelayServiceTest.java
+ * @description OutboxRelayService 가 같은 키의 이벤트를 순서대로 발행하고, 앞 이벤트가 실패하면
+ *              같은 키의 남은 이벤트는 전송하지 않고 보류하는지 검증합니다. (다른 키의 이벤트는 그대로 발행)
+ */
+package com.example.javaversion.kafka.service;
+
+import com.example.javaversion.database.entity.OutboxEvent;
+import com.example.javaversion.database.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    private static final String TOPIC = "partner-company";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelayService relayService;
+
+    @BeforeEach
+    void setUp() {
+        relayService = new OutboxRelayService(outboxEventRepository, kafkaProducerService, new ObjectMapper(), transactionManager);
+        ReflectionTestUtils.setField(relayService, "relayEnabled", true);
+        ReflectionTestUtils.setField(relayService, "batchSize", 200);
+        ReflectionTestUtils.setField(relayService, "maxBatchesPerRun", 1);
+        ReflectionTestUtils.setField(relayService, "sendTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(relayService, "claimTimeoutSeconds", 30L);
+        ReflectionTestUtils.setField(relayService, "maxAttempts", 10);
+    }
+
+    @Test
+    void defersLaterEventsOfKeyAfterFirstFailure() {
+        OutboxEvent first = event(1L, "00000001", 1);
+        OutboxEvent second = event(2L, "00000001", 2);
+        OutboxEvent other = event(3L, "00000002", 3);
+        List<OutboxEvent> events = List.of(first, second, other);
+        when(outboxEventRepository.lockUnpublished(anyInt(), any(LocalDateTime.class), any())).thenReturn(events);
+        when(outboxEventRepository.findAllById(anyList())).thenReturn(events);
+        when(kafkaProducerService.send(eq(TOPIC), eq("00000001"), eq(Map.of("seq", 1))))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("브로커 연결 실패")));
+        when(kafkaProducerService.send(eq(TOPIC), eq("00000002"), eq(Map.of("seq", 3))))
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+
+        relayService.relay();
+
+        verify(kafkaProducerService, never()).send(TOPIC, "00000001", Map.of("seq", 2));
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).contains("브로커 연결 실패");
+        assertThat(first.getPublishedAt()).isNull();
+        assertThat(second.getAttempts()).isZero();
+        assertThat(second.getPublishedAt()).isNull();
+        assertThat(other.getPublishedAt()).isNotNull();
+        assertThat(events).allSatisfy(event -> assertThat(event.getClaimedUntil()).isNull());
+    }
+
+    @Test
+    void publishesEventsOfSameKeyInOrder() {
+        OutboxEvent first = event(1L, "00000001", 1);
+        OutboxEvent second = event(2L, "00000001", 2);
+        List<OutboxEvent> events = List.of(first, second);
+        when(outboxEventRepository.lockUnpublished(anyInt(), any(LocalDateTime.class), any())).thenReturn(events);
+        when(outboxEventRepository.findAllById(anyList())).thenReturn(events);
+        when(kafkaProducerService.send(eq(TOPIC), eq("00000001"), any()))
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+
+        relayService.relay();
+
+        InOrder order = inOrder(kafkaProducerService);
+        order.verify(kafkaProducerService).send(TOPIC, "00000001", Map.of("seq", 1));
+        order.verify(kafkaProducerService).send(TOPIC, "00000001", Map.of("seq", 2));
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getPublishedAt()).isNotNull();
+            assertThat(event.getClaimedUntil()).isNull();
+        });
+    }
+
+    private static OutboxEvent event(long id, String key, int seq) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic(TOPIC)
+                .messageKey(key)
+                .payloadType("java.util.LinkedHashMap")
+                .payload("{\"seq\":" + seq + "}")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SendResult<String, Object> sendResult() {
+        return mock(SendResult.class);
+    }
+}
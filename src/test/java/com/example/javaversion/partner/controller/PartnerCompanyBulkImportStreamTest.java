@@ -0,0 +1,124 @@
+/**
+ * @file PartnerCompanyBulkImportStreamTest.java
+ * @description 파트너사 일괄 등록 API 가 행별 처리 결과를 한 줄에 하나씩 NDJSON 으로 스트리밍하는지 검증합니다.
+ */
+package com.example.javaversion.partner.controller;
+
+import com.example.javaversion.kafka.service.KafkaProducerService;
+import com.example.javaversion.partner.dto.BulkImportResultDto;
+import com.example.javaversion.partner.dto.CreatePartnerCompanyDto;
+import com.example.javaversion.partner.model.BulkImportRowStatus;
+import com.example.javaversion.partner.service.PartnerApiClient;
+import com.example.javaversion.partner.service.PartnerCompanyApiService;
+import com.example.javaversion.partner.service.PartnerCompanyBulkImportService;
+import com.example.javaversion.partner.service.PartnerCompanyBulkImportService.ImportFormat;
+import com.example.javaversion.partner.service.PartnerCompanyBulkImportService.ImportRow;
+import com.example.javaversion.partner.service.PartnerCompanyCountService;
+import com.example.javaversion.partner.service.PartnerFinancialRiskService;
+import com.example.javaversion.partner.service.RiskRuleEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartnerCompanyBulkImportStreamTest {
+
+    private static final String MEMBER_ID = "member-1";
+
+    @Mock
+    private PartnerCompanyApiService partnerCompanyApiService;
+    @Mock
+    private PartnerApiClient partnerApiClient;
+    @Mock
+    private PartnerCompanyCountService partnerCompanyCountService;
+    @Mock
+    private PartnerCompanyBulkImportService partnerCompanyBulkImportService;
+    @Mock
+    private PartnerFinancialRiskService partnerFinancialRiskService;
+    @Mock
+    private RiskRuleEngine riskRuleEngine;
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PartnerCompanyApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new PartnerCompanyApiController(partnerCompanyApiService, partnerApiClient, partnerCompanyCountService,
+                partnerCompanyBulkImportService, partnerFinancialRiskService, riskRuleEngine, kafkaProducerService, objectMapper);
+    }
+
+    @Test
+    void streamsOneNdjsonLinePerResultInOrder() throws Exception {
+        String body = "companyName,corpCode,contractStartDate\n가나,00000001,2024-01-01\n가나,00000002,2024-01-01\n";
+        List<ImportRow> rows = List.of(
+                new ImportRow(2, CreatePartnerCompanyDto.builder().companyName("가나").corpCode("00000001").build(), null),
+                new ImportRow(3, CreatePartnerCompanyDto.builder().companyName("가나").corpCode("00000002").build(), null));
+        when(partnerCompanyBulkImportService.parse(ImportFormat.CSV, body)).thenReturn(rows);
+        doAnswer(invocation -> {
+            Consumer<BulkImportResultDto> sink = invocation.getArgument(2);
+            sink.accept(BulkImportResultDto.builder().line(2).companyName("가나").corpCode("00000001")
+                    .status(BulkImportRowStatus.CREATED).partnerCompanyId("id-1").build());
+            sink.accept(BulkImportResultDto.builder().line(3).companyName("가나").corpCode("00000002")
+                    .status(BulkImportRowStatus.DUPLICATE).message("파일 안에서 중복된 회사명입니다.").build());
+            return null;
+        }).when(partnerCompanyBulkImportService).importRows(eq(MEMBER_ID), eq(rows), any());
+
+        ResponseEntity<StreamingResponseBody> response =
+                controller.bulkImportPartnerCompanies(MEMBER_ID, "text/csv; charset=UTF-8", body);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/x-ndjson"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        String ndjson = output.toString(StandardCharsets.UTF_8);
+
+        assertThat(ndjson).endsWith("\n");
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode created = objectMapper.readTree(lines[0]);
+        assertThat(created.get("line").asInt()).isEqualTo(2);
+        assertThat(created.get("status").asText()).isEqualTo("CREATED");
+        assertThat(created.get("partnerCompanyId").asText()).isEqualTo("id-1");
+        assertThat(created.has("message")).isFalse();
+
+        JsonNode duplicate = objectMapper.readTree(lines[1]);
+        assertThat(duplicate.get("line").asInt()).isEqualTo(3);
+        assertThat(duplicate.get("status").asText()).isEqualTo("DUPLICATE");
+        assertThat(duplicate.has("partnerCompanyId")).isFalse();
+    }
+
+    @Test
+    void rejectsUnsupportedContentTypeBeforeStreaming() {
+        assertThatThrownBy(() -> controller.bulkImportPartnerCompanies(MEMBER_ID, "application/json", "[]"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+        verifyNoInteractions(partnerCompanyBulkImportService);
+    }
+}
@@ -0,0 +1,316 @@
+/**
+ * @file PartnerCompanyBulkImportServiceTest.java
+ * @description PartnerCompanyBulkImportService 의 CSV/NDJSON 파싱과 청크 등록(중복 검사, 주식 코드 보강,
+ *              회원별 개수 증감, 아웃박스 이벤트, 저장 실패 행 격리)을 검증합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.dart.service.DartApiService;
+import com.example.javaversion.database.entity.DartCorpCode;
+import com.example.javaversion.database.entity.PartnerCompany;
+import com.example.javaversion.database.repository.DartCorpCodeRepository;
+import com.example.javaversion.database.repository.PartnerCompanyRepository;
+import com.example.javaversion.kafka.service.OutboxService;
+import com.example.javaversion.partner.dto.BulkImportResultDto;
+import com.example.javaversion.partner.model.BulkImportRowStatus;
+import com.example.javaversion.partner.model.PartnerCompanyStatus;
+import com.example.javaversion.partner.model.PartnerEnrichmentStatus;
+import com.example.javaversion.partner.service.PartnerCompanyBulkImportService.ImportFormat;
+import com.example.javaversion.partner.service.PartnerCompanyBulkImportService.ImportRow;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartnerCompanyBulkImportServiceTest {
+
+    private static final String MEMBER_ID = "member-1";
+    private static final String PARTNER_COMPANY_TOPIC = "partner-company";
+    private static final String PARTNER_COMPANY_RESTORE_TOPIC = "partner-company-restore";
+    private static final String CSV_HEADER = "companyName,corpCode,contractStartDate,stockCode\n";
+
+    @Mock
+    private PartnerCompanyRepository partnerCompanyRepository;
+    @Mock
+    private DartCorpCodeRepository dartCorpCodeRepository;
+    @Mock
+    private PartnerCompanyApiService partnerCompanyApiService;
+    @Mock
+    private PartnerCompanyCountService partnerCompanyCountService;
+    @Mock
+    private DartApiService dartApiService;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PartnerCompanyBulkImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PartnerCompanyBulkImportService(partnerCompanyRepository, dartCorpCodeRepository,
+                partnerCompanyApiService, partnerCompanyCountService, dartApiService, outboxService, transactionManager,
+                JsonMapper.builder().findAndAddModules().build(),
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "partnerCompanyTopic", PARTNER_COMPANY_TOPIC);
+        ReflectionTestUtils.setField(service, "partnerCompanyRestoreTopic", PARTNER_COMPANY_RESTORE_TOPIC);
+        ReflectionTestUtils.setField(service, "maxRows", 100);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "dartConcurrency", 2);
+    }
+
+    // ---- 파싱 ----
+
+    @Test
+    void csvSupportsQuotedFieldsWithEscapedQuotesAndNewlines() {
+        String body = CSV_HEADER
+                + "\"주식회사 \"\"가나\"\"\",00000001,2024-01-01,\n"
+                + "\"여러 줄\r\n회사, 지점\",00000002,2024-01-02,000020\r\n"
+                + "\n"
+                + "다음회사,00000003,2024-01-03,";
+
+        List<ImportRow> rows = service.parse(ImportFormat.CSV, body);
+
+        assertThat(rows).extracting(ImportRow::line).containsExactly(2, 3, 6);
+        assertThat(rows).extracting(ImportRow::error).containsOnlyNulls();
+        assertThat(rows.get(0).dto().getCompanyName()).isEqualTo("주식회사 \"가나\"");
+        assertThat(rows.get(0).dto().getStockCode()).isNull();
+        assertThat(rows.get(1).dto().getCompanyName()).isEqualTo("여러 줄\r\n회사, 지점");
+        assertThat(rows.get(1).dto().getStockCode()).isEqualTo("000020");
+        assertThat(rows.get(2).dto().getContractStartDate()).isEqualTo(LocalDate.of(2024, 1, 3));
+    }
+
+    @Test
+    void csvKeepsRowErrorsOnTheOffendingRowOnly() {
+        String body = CSV_HEADER
+                + "정상회사,00000001,2024-01-01,\n"
+                + "날짜오류,00000002,2024/01/02,\n"
+                + "코드오류,123,2024-01-03,\n"
+                + "주식코드오류,00000004,2024-01-04,1234567\n"
+                + "\"닫히지 않은 회사,00000005,2024-01-05,";
+
+        List<ImportRow> rows = service.parse(ImportFormat.CSV, body);
+
+        assertThat(rows).hasSize(5);
+        assertThat(rows.get(0).error()).isNull();
+        assertThat(rows.get(1).error()).contains("계약 시작일");
+        assertThat(rows.get(2).error()).contains("8자리");
+        assertThat(rows.get(3).error()).contains("주식 코드");
+        assertThat(rows.get(4).line()).isEqualTo(6);
+        assertThat(rows.get(4).error()).contains("큰따옴표");
+    }
+
+    @Test
+    void csvRequiresHeaderColumns() {
+        assertThatThrownBy(() -> service.parse(ImportFormat.CSV, "companyName,stockCode\n회사,005930"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void ndjsonValidatesEachLine() {
+        String body = "{\"companyName\":\"정상회사\",\"corpCode\":\"00000001\",\"contractStartDate\":\"2024-01-01\"}\n"
+                + "{not json}\n"
+                + "{\"companyName\":\"코드누락\",\"contractStartDate\":\"2024-01-01\"}\n";
+
+        List<ImportRow> rows = service.parse(ImportFormat.NDJSON, body);
+
+        assertThat(rows).extracting(ImportRow::line).containsExactly(1, 2, 3);
+        assertThat(rows.get(0).error()).isNull();
+        assertThat(rows.get(0).dto().getContractStartDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(rows.get(1).error()).contains("JSON");
+        assertThat(rows.get(2).error()).contains("DART 기업 고유 코드");
+    }
+
+    @Test
+    void rejectsEmptyBodiesAndTooManyRows() {
+        ReflectionTestUtils.setField(service, "maxRows", 1);
+
+        assertThatThrownBy(() -> service.parse(ImportFormat.CSV, " \n"))
+                .isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> service.parse(ImportFormat.CSV,
+                CSV_HEADER + "회사1,00000001,2024-01-01,\n회사2,00000002,2024-01-01,"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    // ---- 등록 ----
+
+    @Test
+    void deduplicatesWithinFileAndAgainstExistingPartners() {
+        PartnerCompany activeExisting = existing("기존활성", PartnerCompanyStatus.ACTIVE, "member-2");
+        PartnerCompany inactiveExisting = existing("기존비활성", PartnerCompanyStatus.INACTIVE, "member-2");
+        when(partnerCompanyRepository.findAllByLowerCaseCompanyNameIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Collection<String> names = invocation.getArgument(0);
+                    return List.of(activeExisting, inactiveExisting).stream()
+                            .filter(partner -> names.contains(partner.getCompanyName().toLowerCase(Locale.ROOT)))
+                            .toList();
+                });
+        stubSaveAll();
+
+        // chunkSize=2: [가나, 다라] [가나(파일 중복), 기존활성] [기존비활성]
+        List<BulkImportResultDto> results = importCsv(CSV_HEADER
+                + "가나,00000001,2024-01-01,000010\n"
+                + "다라,00000002,2024-01-01,000020\n"
+                + "가나,00000003,2024-01-01,000030\n"
+                + "기존활성,00000004,2024-01-01,000040\n"
+                + "기존비활성,00000005,2024-01-01,000050\n");
+
+        assertThat(results).extracting(BulkImportResultDto::getStatus).containsExactly(
+                BulkImportRowStatus.CREATED, BulkImportRowStatus.CREATED, BulkImportRowStatus.DUPLICATE,
+                BulkImportRowStatus.DUPLICATE, BulkImportRowStatus.RESTORED);
+        assertThat(results).extracting(BulkImportResultDto::getLine).containsExactly(2, 3, 4, 5, 6);
+        assertThat(results.get(4).getPartnerCompanyId()).isEqualTo(inactiveExisting.getId());
+        assertThat(inactiveExisting.getMemberId()).isEqualTo(MEMBER_ID);
+        assertThat(inactiveExisting.getStatus()).isEqualTo(PartnerCompanyStatus.ACTIVE);
+
+        // 청크당 한 번의 저장과 개수 증감 (중복만 있는 청크는 저장하지 않음)
+        verify(partnerCompanyRepository, times(2)).saveAll(anyList());
+        verify(partnerCompanyCountService).recordAdded(MEMBER_ID, PartnerCompanyStatus.ACTIVE, 2L);
+        verify(partnerCompanyCountService).recordTransition(
+                "member-2", PartnerCompanyStatus.INACTIVE, MEMBER_ID, PartnerCompanyStatus.ACTIVE, 1L);
+
+        // 신규 등록은 파트너 회사 토픽, 보강이 끝난 복원은 복원 토픽에만 기록
+        verify(outboxService).enqueue(eq(PARTNER_COMPANY_TOPIC), eq("00000001"), any());
+        verify(outboxService).enqueue(eq(PARTNER_COMPANY_TOPIC), eq("00000002"), any());
+        verify(outboxService).enqueue(eq(PARTNER_COMPANY_RESTORE_TOPIC), eq(inactiveExisting.getId()), any());
+        verify(outboxService, times(3)).enqueue(anyString(), anyString(), any());
+    }
+
+    @Test
+    void enrichesStockCodesFromCorpCodeListBeforeCallingDart() {
+        when(partnerCompanyRepository.findAllByLowerCaseCompanyNameIn(anyCollection())).thenReturn(List.of());
+        when(dartCorpCodeRepository.findAllById(anyCollection())).thenReturn(List.of(
+                DartCorpCode.builder().corpCode("00000001").stockCode("000010").build()));
+        when(dartApiService.getCompanyProfile("00000002")).thenReturn(Mono.error(new IllegalStateException("DART 오류")));
+        ArgumentCaptor<List<PartnerCompany>> saved = stubSaveAll();
+
+        List<BulkImportResultDto> results = importCsv(CSV_HEADER
+                + "목록회사,00000001,2024-01-01,\n"
+                + "조회실패회사,00000002,2024-01-01,\n");
+
+        assertThat(results).extracting(BulkImportResultDto::getStatus)
+                .containsExactly(BulkImportRowStatus.CREATED, BulkImportRowStatus.CREATED);
+        assertThat(results.get(0).getStockCode()).isEqualTo("000010");
+        assertThat(saved.getValue()).extracting(PartnerCompany::getEnrichmentStatus)
+                .containsExactly(PartnerEnrichmentStatus.COMPLETED, PartnerEnrichmentStatus.PENDING);
+        verify(dartApiService, never()).getCompanyProfile("00000001");
+        verify(partnerCompanyApiService).mapToResponseDto(argThat(partner -> "목록회사".equals(partner.getCompanyName())), anyBoolean());
+    }
+
+    @Test
+    void failsOnlyTheRowThatCannotBeSaved() {
+        ReflectionTestUtils.setField(service, "chunkSize", 3);
+        when(partnerCompanyRepository.findAllByLowerCaseCompanyNameIn(anyCollection())).thenReturn(List.of());
+        when(partnerCompanyRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            // 청크 저장 중 ID 가 발급된 뒤 제약 위반으로 실패
+            List<PartnerCompany> entities = invocation.getArgument(0);
+            entities.forEach(PartnerCompanyBulkImportServiceTest::assignId);
+            throw new DataIntegrityViolationException("Duplicate entry");
+        });
+        List<String> idsOnRowSave = new ArrayList<>();
+        when(partnerCompanyRepository.save(any(PartnerCompany.class))).thenAnswer(invocation -> {
+            PartnerCompany partner = invocation.getArgument(0);
+            idsOnRowSave.add(partner.getId());
+            if ("실패회사".equals(partner.getCompanyName())) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            assignId(partner);
+            return partner;
+        });
+
+        List<BulkImportResultDto> results = importCsv(CSV_HEADER
+                + "성공회사1,00000001,2024-01-01,000010\n"
+                + "실패회사,00000002,2024-01-01,000020\n"
+                + "성공회사2,00000003,2024-01-01,000030\n");
+
+        assertThat(results).extracting(BulkImportResultDto::getStatus).containsExactly(
+                BulkImportRowStatus.CREATED, BulkImportRowStatus.FAILED, BulkImportRowStatus.CREATED);
+        assertThat(results.get(1).getPartnerCompanyId()).isNull();
+        assertThat(idsOnRowSave).containsOnlyNulls();
+
+        verify(partnerCompanyCountService, never()).recordAdded(anyString(), any(), eq(3L));
+        verify(partnerCompanyCountService, times(2)).recordAdded(MEMBER_ID, PartnerCompanyStatus.ACTIVE);
+        verify(outboxService).enqueue(eq(PARTNER_COMPANY_TOPIC), eq("00000001"), any());
+        verify(outboxService).enqueue(eq(PARTNER_COMPANY_TOPIC), eq("00000003"), any());
+        verify(outboxService, times(2)).enqueue(anyString(), anyString(), any());
+    }
+
+    @Test
+    void reportsInvalidRowsWithoutTouchingTheDatabase() {
+        List<BulkImportResultDto> results = importCsv(CSV_HEADER + "코드오류,123,2024-01-01,\n");
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.getStatus()).isEqualTo(BulkImportRowStatus.INVALID);
+            assertThat(result.getMessage()).contains("8자리");
+        });
+        verify(partnerCompanyRepository, never()).findAllByLowerCaseCompanyNameIn(anyCollection());
+        verify(partnerCompanyRepository, never()).saveAll(anyList());
+    }
+
+    private List<BulkImportResultDto> importCsv(String body) {
+        List<BulkImportResultDto> results = new ArrayList<>();
+        service.importRows(MEMBER_ID, service.parse(ImportFormat.CSV, body), results::add);
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<PartnerCompany>> stubSaveAll() {
+        ArgumentCaptor<List<PartnerCompany>> captor = ArgumentCaptor.forClass(List.class);
+        when(partnerCompanyRepository.saveAll(captor.capture())).thenAnswer(invocation -> {
+            List<PartnerCompany> entities = invocation.getArgument(0);
+            entities.forEach(PartnerCompanyBulkImportServiceTest::assignId);
+            return entities;
+        });
+        return captor;
+    }
+
+    private static void assignId(PartnerCompany partner) {
+        if (partner.getId() == null) {
+            partner.setId(UUID.randomUUID().toString());
+        }
+    }
+
+    private static PartnerCompany existing(String companyName, PartnerCompanyStatus status, String memberId) {
+        return PartnerCompany.builder()
+                .id(UUID.randomUUID().toString())
+                .memberId(memberId)
+                .companyName(companyName)
+                .corpCode("99999999")
+                .status(status)
+                .build();
+    }
+}
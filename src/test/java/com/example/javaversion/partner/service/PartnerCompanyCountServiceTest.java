@@ -0,0 +1,76 @@
+/**
+ * @file PartnerCompanyCountServiceTest.java
+ * @description PartnerCompanyCountService 가 캐시 미스 시 개수를 별도의 쓰기(REQUIRES_NEW, readOnly 아님) 트랜잭션에서 읽어
+ *              readOnly 목록 조회 중에도 주 DB 값을 캐시하는지, 캐시 히트이면 DB 를 읽지 않는지 검증합니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.cache.service.CacheService;
+import com.example.javaversion.database.entity.PartnerCompanyCounter;
+import com.example.javaversion.database.repository.PartnerCompanyCounterRepository;
+import com.example.javaversion.partner.dto.PartnerCompanyCountsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartnerCompanyCountServiceTest {
+
+    private static final String MEMBER_ID = "member-1";
+
+    @Mock
+    private PartnerCompanyCounterRepository partnerCompanyCounterRepository;
+    @Mock
+    private CacheService cacheService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PartnerCompanyCountService countService;
+
+    @BeforeEach
+    void setUp() {
+        countService = new PartnerCompanyCountService(partnerCompanyCounterRepository, cacheService, transactionManager);
+    }
+
+    @Test
+    void readsCountsOnPrimaryInNewWriteTransactionOnCacheMiss() {
+        when(partnerCompanyCounterRepository.findById(MEMBER_ID)).thenReturn(Optional.of(
+                PartnerCompanyCounter.builder().memberId(MEMBER_ID).activeCount(3L).inactiveCount(1L).build()));
+
+        PartnerCompanyCountsDto counts = countService.getCounts(MEMBER_ID);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        assertThat(definition.getValue().isReadOnly()).isFalse();
+        assertThat(counts.getActive()).isEqualTo(3L);
+        assertThat(counts.getTotal()).isEqualTo(4L);
+        verify(cacheService).put(PartnerCompanyCountService.CACHE_NAME, MEMBER_ID, counts);
+    }
+
+    @Test
+    void returnsCachedCountsWithoutReadingDatabase() {
+        PartnerCompanyCountsDto cached = PartnerCompanyCountsDto.builder()
+                .memberId(MEMBER_ID).active(2L).inactive(0L).total(2L).build();
+        when(cacheService.get(PartnerCompanyCountService.CACHE_NAME, MEMBER_ID)).thenReturn(cached);
+
+        assertThat(countService.getCounts(MEMBER_ID)).isSameAs(cached);
+        verifyNoInteractions(transactionManager, partnerCompanyCounterRepository);
+        verify(cacheService, never()).put(anyString(), any(), any());
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * @file RiskRuleEngineTest.java
+ * @description RiskRuleEngine 의 규칙 파일 다시 로드 시 규칙별 타이머 정리를 검증합니다.
+ *              삭제된 규칙의 타이머는 제거되고, 잘못된 규칙 파일은 기존 계획과 타이머를 그대로 둡니다.
+ */
+package com.example.javaversion.partner.service;
+
+import com.example.javaversion.dart.service.FinancialAccountNormalizer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiskRuleEngineTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path tempDir;
+
+    private Path rulesFile;
+    private ObjectNode rulesRoot;
+    private RiskRuleEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream inputStream = new ClassPathResource("risk-rules.json").getInputStream()) {
+            rulesRoot = (ObjectNode) objectMapper.readTree(inputStream);
+        }
+        rulesFile = tempDir.resolve("risk-rules.json");
+        writeRules();
+
+        engine = new RiskRuleEngine(objectMapper, new DefaultResourceLoader(), new FinancialAccountNormalizer(), meterRegistry);
+        ReflectionTestUtils.setField(engine, "rulesLocation", rulesFile.toUri().toString());
+        engine.init();
+    }
+
+    @Test
+    void removesTimersOfRulesDroppedOnReload() throws IOException {
+        List<String> ruleIds = ruleIds();
+        assertThat(timerRuleTags()).containsExactlyInAnyOrderElementsOf(ruleIds);
+
+        ArrayNode rules = (ArrayNode) rulesRoot.get("rules");
+        String droppedId = rules.get(rules.size() - 1).get("id").asText();
+        rules.remove(rules.size() - 1);
+        writeRules();
+
+        assertThat(engine.reload()).containsEntry("reloaded", true);
+        assertThat(timerRuleTags())
+                .doesNotContain(droppedId)
+                .containsExactlyInAnyOrderElementsOf(ruleIds.subList(0, ruleIds.size() - 1));
+    }
+
+    @Test
+    void keepsPlanAndTimersWhenReloadedRulesAreInvalid() throws IOException {
+        List<String> ruleIds = ruleIds();
+        ArrayNode rules = (ArrayNode) rulesRoot.get("rules");
+        rules.add(((ObjectNode) rules.get(0).deepCopy()).put("id", "new-rule"));
+        rules.add(rules.get(1).deepCopy()); // 중복 ID
+        writeRules();
+
+        assertThat(engine.reload()).containsEntry("reloaded", false);
+        assertThat(engine.describe().get("rules"))
+                .asInstanceOf(InstanceOfAssertFactories.list(String.class))
+                .containsExactlyInAnyOrderElementsOf(ruleIds);
+        assertThat(timerRuleTags()).containsExactlyInAnyOrderElementsOf(ruleIds);
+    }
+
+    private void writeRules() throws IOException {
+        Files.write(rulesFile, objectMapper.writeValueAsBytes(rulesRoot));
+    }
+
+    private List<String> ruleIds() {
+        List<String> ids = new ArrayList<>();
+        for (JsonNode rule : rulesRoot.get("rules")) {
+            ids.add(rule.get("id").asText());
+        }
+        return ids;
+    }
+
+    private List<String> timerRuleTags() {
+        return meterRegistry.find(RiskEvaluationPlan.RULE_TIMER_NAME).timers().stream()
+                .map(timer -> timer.getId().getTag("rule"))
+                .toList();
+    }
+}